@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableDoubleList;
+
+/**
+ * ObservableDoubleList default implementation.
+ */
+public final class ObservableDoubleListImpl extends ModifiableObservableListBase<Double>
+        implements ObservableDoubleList, RandomAccess {
+
+    private static final double[] INITIAL = new double[0];
+
+    private double[] array = INITIAL;
+    private int size = 0;
+
+    /**
+     * Creates empty observable double list
+     */
+    public ObservableDoubleListImpl() {
+    }
+
+    /**
+     * Creates observable double list with copy of given initial values
+     * @param elements initial values to copy to observable double list
+     */
+    public ObservableDoubleListImpl(double... elements) {
+        array = elements.clone();
+        size = elements.length;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, Double element) {
+        insert(index, element);
+    }
+
+    @Override
+    protected Double doSet(int index, Double element) {
+        double old = getDouble(index);
+        array[index] = element;
+        return old;
+    }
+
+    @Override
+    protected Double doRemove(int index) {
+        return delete(index);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<Double> removed = hasListeners() ? boxed(fromIndex, toIndex) : null;
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+        if (removed != null) {
+            beginChange();
+            nextRemove(fromIndex, removed);
+            endChange();
+        }
+    }
+
+    @Override
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return array[index];
+    }
+
+    @Override
+    public double setDouble(int index, double value) {
+        double old = getDouble(index);
+        array[index] = value;
+        if (hasListeners()) {
+            beginChange();
+            nextSet(index, old);
+            endChange();
+        }
+        return old;
+    }
+
+    @Override
+    public void addDouble(double value) {
+        addDouble(size, value);
+    }
+
+    @Override
+    public void addDouble(int index, double value) {
+        insert(index, value);
+        if (hasListeners()) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+    }
+
+    @Override
+    public double removeDouble(int index) {
+        double old = delete(index);
+        if (hasListeners()) {
+            beginChange();
+            nextRemove(index, old);
+            endChange();
+        }
+        return old;
+    }
+
+    @Override
+    public void addAll(double[] src, int srcIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, src.length);
+        if (length == 0) {
+            return;
+        }
+        ensureCapacity(size + length);
+        System.arraycopy(src, srcIndex, array, size, length);
+        int from = size;
+        size += length;
+        modCount++;
+        if (hasListeners()) {
+            beginChange();
+            nextAdd(from, size);
+            endChange();
+        }
+    }
+
+    @Override
+    public void setAll(double[] src, int srcIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, src.length);
+        List<Double> removed = hasListeners() ? boxed(0, size) : null;
+        ensureCapacity(length);
+        System.arraycopy(src, srcIndex, array, 0, length);
+        size = length;
+        modCount++;
+        if (removed != null && (length > 0 || !removed.isEmpty())) {
+            beginChange();
+            nextReplace(0, length, removed);
+            endChange();
+        }
+    }
+
+    @Override
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, size);
+        System.arraycopy(array, srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (array.length < capacity) {
+            array = Arrays.copyOf(array, Math.max(capacity, array.length + (array.length >> 1)));
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        if (array.length != size) {
+            array = Arrays.copyOf(array, size);
+        }
+    }
+
+    private void insert(int index, double value) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+        modCount++;
+    }
+
+    private double delete(int index) {
+        double old = getDouble(index);
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    private List<Double> boxed(int from, int to) {
+        List<Double> values = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            values.add(array[i]);
+        }
+        return values;
+    }
+}
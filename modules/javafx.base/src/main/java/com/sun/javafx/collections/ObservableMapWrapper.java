@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,9 +29,13 @@ import javafx.beans.InvalidationListener;
 import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableMap;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -43,9 +47,16 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
     private ObservableKeySet keySet;
     private ObservableValues values;
 
+    private static final Object NO_VALUE = new Object();
+
     private MapListenerHelper<K, V> listenerHelper;
     private final Map<K, V> backingMap;
 
+    // The value of every key changed in the current batch before the batch
+    // started, or NO_VALUE if the key was not mapped
+    private int batchDepth;
+    private Map<K, Object> batchOriginals;
+
     public ObservableMapWrapper(Map<K, V> map) {
         this.backingMap = map;
     }
@@ -112,9 +123,64 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
     }
 
     protected void callObservers(MapChangeListener.Change<K,V> change) {
+        if (batchDepth > 0) {
+            K key = change.getKey();
+            if (!batchOriginals.containsKey(key)) {
+                batchOriginals.put(key, change.wasRemoved() ? change.getValueRemoved() : NO_VALUE);
+            }
+            return;
+        }
         MapListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Starts a batch of changes. Until the matching {@link #endBatch()},
+     * changes are not reported, and every key that changed is reported
+     * once when the batch ends. Batches can be nested.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            batchOriginals = new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Ends a batch of changes started with {@link #beginBatch()}. When the
+     * outermost batch ends, one change is reported for every key whose
+     * mapping differs from its mapping before the batch started.
+     */
+    @SuppressWarnings("unchecked")
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+        Map<K, Object> originals = batchOriginals;
+        batchOriginals = null;
+
+        List<SimpleChange> changes = new ArrayList<>(originals.size());
+        for (Map.Entry<K, Object> e : originals.entrySet()) {
+            K key = e.getKey();
+            boolean wasMapped = e.getValue() != NO_VALUE;
+            V old = wasMapped ? (V) e.getValue() : null;
+            if (backingMap.containsKey(key)) {
+                V value = backingMap.get(key);
+                if (!wasMapped) {
+                    changes.add(new SimpleChange(key, null, value, true, false));
+                } else if (!Objects.equals(old, value)) {
+                    changes.add(new SimpleChange(key, old, value, true, true));
+                }
+            } else if (wasMapped) {
+                changes.add(new SimpleChange(key, old, null, false, true));
+            }
+        }
+        for (SimpleChange change : changes) {
+            callObservers(change);
+        }
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         listenerHelper = MapListenerHelper.addListener(listenerHelper, listener);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,8 +29,12 @@ import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableSet;
 import javafx.collections.SetChangeListener;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -42,6 +46,11 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     private SetListenerHelper<E> listenerHelper;
 
+    // Whether every element changed in the current batch was in the set
+    // before the batch started
+    private int batchDepth;
+    private Map<E, Boolean> batchOriginals;
+
     /**
      * Creates new instance of ObservableSet that wraps
      * the particular set specified by the parameter set.
@@ -125,9 +134,53 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
     }
 
     private void callObservers(SetChangeListener.Change<E> change) {
+        if (batchDepth > 0) {
+            E element = change.wasAdded() ? change.getElementAdded() : change.getElementRemoved();
+            batchOriginals.putIfAbsent(element, change.wasRemoved());
+            return;
+        }
         SetListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Starts a batch of changes. Until the matching {@link #endBatch()},
+     * changes are not reported, and every element that was added or removed
+     * is reported once when the batch ends. Batches can be nested.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            batchOriginals = new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Ends a batch of changes started with {@link #beginBatch()}. When the
+     * outermost batch ends, one change is reported for every element that
+     * was added or removed, and is not back in its state from before the
+     * batch started.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+        Map<E, Boolean> originals = batchOriginals;
+        batchOriginals = null;
+
+        List<SetChangeListener.Change<E>> changes = new ArrayList<>(originals.size());
+        for (Map.Entry<E, Boolean> e : originals.entrySet()) {
+            boolean contained = backingSet.contains(e.getKey());
+            if (contained != e.getValue()) {
+                changes.add(contained ? new SimpleAddChange(e.getKey()) : new SimpleRemoveChange(e.getKey()));
+            }
+        }
+        for (SetChangeListener.Change<E> change : changes) {
+            callObservers(change);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * A list of nodes kept in a balanced binary tree (a treap), where every node
+ * knows the size of its subtree. This makes inserting and removing a node,
+ * getting the node at an index and getting the index of a node O(log n).
+ * <p>
+ * The nodes hold a value and keep their parent, so a value that knows its
+ * node can find its own index. A value can be in several trees at once
+ * through one node per tree.
+ *
+ * @param <T> the value type
+ */
+public final class RankedTree<T> {
+
+    /**
+     * A node of the tree.
+     *
+     * @param <T> the value type
+     */
+    public static final class Node<T> {
+        private final T value;
+        private Node<T> left;
+        private Node<T> right;
+        private Node<T> parent;
+        private int size = 1;
+        private int priority;
+
+        public Node(T value) {
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    private Node<T> root;
+
+    // xorshift state for the node priorities
+    private int seed = 0x2545F491;
+
+    /**
+     * Returns the number of nodes in the tree.
+     *
+     * @return the number of nodes
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Removes all the nodes.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the node at the given index.
+     *
+     * @param index the index
+     * @return the node at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Node<T> get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of a node of this tree.
+     *
+     * @param node the node
+     * @return the index of the node
+     */
+    public int indexOf(Node<T> node) {
+        int index = size(node.left);
+        while (node.parent != null) {
+            if (node == node.parent.right) {
+                index += size(node.parent.left) + 1;
+            }
+            node = node.parent;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the values of all the nodes in index order, in O(n).
+     *
+     * @return the values
+     */
+    public List<T> values() {
+        List<T> values = new ArrayList<>(size());
+        Node<T> node = root;
+        while (node != null && node.left != null) {
+            node = node.left;
+        }
+        while (node != null) {
+            values.add(node.value);
+            if (node.right != null) {
+                node = node.right;
+                while (node.left != null) {
+                    node = node.left;
+                }
+            } else {
+                while (node.parent != null && node == node.parent.right) {
+                    node = node.parent;
+                }
+                node = node.parent;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Finds the index at which a value belongs in a tree that is ordered by
+     * the given function. The function is called with the values along a path
+     * from the root, and returns a negative number if the value belongs
+     * before the given one, and zero or a positive number if it belongs after
+     * it.
+     *
+     * @param direction the function that compares the value with the given one
+     * @return the index at which the value belongs
+     */
+    public int search(ToIntFunction<? super T> direction) {
+        int index = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (direction.applyAsInt(node.value) < 0) {
+                node = node.left;
+            } else {
+                index += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Inserts a node that is in no tree at the given index.
+     *
+     * @param index the index
+     * @param node the node to insert
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void insert(int index, Node<T> node) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        node.left = node.right = node.parent = null;
+        node.size = 1;
+        node.priority = nextPriority();
+        if (root == null) {
+            root = node;
+            return;
+        }
+
+        Node<T> parent = root;
+        while (true) {
+            parent.size++;
+            int leftSize = size(parent.left);
+            if (index <= leftSize) {
+                if (parent.left == null) {
+                    parent.left = node;
+                    break;
+                }
+                parent = parent.left;
+            } else {
+                index -= leftSize + 1;
+                if (parent.right == null) {
+                    parent.right = node;
+                    break;
+                }
+                parent = parent.right;
+            }
+        }
+        node.parent = parent;
+
+        while (node.parent != null && node.priority > node.parent.priority) {
+            rotateUp(node);
+        }
+    }
+
+    /**
+     * Removes a node from this tree.
+     *
+     * @param node the node to remove
+     */
+    public void remove(Node<T> node) {
+        while (node.left != null && node.right != null) {
+            rotateUp(node.left.priority > node.right.priority ? node.left : node.right);
+        }
+
+        Node<T> child = node.left != null ? node.left : node.right;
+        Node<T> parent = node.parent;
+        replaceChild(parent, node, child);
+        for (Node<T> n = parent; n != null; n = n.parent) {
+            n.size--;
+        }
+        node.left = node.right = node.parent = null;
+        node.size = 1;
+    }
+
+    /**
+     * Replaces the content of this tree with the given nodes, which must be
+     * in no tree, in O(n).
+     *
+     * @param nodes the nodes in index order
+     * @param count the number of nodes to use from the array
+     */
+    public void setAll(Node<T>[] nodes, int count) {
+        root = build(nodes, 0, count, null);
+        if (count == 0) {
+            return;
+        }
+
+        // assign descending priorities in breadth first order, so that every
+        // node has a higher priority than its children
+        int[] priorities = new int[count];
+        for (int i = 0; i < count; i++) {
+            priorities[i] = nextPriority();
+        }
+        Arrays.sort(priorities);
+        @SuppressWarnings("unchecked")
+        Node<T>[] queue = new Node[count];
+        queue[0] = root;
+        for (int head = 0, tail = 1; head < count; head++) {
+            Node<T> n = queue[head];
+            n.priority = priorities[count - 1 - head];
+            if (n.left != null) {
+                queue[tail++] = n.left;
+            }
+            if (n.right != null) {
+                queue[tail++] = n.right;
+            }
+        }
+    }
+
+    private Node<T> build(Node<T>[] nodes, int from, int to, Node<T> parent) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Node<T> node = nodes[mid];
+        node.parent = parent;
+        node.left = build(nodes, from, mid, node);
+        node.right = build(nodes, mid + 1, to, node);
+        node.size = to - from;
+        return node;
+    }
+
+    private void rotateUp(Node<T> node) {
+        Node<T> parent = node.parent;
+        Node<T> grandParent = parent.parent;
+        if (node == parent.left) {
+            parent.left = node.right;
+            if (node.right != null) {
+                node.right.parent = parent;
+            }
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null) {
+                node.left.parent = parent;
+            }
+            node.left = parent;
+        }
+        parent.parent = node;
+        replaceChild(grandParent, parent, node);
+        parent.size = size(parent.left) + size(parent.right) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private void replaceChild(Node<T> parent, Node<T> oldChild, Node<T> newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+        if (newChild != null) {
+            newChild.parent = parent;
+        }
+    }
+
+    private int nextPriority() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        return seed = x;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
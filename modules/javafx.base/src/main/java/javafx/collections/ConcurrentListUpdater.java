@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Queues edits of an {@link ObservableList} from any thread and applies them
+ * on the thread that owns the list, in batches. This is meant for lists that
+ * are fed from background threads, for example the items of a
+ * {@code TableView} updated from a network thread.
+ * <p>
+ * Producers call {@link #add(Object)}, {@link #set(int, Object)} and the
+ * other edit methods from any thread. They never block: the edits go into a
+ * lock-free queue, and the first edit after the queue was drained schedules
+ * one drain on the delivery {@code Executor}, for example
+ * {@code Platform::runLater}. The drain applies all the queued edits in the
+ * order they were queued, as one batch, so the listeners of the list receive
+ * one {@link ListChangeListener.Change}. Consecutive {@code set} edits of the
+ * same index are coalesced, so only the last value is set.
+ * <p>
+ * The queue holds at most {@code capacity} edits. When it is full, the edit
+ * methods return {@code false} and the edit is dropped, which lets producers
+ * slow down or skip updates when the list's thread cannot keep up.
+ * <p>
+ * Indices of queued edits refer to the list as it will be once the edits
+ * queued before them have been applied. An edit with an invalid index throws
+ * an {@code IndexOutOfBoundsException} on the delivery thread; the edits
+ * applied before it are still reported.
+ *
+ * @param <E> the list element type
+ * @see FXCollections#batch(ObservableList, Runnable)
+ * @since 27
+ */
+public final class ConcurrentListUpdater<E> {
+
+    private static final int ADD = 0;
+    private static final int INSERT = 1;
+    private static final int SET = 2;
+    private static final int REMOVE = 3;
+    private static final int CLEAR = 4;
+
+    private final ObservableList<E> list;
+    private final Executor executor;
+    private final int capacity;
+
+    private final Queue<Edit<E>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a new ConcurrentListUpdater for the given list.
+     *
+     * @param list the list to edit
+     * @param executor the executor that runs the drains on the thread that
+     *        owns the list, for example {@code Platform::runLater}
+     * @param capacity the maximum number of queued edits
+     * @throws NullPointerException if {@code list} or {@code executor} is null
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public ConcurrentListUpdater(ObservableList<E> list, Executor executor, int capacity) {
+        this.list = Objects.requireNonNull(list, "list cannot be null");
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the list that this updater edits.
+     *
+     * @return the list
+     */
+    public ObservableList<E> getList() {
+        return list;
+    }
+
+    /**
+     * Gets the number of edits that are queued and not yet applied.
+     *
+     * @return the number of queued edits
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Queues the addition of an element at the end of the list.
+     *
+     * @param element the element to add
+     * @return {@code true} if the edit was queued, {@code false} if the queue is full
+     */
+    public boolean add(E element) {
+        return offer(new Edit<>(ADD, -1, element));
+    }
+
+    /**
+     * Queues the insertion of an element at the given index.
+     *
+     * @param index the index at which to insert the element
+     * @param element the element to insert
+     * @return {@code true} if the edit was queued, {@code false} if the queue is full
+     */
+    public boolean add(int index, E element) {
+        return offer(new Edit<>(INSERT, index, element));
+    }
+
+    /**
+     * Queues the replacement of the element at the given index.
+     *
+     * @param index the index of the element to replace
+     * @param element the new element
+     * @return {@code true} if the edit was queued, {@code false} if the queue is full
+     */
+    public boolean set(int index, E element) {
+        return offer(new Edit<>(SET, index, element));
+    }
+
+    /**
+     * Queues the removal of the element at the given index.
+     *
+     * @param index the index of the element to remove
+     * @return {@code true} if the edit was queued, {@code false} if the queue is full
+     */
+    public boolean remove(int index) {
+        return offer(new Edit<>(REMOVE, index, null));
+    }
+
+    /**
+     * Queues the removal of all the elements of the list.
+     *
+     * @return {@code true} if the edit was queued, {@code false} if the queue is full
+     */
+    public boolean clear() {
+        return offer(new Edit<>(CLEAR, -1, null));
+    }
+
+    private boolean offer(Edit<E> edit) {
+        int count;
+        do {
+            count = pending.get();
+            if (count >= capacity) {
+                return false;
+            }
+        } while (!pending.compareAndSet(count, count + 1));
+
+        queue.offer(edit);
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+        return true;
+    }
+
+    /*
+     * Applies all the queued edits as one batch. Called by the executor.
+     */
+    private void drain() {
+        // edits queued from now on schedule a new drain
+        drainScheduled.set(false);
+
+        List<Edit<E>> edits = new ArrayList<>();
+        for (Edit<E> edit; (edit = queue.poll()) != null; ) {
+            edits.add(edit);
+        }
+        pending.addAndGet(-edits.size());
+        if (edits.isEmpty()) {
+            return;
+        }
+
+        FXCollections.batch(list, () -> {
+            Map<Integer, E> sets = new LinkedHashMap<>();
+            for (Edit<E> edit : edits) {
+                if (edit.kind == SET) {
+                    sets.put(edit.index, edit.element);
+                    continue;
+                }
+                applySets(sets);
+                switch (edit.kind) {
+                    case ADD -> list.add(edit.element);
+                    case INSERT -> list.add(edit.index, edit.element);
+                    case REMOVE -> list.remove(edit.index);
+                    case CLEAR -> list.clear();
+                    default -> throw new AssertionError(edit.kind);
+                }
+            }
+            applySets(sets);
+        });
+    }
+
+    private void applySets(Map<Integer, E> sets) {
+        for (Map.Entry<Integer, E> e : sets.entrySet()) {
+            list.set(e.getKey(), e.getValue());
+        }
+        sets.clear();
+    }
+
+    private static final class Edit<E> {
+
+        private final int kind;
+        private final int index;
+        private final E element;
+
+        Edit(int kind, int index, E element) {
+            this.kind = kind;
+            this.index = index;
+            this.element = element;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 
@@ -53,8 +54,10 @@ import com.sun.javafx.collections.ObservableListWrapper;
 import com.sun.javafx.collections.ObservableMapWrapper;
 import com.sun.javafx.collections.ObservableSetWrapper;
 import com.sun.javafx.collections.MapAdapterChange;
+import com.sun.javafx.collections.ObservableDoubleListImpl;
 import com.sun.javafx.collections.ObservableFloatArrayImpl;
 import com.sun.javafx.collections.ObservableIntegerArrayImpl;
+import com.sun.javafx.collections.ObservableLongListImpl;
 import com.sun.javafx.collections.ObservableSequentialListWrapper;
 import com.sun.javafx.collections.SetAdapterChange;
 import com.sun.javafx.collections.SortableList;
@@ -307,6 +310,44 @@ public class FXCollections {
         return new ObservableFloatArrayImpl(array);
     }
 
+    /**
+     * Creates a new empty observable double list.
+     * @return a newly created ObservableDoubleList
+     * @since 27
+     */
+    public static ObservableDoubleList observableDoubleList() {
+        return new ObservableDoubleListImpl();
+    }
+
+    /**
+     * Creates a new observable double list with {@code values} added to it.
+     * @param values the values that will be in the new observable double list
+     * @return a newly created ObservableDoubleList
+     * @since 27
+     */
+    public static ObservableDoubleList observableDoubleList(double... values) {
+        return new ObservableDoubleListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable long list.
+     * @return a newly created ObservableLongList
+     * @since 27
+     */
+    public static ObservableLongList observableLongList() {
+        return new ObservableLongListImpl();
+    }
+
+    /**
+     * Creates a new observable long list with {@code values} added to it.
+     * @param values the values that will be in the new observable long list
+     * @return a newly created ObservableLongList
+     * @since 27
+     */
+    public static ObservableLongList observableLongList(long... values) {
+        return new ObservableLongListImpl(values);
+    }
+
     /**
      * Creates a new empty observable list that is backed by an array list.
      * @see #observableList(java.util.List)
@@ -698,6 +739,100 @@ public class FXCollections {
         }
     }
 
+    /**
+     * Runs the given action and reports all the changes it makes to the list
+     * as one {@link ListChangeListener.Change}. The sub-changes of that change
+     * are merged, so that, for example, adding and then removing an element
+     * is not reported at all.
+     * <p>
+     * This is supported by the lists created by {@code FXCollections} and by
+     * lists that extend {@link ObservableListBase}. For other lists, the action
+     * runs and every change is reported as it happens. If the action throws an
+     * exception, the changes it made until then are reported before the
+     * exception propagates.
+     *
+     * @param list the list the action changes
+     * @param action the action that changes the list
+     * @throws NullPointerException if {@code list} or {@code action} is null
+     * @since 27
+     */
+    public static void batch(ObservableList<?> list, Runnable action) {
+        Objects.requireNonNull(list, "list cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (list instanceof ObservableListBase<?> base) {
+            base.beginChange();
+            try {
+                action.run();
+            } finally {
+                base.endChange();
+            }
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs the given action and reports the changes it makes to the map when
+     * it completes. Every key whose mapping changed is reported once, from
+     * its value before the action to its value after the action; keys whose
+     * mapping is back to its value before the action are not reported.
+     * <p>
+     * This is supported by the maps created by {@code FXCollections}. For
+     * other maps, the action runs and every change is reported as it happens.
+     * If the action throws an exception, the changes it made until then are
+     * reported before the exception propagates.
+     *
+     * @param map the map the action changes
+     * @param action the action that changes the map
+     * @throws NullPointerException if {@code map} or {@code action} is null
+     * @since 27
+     */
+    public static void batch(ObservableMap<?, ?> map, Runnable action) {
+        Objects.requireNonNull(map, "map cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (map instanceof ObservableMapWrapper<?, ?> wrapper) {
+            wrapper.beginBatch();
+            try {
+                action.run();
+            } finally {
+                wrapper.endBatch();
+            }
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs the given action and reports the changes it makes to the set when
+     * it completes. Every element that was added or removed is reported once;
+     * elements that are back in their state before the action are not
+     * reported.
+     * <p>
+     * This is supported by the sets created by {@code FXCollections}. For
+     * other sets, the action runs and every change is reported as it happens.
+     * If the action throws an exception, the changes it made until then are
+     * reported before the exception propagates.
+     *
+     * @param set the set the action changes
+     * @param action the action that changes the set
+     * @throws NullPointerException if {@code set} or {@code action} is null
+     * @since 27
+     */
+    public static void batch(ObservableSet<?> set, Runnable action) {
+        Objects.requireNonNull(set, "set cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (set instanceof ObservableSetWrapper<?> wrapper) {
+            wrapper.beginBatch();
+            try {
+                action.run();
+            } finally {
+                wrapper.endBatch();
+            }
+        } else {
+            action.run();
+        }
+    }
+
     private static class EmptyObservableList<E> extends AbstractList<E> implements ObservableList<E> {
 
         private final ListIterator<E> iterator = new ListIterator<>() {
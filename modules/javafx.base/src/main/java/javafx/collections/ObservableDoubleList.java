@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+/**
+ * {@code ObservableDoubleList} is an {@link ObservableList} of {@code double}
+ * values that stores them in a growable {@code double[]} array instead of
+ * boxing them. Changes are reported to {@link ListChangeListener}s like for
+ * any other {@code ObservableList}.
+ * <p>
+ * The methods of this interface access the values without boxing them. The
+ * methods inherited from {@code List} box the values they return, and
+ * unbox the values they receive, so they do not accept {@code null}.
+ * The values removed by a change are only boxed if the list has listeners.
+ *
+ * @see FXCollections#observableDoubleList()
+ * @since 27
+ */
+public interface ObservableDoubleList extends ObservableList<Double> {
+
+    /**
+     * Gets a single value of the list without boxing it.
+     * @param index index of the value to get
+     * @return value at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * the list bounds
+     */
+    public double getDouble(int index);
+
+    /**
+     * Sets a single value of the list without boxing it.
+     * @param index index of the value to set
+     * @param value new value for the given index
+     * @return the previous value at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * the list bounds
+     */
+    public double setDouble(int index, double value);
+
+    /**
+     * Appends a value to the end of the list without boxing it.
+     * @param value value to append
+     */
+    public void addDouble(double value);
+
+    /**
+     * Inserts a value at the given position of the list without boxing it.
+     * @param index position at which to insert the value
+     * @param value value to insert
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * the list bounds
+     */
+    public void addDouble(int index, double value);
+
+    /**
+     * Removes the value at the given position of the list.
+     * @param index index of the value to remove
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * the list bounds
+     */
+    public double removeDouble(int index);
+
+    /**
+     * Appends a portion of given array to the end of this list, reported as
+     * one change. Capacity is increased if necessary to match the new size
+     * of the data.
+     * @param src source array
+     * @param srcIndex starting position in source array
+     * @param length length of portion to append
+     * @throws NullPointerException if {@code src} is null
+     * @throws IndexOutOfBoundsException if the portion is outside
+     * the bounds of {@code src}
+     */
+    public void addAll(double[] src, int srcIndex, int length);
+
+    /**
+     * Replaces the content of this list with a copy of a portion of a given
+     * array, reported as one change.
+     * Capacity is increased if necessary to match the new size of the data.
+     * @param src source array to copy
+     * @param srcIndex starting position in source array
+     * @param length length of a portion to copy
+     * @throws NullPointerException if {@code src} is null
+     * @throws IndexOutOfBoundsException if the portion is outside
+     * the bounds of {@code src}
+     */
+    public void setAll(double[] src, int srcIndex, int length);
+
+    /**
+     * Copies specified portion of the list into {@code dest} array. Throws
+     * the same exceptions as {@link System#arraycopy(java.lang.Object,
+     * int, java.lang.Object, int, int) System.arraycopy()} method.
+     * @param srcIndex starting position in the list
+     * @param dest destination array
+     * @param destIndex starting position in destination array
+     * @param length length of portion to copy
+     */
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length);
+
+    /**
+     * Returns a new array containing a copy of the values of the list.
+     * @return a double array containing the values of the list
+     */
+    public double[] toDoubleArray();
+
+    /**
+     * Grows the capacity of the list, if necessary, so that it can hold at
+     * least the given number of values without reallocation.
+     * @param capacity the minimum capacity
+     */
+    public void ensureCapacity(int capacity);
+
+    /**
+     * Shrinks the capacity of the list to its current size.
+     */
+    public void trimToSize();
+}
@@ -33,10 +33,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import javafx.beans.NamedArg;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
 
@@ -51,11 +55,17 @@ import javafx.collections.ObservableList;
  */
 public final class FilteredList<E> extends TransformationList<E, E>{
 
+    // Below this number of elements to test, parallel evaluation costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 8192;
+
     private int[] filtered;
     private int size;
 
     private SortHelper helper;
 
+    // True while the predicate is set by refinePredicate
+    private boolean narrowing;
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -100,7 +110,7 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             predicate = new ObjectPropertyBase<>() {
                 @Override
                 protected void invalidated() {
-                    refilter();
+                    refilter(narrowing);
                 }
 
                 @Override
@@ -126,6 +136,61 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Sets a predicate that is a narrowing of the current predicate: it
+     * matches no element that the current predicate does not match. Only
+     * the elements currently in this list are tested against the new
+     * predicate, which makes refining a filter, for example when typing
+     * additional characters of a search term, cheaper than
+     * {@link #setPredicate(Predicate)} on large lists.
+     * <p>
+     * If the new predicate matches elements that the current predicate does
+     * not match, those elements are not added to this list.
+     *
+     * @param predicate the new predicate, which is a narrowing of the current predicate
+     * @throws RuntimeException if the predicate property is bound
+     * @since 27
+     */
+    public final void refinePredicate(Predicate<? super E> predicate) {
+        narrowing = true;
+        try {
+            setPredicate(predicate);
+        } finally {
+            narrowing = false;
+        }
+    }
+
+    /**
+     * Whether the predicate is evaluated in parallel, on the common
+     * {@link java.util.concurrent.ForkJoinPool}, when it changes. This only
+     * applies to a source list that implements {@link RandomAccess}, and to
+     * changes that test enough elements to benefit from it. The elements are
+     * then tested in chunks on several threads, and the result is published
+     * as one change once all the chunks are done.
+     * <p>
+     * The predicate must be safe to call from any thread, and the source list
+     * must not be modified while the predicate changes.
+     *
+     * @defaultValue false
+     * @since 27
+     */
+    private BooleanProperty parallel;
+
+    public final BooleanProperty parallelProperty() {
+        if (parallel == null) {
+            parallel = new SimpleBooleanProperty(this, "parallel");
+        }
+        return parallel;
+    }
+
+    public final boolean isParallel() {
+        return parallel != null && parallel.get();
+    }
+
+    public final void setParallel(boolean value) {
+        parallelProperty().set(value);
+    }
+
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
             return getPredicate();
@@ -316,21 +381,43 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         }
     }
 
-    private void refilter() {
+    private void refilter(boolean narrowing) {
         ensureSize(getSource().size());
         List<E> removed = null;
         if (hasListeners()) {
             removed = new ArrayList<>(this);
         }
-        size = 0;
-        int i = 0;
         Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        List<? extends E> source = getSource();
+        boolean randomAccess = source instanceof RandomAccess;
+        int count = narrowing && randomAccess ? size : source.size();
+        if (randomAccess && count >= PARALLEL_THRESHOLD && isParallel()) {
+            // Candidates are either the elements currently in the list, or all the elements
+            int[] candidates = narrowing ? filtered : null;
+            int[] result = IntStream.range(0, count).parallel()
+                    .map(i -> candidates != null ? candidates[i] : i)
+                    .filter(i -> pred.test(source.get(i)))
+                    .toArray();
+            System.arraycopy(result, 0, filtered, 0, result.length);
+            size = result.length;
+        } else if (narrowing && randomAccess) {
+            int newSize = 0;
+            for (int i = 0; i < size; ++i) {
+                if (pred.test(source.get(filtered[i]))) {
+                    filtered[newSize++] = filtered[i];
+                }
+            }
+            size = newSize;
+        } else {
+            size = 0;
+            int i = 0;
+            for (Iterator<? extends E> it = source.iterator();it.hasNext(); ) {
+                final E next = it.next();
+                if (pred.test(next)) {
+                    filtered[size++] = i;
+                }
+                ++i;
             }
-            ++i;
         }
         if (hasListeners()) {
             fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
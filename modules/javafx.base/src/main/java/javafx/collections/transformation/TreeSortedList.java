@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections.transformation;
+
+import com.sun.javafx.collections.NonIterableChange.SimplePermutationChange;
+import com.sun.javafx.collections.RankedTree;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.beans.NamedArg;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ObjectPropertyBase;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+/**
+ * Wraps an ObservableList and sorts its content, like {@link SortedList},
+ * but keeps the elements in balanced trees rather than in arrays.
+ * All changes in the ObservableList are propagated immediately
+ * to the TreeSortedList.
+ * <p>
+ * Adding, removing or updating an element of the source list takes
+ * O(log n) time, and is reported as a change that only covers that element,
+ * or the range it moved across when an update changes its position.
+ * Equal elements are ordered by their source index, which takes O(log n)
+ * time to find, so adding or updating an element that is equal to many
+ * other elements according to the comparator takes up to
+ * O(log<sup>2</sup> n) time.
+ * {@link #get(int)}, {@link #getSourceIndex(int)} and
+ * {@link #getViewIndex(int)} take O(log n) time. This suits large
+ * lists with frequent changes to single elements, whereas
+ * {@code SortedList} gives constant time access but shifts its arrays on
+ * every change and sorts the whole list on every update.
+ * <p>
+ * Elements that are equal according to the comparator keep the order they
+ * have in the source list. Without a comparator, the TreeSortedList has the
+ * order of the source list.
+ *
+ * @param <E> the list element type
+ * @see SortedList
+ * @since 27
+ */
+public final class TreeSortedList<E> extends TransformationList<E, E> {
+
+    // The elements in source order, and in sorted order
+    private final RankedTree<Element<E>> sourceTree = new RankedTree<>();
+    private final RankedTree<Element<E>> sortedTree = new RankedTree<>();
+
+    // Never null, compares all the elements as equal without a comparator
+    private Comparator<? super E> elementComparator = (e1, e2) -> 0;
+
+    /**
+     * Creates a new TreeSortedList wrapped around the source list.
+     * The source list will be sorted using the comparator provided. If null is provided, the list
+     * stays unordered and is equal to the source list.
+     * @param source a list to wrap
+     * @param comparator a comparator to use or null for unordered List
+     */
+    public TreeSortedList(@NamedArg("source") ObservableList<? extends E> source, @NamedArg("comparator") Comparator<? super E> comparator) {
+        super(source);
+        List<Element<E>> elements = new ArrayList<>(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            elements.add(new Element<>(source.get(i)));
+        }
+        setAllToTrees(elements);
+        if (comparator != null) {
+            setComparator(comparator);
+        }
+    }
+
+    /**
+     * Constructs a new unordered TreeSortedList wrapper around the source list.
+     * @param source the source list
+     * @see #TreeSortedList(javafx.collections.ObservableList, java.util.Comparator)
+     */
+    public TreeSortedList(@NamedArg("source") ObservableList<? extends E> source) {
+        this(source, null);
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * The comparator that denotes the order of this TreeSortedList.
+     * Null for unordered TreeSortedList.
+     */
+    private ObjectProperty<Comparator<? super E>> comparator;
+
+    public final ObjectProperty<Comparator<? super E>> comparatorProperty() {
+        if (comparator == null) {
+            comparator = new ObjectPropertyBase<>() {
+
+                @Override
+                protected void invalidated() {
+                    Comparator<? super E> current = get();
+                    elementComparator = current != null ? current : (e1, e2) -> 0;
+                    int[] perm = sort();
+                    if (perm != null) {
+                        fireChange(new SimplePermutationChange<>(0, perm.length, perm, TreeSortedList.this));
+                    }
+                }
+
+                @Override
+                public Object getBean() {
+                    return TreeSortedList.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "comparator";
+                }
+
+            };
+        }
+        return comparator;
+    }
+
+    public final Comparator<? super E> getComparator() {
+        return comparator == null ? null : comparator.get();
+    }
+
+    public final void setComparator(Comparator<? super E> comparator) {
+        comparatorProperty().set(comparator);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param  index index of the element to return
+     * @return the element at the specified position in this list
+     */
+    @Override
+    public E get(int index) {
+        return sortedTree.get(index).getValue().e;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return sortedTree.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return sourceTree.indexOf(sortedTree.get(index).getValue().sourceNode);
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        Objects.checkIndex(index, size());
+        return sortedTree.indexOf(sourceTree.get(index).getValue().sortedNode);
+    }
+
+    /**
+     * Returns the number of elements of this list that are less than the
+     * given element according to the comparator, which is the index at
+     * which the element would be inserted. Without a comparator, this is 0.
+     * This takes O(log n) time.
+     *
+     * @param element the element
+     * @return the number of elements that are less than the element
+     */
+    public int rank(E element) {
+        return sortedTree.search(other -> elementComparator.compare(element, other.e) <= 0 ? -1 : 1);
+    }
+
+    private void setAllToTrees(List<Element<E>> elements) {
+        @SuppressWarnings("unchecked")
+        RankedTree.Node<Element<E>>[] nodes = new RankedTree.Node[elements.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = elements.get(i).sourceNode;
+        }
+        sourceTree.setAll(nodes, nodes.length);
+
+        // List.sort is stable, so equal elements stay in source order
+        elements.sort((e1, e2) -> elementComparator.compare(e1.e, e2.e));
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = elements.get(i).sortedNode;
+        }
+        sortedTree.setAll(nodes, nodes.length);
+    }
+
+    /*
+     * Sorts all the elements again, after the comparator or the order of the
+     * source list changed. Returns the permutation, or null if no element
+     * moved.
+     */
+    private int[] sort() {
+        List<Element<E>> elements = sortedTree.values();
+        for (int i = 0; i < elements.size(); i++) {
+            elements.get(i).viewIndex = i;
+        }
+        setAllToTrees(sourceTree.values());
+
+        List<Element<E>> sorted = sortedTree.values();
+        int[] perm = new int[sorted.size()];
+        boolean changed = false;
+        for (int i = 0; i < perm.length; i++) {
+            int oldIndex = sorted.get(i).viewIndex;
+            perm[oldIndex] = i;
+            changed |= oldIndex != i;
+        }
+        return changed ? perm : null;
+    }
+
+    private void permute(Change<? extends E> c) {
+        List<Element<E>> elements = sourceTree.values();
+        List<Element<E>> permuted = new ArrayList<>(elements);
+        for (int i = c.getFrom(); i < c.getTo(); i++) {
+            permuted.set(c.getPermutation(i), elements.get(i));
+        }
+
+        // the elements are now in the new source order, so sorting them
+        // again keeps equal elements in source order
+        @SuppressWarnings("unchecked")
+        RankedTree.Node<Element<E>>[] nodes = new RankedTree.Node[permuted.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = permuted.get(i).sourceNode;
+        }
+        sourceTree.setAll(nodes, nodes.length);
+        int[] perm = sort();
+        if (perm != null) {
+            nextPermutation(0, perm.length, perm);
+        }
+    }
+
+    private void update(Change<? extends E> c) {
+        for (int i = c.getFrom(), to = c.getTo(); i < to; i++) {
+            Element<E> element = sourceTree.get(i).getValue();
+            int oldIndex = sortedTree.indexOf(element.sortedNode);
+            sortedTree.remove(element.sortedNode);
+            int newIndex = findSortedIndex(element.e, i);
+            sortedTree.insert(newIndex, element.sortedNode);
+
+            if (newIndex != oldIndex) {
+                // only the elements between the old and new index move
+                int from = Math.min(oldIndex, newIndex);
+                int[] perm = new int[Math.abs(newIndex - oldIndex) + 1];
+                int shift = oldIndex < newIndex ? -1 : 1;
+                for (int j = 0; j < perm.length; j++) {
+                    perm[j] = from + j + shift;
+                }
+                perm[oldIndex - from] = newIndex;
+                nextPermutation(from, from + perm.length, perm);
+            }
+            nextUpdate(newIndex);
+        }
+    }
+
+    private void addRemove(Change<? extends E> c) {
+        if (c.getFrom() == 0 && c.getRemovedSize() == size()) {
+            List<E> removed = new ArrayList<>(this);
+            sourceTree.clear();
+            sortedTree.clear();
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+        } else {
+            for (int i = 0, sz = c.getRemovedSize(); i < sz; i++) {
+                Element<E> element = sourceTree.get(c.getFrom()).getValue();
+                int index = sortedTree.indexOf(element.sortedNode);
+                sourceTree.remove(element.sourceNode);
+                sortedTree.remove(element.sortedNode);
+                nextRemove(index, element.e);
+            }
+        }
+
+        if (size() == 0) {
+            List<Element<E>> elements = new ArrayList<>(c.getAddedSize());
+            for (int i = c.getFrom(), to = c.getTo(); i < to; i++) {
+                elements.add(new Element<>(c.getList().get(i)));
+            }
+            setAllToTrees(elements);
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+        } else {
+            for (int i = c.getFrom(), to = c.getTo(); i < to; i++) {
+                Element<E> element = new Element<>(c.getList().get(i));
+                sourceTree.insert(i, element.sourceNode);
+                int index = findSortedIndex(element.e, i);
+                sortedTree.insert(index, element.sortedNode);
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /*
+     * Returns the index in the sorted tree of an element at the given source
+     * index, which is not in the sorted tree. Equal elements are ordered by
+     * their source index, which is only looked up for the elements that
+     * compare equal, as it takes O(log n) time.
+     */
+    private int findSortedIndex(E e, int sourceIndex) {
+        if (getComparator() == null) {
+            // all the elements are equal, so the lists have the same order
+            return sourceIndex;
+        }
+        return sortedTree.search(other -> {
+            int result = elementComparator.compare(e, other.e);
+            return result != 0 ? result : Integer.compare(sourceIndex, sourceTree.indexOf(other.sourceNode));
+        });
+    }
+
+    private static final class Element<E> {
+
+        private final E e;
+        private final RankedTree.Node<Element<E>> sourceNode = new RankedTree.Node<>(this);
+        private final RankedTree.Node<Element<E>> sortedNode = new RankedTree.Node<>(this);
+
+        // the index in the sorted tree before it is rebuilt
+        private int viewIndex;
+
+        Element(E e) {
+            this.e = e;
+        }
+    }
+}
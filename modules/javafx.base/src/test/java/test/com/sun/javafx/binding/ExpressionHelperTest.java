@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -796,4 +796,53 @@ public class ExpressionHelperTest {
             api.assertCollectable(collectable);
         });
     }
+
+    @Test
+    public void testRemoveListenerAfterNestedNotification() {
+        AtomicInteger nested = new AtomicInteger();
+        AtomicInteger count1 = new AtomicInteger();
+        AtomicInteger count2 = new AtomicInteger();
+        InvalidationListener listener1 = obs -> count1.incrementAndGet();
+        InvalidationListener listener2 = obs -> count2.incrementAndGet();
+        InvalidationListener listener0 = obs -> {
+            if (nested.getAndIncrement() == 0) {
+                ExpressionHelper.fireValueChangedEvent(helper);
+                helper = ExpressionHelper.removeListener(helper, listener1);
+            }
+        };
+        helper = ExpressionHelper.addListener(helper, observable, listener0);
+        helper = ExpressionHelper.addListener(helper, observable, listener1);
+        helper = ExpressionHelper.addListener(helper, observable, listener2);
+
+        // the outer notification still notifies all the listeners it started with
+        ExpressionHelper.fireValueChangedEvent(helper);
+        assertEquals(2, count1.get());
+        assertEquals(2, count2.get());
+
+        ExpressionHelper.fireValueChangedEvent(helper);
+        assertEquals(2, count1.get());
+        assertEquals(3, count2.get());
+    }
+
+    @Test
+    public void testAddListenerDuringNotification() {
+        AtomicInteger count = new AtomicInteger();
+        InvalidationListener added = obs -> count.incrementAndGet();
+        AtomicBoolean first = new AtomicBoolean(true);
+        helper = ExpressionHelper.addListener(helper, observable, obs -> {
+            if (first.getAndSet(false)) {
+                helper = ExpressionHelper.addListener(helper, observable, added);
+            }
+        });
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+
+        // listeners added during a notification are notified from the next one
+        ExpressionHelper.fireValueChangedEvent(helper);
+        assertEquals(0, count.get());
+        invalidationListener[0].check(observable, 1);
+
+        ExpressionHelper.fireValueChangedEvent(helper);
+        assertEquals(1, count.get());
+        invalidationListener[0].check(observable, 1);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -747,4 +747,31 @@ public class ListListenerHelperTest {
         assertEquals(4, called.get());
     }
 
+
+    @Test
+    public void testRemoveListenerAfterNestedNotification() {
+        AtomicInteger nested = new AtomicInteger();
+        AtomicInteger count1 = new AtomicInteger();
+        AtomicInteger count2 = new AtomicInteger();
+        ListChangeListener<Object> listener1 = c -> count1.incrementAndGet();
+        ListChangeListener<Object> listener2 = c -> count2.incrementAndGet();
+        ListChangeListener<Object> listener0 = c -> {
+            if (nested.getAndIncrement() == 0) {
+                ListListenerHelper.fireValueChangedEvent(helper, change);
+                helper = ListListenerHelper.removeListener(helper, listener1);
+            }
+        };
+        helper = ListListenerHelper.addListener(helper, listener0);
+        helper = ListListenerHelper.addListener(helper, listener1);
+        helper = ListListenerHelper.addListener(helper, listener2);
+
+        // the outer notification still notifies all the listeners it started with
+        ListListenerHelper.fireValueChangedEvent(helper, change);
+        assertEquals(2, count1.get());
+        assertEquals(2, count2.get());
+
+        ListListenerHelper.fireValueChangedEvent(helper, change);
+        assertEquals(2, count1.get());
+        assertEquals(3, count2.get());
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import javafx.collections.ConcurrentListUpdater;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentListUpdaterTest {
+
+    private ObservableList<String> list;
+    private MockListObserver<String> observer;
+    private ConcurrentLinkedQueue<Runnable> tasks;
+    private ConcurrentListUpdater<String> updater;
+
+    @BeforeEach
+    public void setUp() {
+        list = FXCollections.observableArrayList("a", "b", "c");
+        observer = new MockListObserver<>();
+        list.addListener(observer);
+        tasks = new ConcurrentLinkedQueue<>();
+        updater = new ConcurrentListUpdater<>(list, tasks::add, 4);
+    }
+
+    private void runTasks() {
+        for (Runnable task; (task = tasks.poll()) != null; ) {
+            task.run();
+        }
+    }
+
+    @Test
+    public void testEditsAreAppliedWhenDrained() {
+        assertTrue(updater.add("d"));
+        assertTrue(updater.set(0, "x"));
+        assertEquals(1, tasks.size());
+        assertEquals(2, updater.getPendingCount());
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        observer.check0();
+
+        runTasks();
+        assertEquals(Arrays.asList("x", "b", "c", "d"), list);
+        assertEquals(0, updater.getPendingCount());
+        observer.checkN(2);
+        observer.checkAddRemove(0, list, Arrays.asList("a"), 0, 1);
+        observer.checkAddRemove(1, list, Collections.emptyList(), 3, 4);
+    }
+
+    @Test
+    public void testSetsToTheSameIndexAreCoalesced() {
+        List<String> values = new ArrayList<>();
+        ObservableList<String> tracked = FXCollections.observableList(new ArrayList<>(List.of("a", "b")) {
+            @Override
+            public String set(int index, String element) {
+                values.add(element);
+                return super.set(index, element);
+            }
+        });
+        ConcurrentListUpdater<String> u = new ConcurrentListUpdater<>(tracked, tasks::add, 10);
+        u.set(0, "x");
+        u.set(1, "y");
+        u.set(0, "z");
+        runTasks();
+        assertEquals(Arrays.asList("z", "y"), tracked);
+        assertEquals(Arrays.asList("z", "y"), values);
+    }
+
+    @Test
+    public void testFullQueueRejectsEdits() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(updater.add(String.valueOf(i)));
+        }
+        assertFalse(updater.add("rejected"));
+        runTasks();
+        assertEquals(7, list.size());
+        assertTrue(updater.remove(0));
+        assertTrue(updater.clear());
+        runTasks();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        ObservableList<Integer> numbers = FXCollections.observableArrayList();
+        ConcurrentListUpdater<Integer> u = new ConcurrentListUpdater<>(numbers, tasks::add, Integer.MAX_VALUE);
+        int threads = 4;
+        int count = 10_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t * count;
+            new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    u.add(offset + i);
+                }
+                done.countDown();
+            }).start();
+        }
+        while (done.getCount() > 0) {
+            runTasks();
+        }
+        runTasks();
+
+        assertEquals(threads * count, numbers.size());
+        List<Integer> sorted = new ArrayList<>(numbers);
+        Collections.sort(sorted);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i, (int) sorted.get(i));
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new ConcurrentListUpdater<>(null, tasks::add, 1));
+        assertThrows(NullPointerException.class, () -> new ConcurrentListUpdater<>(list, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentListUpdater<>(list, tasks::add, 0));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -776,6 +776,88 @@ public class FXCollectionsTest {
         thread.terminate();
     }
 
+    @Test
+    public void testBatchList() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        FXCollections.batch(list, () -> {
+            list.add("d");
+            list.remove("a");
+            list.set(0, "x");
+        });
+        assertEquals(Arrays.asList("x", "c", "d"), list);
+        observer.checkN(2);
+        observer.checkAddRemove(0, list, Arrays.asList("a", "b"), 0, 1);
+        observer.checkAddRemove(1, list, Collections.emptyList(), 2, 3);
+
+        observer.clear();
+        FXCollections.batch(list, () -> {
+            list.add("e");
+            list.remove("e");
+        });
+        observer.check0();
+    }
+
+    @Test
+    public void testBatchListReportsChangesOnException() {
+        ObservableList<String> list = FXCollections.observableArrayList("a");
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        assertThrows(IllegalStateException.class, () -> FXCollections.batch(list, () -> {
+            list.add("b");
+            throw new IllegalStateException();
+        }));
+        observer.check1AddRemove(list, Collections.emptyList(), 1, 2);
+    }
+
+    @Test
+    public void testBatchMap() {
+        ObservableMap<String, Integer> map = FXCollections.observableHashMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        MockMapObserver<String, Integer> observer = new MockMapObserver<>();
+        map.addListener(observer);
+
+        FXCollections.batch(map, () -> {
+            map.put("a", 10);
+            map.put("a", 11);
+            map.put("c", 3);
+            map.remove("b");
+            map.put("d", 4);
+            map.remove("d");
+            FXCollections.batch(map, () -> map.put("e", 5));
+        });
+        observer.assertMultipleCalls(MockMapObserver.Call.call("a", 1, 11), MockMapObserver.Call.call("c", null, 3),
+                MockMapObserver.Call.call("b", 2, null), MockMapObserver.Call.call("e", null, 5));
+
+        observer.clear();
+        FXCollections.batch(map, () -> {
+            map.put("a", 12);
+            map.put("a", 11);
+        });
+        observer.check0();
+    }
+
+    @Test
+    public void testBatchSet() {
+        ObservableSet<String> set = FXCollections.observableSet("a", "b");
+        MockSetObserver<String> observer = new MockSetObserver<>();
+        set.addListener(observer);
+
+        FXCollections.batch(set, () -> {
+            set.add("c");
+            set.remove("a");
+            set.add("a");
+            set.remove("b");
+            set.add("d");
+            set.remove("d");
+        });
+        observer.assertMultipleCalls(MockSetObserver.Call.call(null, "c"), MockSetObserver.Call.call("b", null));
+    }
+
     private static class CollectionChangeThread<V> extends Thread {
         private boolean shallRun = true;
         private V collection;
@@ -369,4 +369,52 @@ public class FilteredListTest {
 
         assertEquals(List.of(2L, 1L), filteredList);
     }
+
+    @Test
+    public void testRefinePredicate() {
+        list.addAll("ab", "cd", "abc");
+        filteredList.setPredicate(e -> e.startsWith("a"));
+        mlo.clear();
+
+        List<String> tested = new ArrayList<>();
+        filteredList.refinePredicate(e -> {
+            tested.add(e);
+            return e.startsWith("ab");
+        });
+        assertEquals(Arrays.asList("a", "ab", "abc"), tested);
+        assertEquals(Arrays.asList("ab", "abc"), filteredList);
+        mlo.check1AddRemove(filteredList, Arrays.asList("a", "ab", "abc"), 0, 2);
+    }
+
+    @Test
+    public void testRefinePredicateWithoutPredicate() {
+        filteredList.setPredicate(null);
+        filteredList.refinePredicate(e -> e.equals("c"));
+        assertEquals(Arrays.asList("c", "c"), filteredList);
+    }
+
+    @Test
+    public void testParallelPredicate() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(i);
+        }
+        FilteredList<Integer> filtered = new FilteredList<>(FXCollections.observableArrayList(numbers));
+        filtered.setParallel(true);
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        filtered.addListener(observer);
+
+        filtered.setPredicate(i -> i % 3 == 0);
+        assertEquals(33_334, filtered.size());
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(3 * i, filtered.getSourceIndex(i));
+        }
+        observer.check1AddRemove(filtered, numbers, 0, 33_334);
+
+        filtered.refinePredicate(i -> i % 6 == 0);
+        assertEquals(16_667, filtered.size());
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(6 * i, (int) filtered.get(i));
+        }
+    }
 }
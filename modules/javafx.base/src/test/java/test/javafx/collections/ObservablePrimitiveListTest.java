@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableDoubleList;
+import javafx.collections.ObservableLongList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObservablePrimitiveListTest {
+
+    private ObservableDoubleList doubles;
+    private MockListObserver<Double> observer;
+
+    @BeforeEach
+    public void setUp() {
+        doubles = FXCollections.observableDoubleList(1, 2, 3);
+        observer = new MockListObserver<>();
+        doubles.addListener(observer);
+    }
+
+    @Test
+    public void testInitialValues() {
+        assertEquals(List.of(1.0, 2.0, 3.0), doubles);
+        assertEquals(2.0, doubles.getDouble(1));
+        assertArrayEquals(new double[] {1, 2, 3}, doubles.toDoubleArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> doubles.getDouble(3));
+    }
+
+    @Test
+    public void testAddDouble() {
+        doubles.addDouble(4);
+        observer.check1AddRemove(doubles, Collections.emptyList(), 3, 4);
+        observer.clear();
+
+        doubles.addDouble(0, 0);
+        observer.check1AddRemove(doubles, Collections.emptyList(), 0, 1);
+        assertEquals(List.of(0.0, 1.0, 2.0, 3.0, 4.0), doubles);
+    }
+
+    @Test
+    public void testSetDouble() {
+        assertEquals(2.0, doubles.setDouble(1, 5));
+        observer.check1AddRemove(doubles, List.of(2.0), 1, 2);
+        assertEquals(List.of(1.0, 5.0, 3.0), doubles);
+    }
+
+    @Test
+    public void testRemoveDouble() {
+        assertEquals(1.0, doubles.removeDouble(0));
+        observer.check1AddRemove(doubles, List.of(1.0), 0, 0);
+        assertEquals(List.of(2.0, 3.0), doubles);
+    }
+
+    @Test
+    public void testBulkAddAll() {
+        doubles.addAll(new double[] {0, 4, 5, 6}, 1, 2);
+        observer.check1AddRemove(doubles, Collections.emptyList(), 3, 5);
+        assertEquals(List.of(1.0, 2.0, 3.0, 4.0, 5.0), doubles);
+        assertThrows(IndexOutOfBoundsException.class, () -> doubles.addAll(new double[2], 1, 2));
+    }
+
+    @Test
+    public void testBulkSetAll() {
+        double[] values = new double[10_000];
+        Arrays.setAll(values, i -> i);
+        doubles.setAll(values, 0, values.length);
+        observer.check1AddRemove(doubles, List.of(1.0, 2.0, 3.0), 0, 10_000);
+        assertEquals(9_999.0, doubles.getDouble(9_999));
+
+        double[] dest = new double[3];
+        doubles.copyTo(100, dest, 1, 2);
+        assertArrayEquals(new double[] {0, 100, 101}, dest);
+    }
+
+    @Test
+    public void testClearAndSubListRemove() {
+        doubles.subList(0, 2).clear();
+        observer.check1AddRemove(doubles, List.of(1.0, 2.0), 0, 0);
+        observer.clear();
+
+        doubles.clear();
+        observer.check1AddRemove(doubles, List.of(3.0), 0, 0);
+        assertTrue(doubles.isEmpty());
+    }
+
+    @Test
+    public void testListMethods() {
+        doubles.add(1, 7.0);
+        observer.check1AddRemove(doubles, Collections.emptyList(), 1, 2);
+        observer.clear();
+
+        doubles.setAll(8.0, 9.0);
+        observer.check1AddRemove(doubles, List.of(1.0, 7.0, 2.0, 3.0), 0, 2);
+        assertEquals(1, doubles.indexOf(9.0));
+        assertThrows(NullPointerException.class, () -> doubles.add(null));
+    }
+
+    @Test
+    public void testCapacity() {
+        doubles.ensureCapacity(100);
+        doubles.trimToSize();
+        doubles.addDouble(4);
+        assertArrayEquals(new double[] {1, 2, 3, 4}, doubles.toDoubleArray());
+    }
+
+    @Test
+    public void testLongList() {
+        ObservableLongList longs = FXCollections.observableLongList();
+        MockListObserver<Long> longObserver = new MockListObserver<>();
+        longs.addListener(longObserver);
+
+        longs.setAll(new long[] {1L << 40, 2, 3}, 0, 3);
+        longObserver.check1AddRemove(longs, Collections.emptyList(), 0, 3);
+        longObserver.clear();
+
+        longs.addLong(1, 5);
+        longObserver.check1AddRemove(longs, Collections.emptyList(), 1, 2);
+        assertEquals(1L << 40, longs.getLong(0));
+        assertEquals(5L, longs.removeLong(1));
+        assertArrayEquals(new long[] {1L << 40, 2, 3}, longs.toLongArray());
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TreeSortedList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeSortedListTest {
+
+    private ObservableList<String> list;
+    private MockListObserver<String> mockListObserver;
+    private TreeSortedList<String> sortedList;
+
+    @BeforeEach
+    public void setUp() {
+        list = FXCollections.observableArrayList();
+        list.addAll("a", "c", "d", "c");
+        sortedList = new TreeSortedList<>(list, Comparator.naturalOrder());
+        mockListObserver = new MockListObserver<>();
+        sortedList.addListener(mockListObserver);
+    }
+
+    @Test
+    public void testNoChange() {
+        assertEquals(Arrays.asList("a", "c", "c", "d"), sortedList);
+        mockListObserver.check0();
+
+        compareIndices(sortedList);
+    }
+
+    @Test
+    public void testAdd() {
+        list.clear();
+        mockListObserver.clear();
+        assertEquals(Collections.emptyList(), sortedList);
+        list.addAll("a", "c", "d", "c");
+        assertEquals(Arrays.asList("a", "c", "c", "d"), sortedList);
+        mockListObserver.check1AddRemove(sortedList, Collections.<String>emptyList(), 0, 4);
+        assertEquals(0, sortedList.getSourceIndex(0));
+        assertEquals(2, sortedList.getSourceIndex(3));
+
+        compareIndices(sortedList);
+    }
+
+    @Test
+    public void testAddSingle() {
+        list.add("b");
+        assertEquals(Arrays.asList("a", "b", "c", "c", "d"), sortedList);
+        mockListObserver.check1AddRemove(sortedList, Collections.<String>emptyList(), 1, 2);
+
+        compareIndices(sortedList);
+    }
+
+    @Test
+    public void testRemoveSingle() {
+        list.remove("d");
+        assertEquals(Arrays.asList("a", "c", "c"), sortedList);
+        mockListObserver.check1AddRemove(sortedList, Arrays.asList("d"), 3, 3);
+
+        compareIndices(sortedList);
+    }
+
+    @Test
+    public void testEqualElementsKeepSourceOrder() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(
+                new Person("b"), new Person("a"), new Person("b"), new Person("a"));
+        TreeSortedList<Person> sorted = new TreeSortedList<>(persons, Comparator.naturalOrder());
+        assertSame(persons.get(1), sorted.get(0));
+        assertSame(persons.get(3), sorted.get(1));
+        assertSame(persons.get(0), sorted.get(2));
+        assertSame(persons.get(2), sorted.get(3));
+
+        persons.add(0, new Person("a"));
+        assertSame(persons.get(0), sorted.get(0));
+        assertSame(persons.get(2), sorted.get(1));
+
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testUpdateReportsMovedRange() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(p -> new Observable[] {p.name});
+        persons.addAll(new Person("a"), new Person("b"), new Person("c"), new Person("d"));
+        TreeSortedList<Person> sorted = new TreeSortedList<>(persons, Comparator.naturalOrder());
+        MockListObserver<Person> observer = new MockListObserver<>();
+        sorted.addListener(observer);
+
+        persons.get(0).name.set("e");
+        assertEquals(Person.createPersonsList("b", "c", "d", "e"), sorted);
+        observer.checkPermutation(0, sorted, 0, 4, new int[] {3, 0, 1, 2});
+        observer.checkUpdate(1, sorted, 3, 4);
+
+        observer.clear();
+        persons.get(2).name.set("c2");
+        observer.checkUpdate(0, sorted, 1, 2);
+
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testChangeComparator() {
+        sortedList.setComparator(Comparator.reverseOrder());
+        assertEquals(Arrays.asList("d", "c", "c", "a"), sortedList);
+        mockListObserver.check1Permutation(sortedList, new int[] {3, 1, 2, 0});
+
+        compareIndices(sortedList);
+    }
+
+    @Test
+    public void testNullComparator() {
+        sortedList.setComparator(null);
+        assertEquals(list, sortedList);
+        assertNull(sortedList.getComparator());
+
+        list.add(1, "b");
+        assertEquals(list, sortedList);
+
+        compareIndices(sortedList);
+    }
+
+    @Test
+    public void testSourcePermutation() {
+        list.sort(Comparator.reverseOrder());
+        assertEquals(Arrays.asList("a", "c", "c", "d"), sortedList);
+
+        compareIndices(sortedList);
+    }
+
+    @Test
+    public void testRank() {
+        assertEquals(0, sortedList.rank("a"));
+        assertEquals(1, sortedList.rank("b"));
+        assertEquals(1, sortedList.rank("c"));
+        assertEquals(3, sortedList.rank("cc"));
+        assertEquals(4, sortedList.rank("z"));
+    }
+
+    @Test
+    public void testIndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> sortedList.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> sortedList.getSourceIndex(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sortedList.getViewIndex(4));
+    }
+
+    @Test
+    public void testRandomChangesMatchStableSort() {
+        Random random = new Random(42);
+        ObservableList<Person> persons = FXCollections.observableArrayList(p -> new Observable[] {p.name});
+        TreeSortedList<Person> tree = new TreeSortedList<>(persons, Comparator.naturalOrder());
+
+        // replays the changes of the tree list on a copy to check that they are consistent
+        List<Person> copy = new ArrayList<>();
+        tree.addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<Person> old = new ArrayList<>(copy.subList(c.getFrom(), c.getTo()));
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        copy.set(c.getPermutation(i), old.get(i - c.getFrom()));
+                    }
+                } else if (!c.wasUpdated()) {
+                    copy.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    copy.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+
+        for (int step = 0; step < 2000; step++) {
+            int size = persons.size();
+            switch (random.nextInt(size < 10 ? 2 : 5)) {
+                case 0 -> persons.add(random.nextInt(size + 1), new Person(String.valueOf(random.nextInt(50))));
+                case 1 -> persons.addAll(random.nextInt(size + 1), Person.createPersonsList("1", "7", "42"));
+                case 2 -> persons.remove(random.nextInt(size));
+                case 3 -> persons.get(random.nextInt(size)).name.set(String.valueOf(random.nextInt(50)));
+                case 4 -> {
+                    int from = random.nextInt(size);
+                    persons.remove(from, Math.min(size, from + 5));
+                }
+            }
+            List<Person> sorted = new ArrayList<>(persons);
+            sorted.sort(Comparator.naturalOrder());
+            assertEquals(sorted.size(), tree.size());
+            for (int i = 0; i < sorted.size(); i++) {
+                assertSame(sorted.get(i), tree.get(i));
+                assertSame(tree.get(i), copy.get(i));
+            }
+        }
+        compareIndices(tree);
+    }
+
+    private <E> void compareIndices(TreeSortedList<E> sorted) {
+        ObservableList<? extends E> source = sorted.getSource();
+        for (int i = 0; i < sorted.size(); i++) {
+            // i as a view index
+            int sourceIndex = sorted.getSourceIndex(i);
+            assertEquals(i, sorted.getViewIndex(sourceIndex));
+            assertSame(sorted.get(i), source.get(sourceIndex));
+
+            // i as a source index
+            int viewIndex = sorted.getViewIndex(i);
+            assertEquals(i, sorted.getSourceIndex(viewIndex));
+            assertSame(source.get(i), sorted.get(viewIndex));
+        }
+    }
+}
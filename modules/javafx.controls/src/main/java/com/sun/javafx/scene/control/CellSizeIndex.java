@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+import java.util.Arrays;
+
+/**
+ * Stores the sizes of the cells of a virtualized control, some of which may
+ * not be known yet, and answers prefix sum queries over them in O(log n):
+ * the offset of a cell, and the cell at an offset. Unknown sizes are replaced
+ * by the estimate passed to the queries.
+ *
+ * <p>The sizes are grouped in blocks of 16, with a binary tree of the block
+ * sums on top of them. Every sum is recomputed from the sizes rather than
+ * updated with a difference, so that the same sizes always give the same
+ * offsets, however they were reached.</p>
+ */
+public final class CellSizeIndex {
+    private static final int BLOCK_SHIFT = 4;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    // The sizes, NaN when unknown
+    private double[] sizes = new double[0];
+    // One past the highest index that has been set
+    private int size;
+
+    // The tree of the block sums, node 1 is the root, and the leaves start
+    // at blockCount, which is a power of two.
+    private int blockCount;
+    private double[] sums = new double[2];
+    private int[] counts = new int[2];
+
+    /**
+     * Returns one past the highest index that has been set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the size at the given index, or -1 if it is not known.
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size || Double.isNaN(sizes[index])) {
+            return -1;
+        }
+        return sizes[index];
+    }
+
+    public void set(int index, double value) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        ensureCapacity(index + 1);
+        sizes[index] = value;
+        if (index >= size) {
+            size = index + 1;
+        }
+        updateBlock(index >> BLOCK_SHIFT);
+    }
+
+    /**
+     * Inserts count unknown sizes at the given index, shifting the
+     * following sizes up. This takes time linear in the number of sizes.
+     */
+    public void insert(int index, int count) {
+        if (index < 0 || count < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (index >= size || count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(sizes, index, sizes, index + count, size - index);
+        Arrays.fill(sizes, index, index + count, Double.NaN);
+        size += count;
+        rebuild();
+    }
+
+    /**
+     * Removes count sizes at the given index, shifting the following
+     * sizes down. This takes time linear in the number of sizes.
+     */
+    public void remove(int index, int count) {
+        if (index < 0 || count < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (index >= size || count == 0) {
+            return;
+        }
+        int end = Math.min(size, index + count);
+        System.arraycopy(sizes, end, sizes, index, size - end);
+        Arrays.fill(sizes, size - (end - index), size, Double.NaN);
+        size -= end - index;
+        rebuild();
+    }
+
+    public void clear() {
+        Arrays.fill(sizes, 0, size, Double.NaN);
+        size = 0;
+        Arrays.fill(sums, 0d);
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * Returns the number of known sizes before the given index.
+     */
+    public int getKnownCount(int end) {
+        return (int) prefix(end, true);
+    }
+
+    /**
+     * Returns the sum of the known sizes before the given index.
+     */
+    public double getKnownSum(int end) {
+        return prefix(end, false);
+    }
+
+    /**
+     * Returns the offset of the start of the cell at the given index, that is
+     * the sum of the sizes before it, using the estimate for unknown sizes.
+     */
+    public double getOffset(int index, double estimate) {
+        if (index <= 0) {
+            return 0d;
+        }
+        double sum = prefix(index, false);
+        int known = (int) prefix(index, true);
+        return sum + (index - known) * estimate;
+    }
+
+    /**
+     * Returns the index of the cell containing the given offset, that is the
+     * smallest index for which the offset of the next cell is greater than
+     * the offset, using the estimate for unknown sizes.
+     *
+     * @return the index, or count if the offset is past the last cell
+     */
+    public int getIndex(double offset, double estimate, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        int index;
+        double total = sums[1] + (sizes.length - counts[1]) * estimate;
+        if (offset >= total || sizes.length == 0) {
+            // Past the stored sizes, every size is the estimate
+            index = estimate > 0
+                    ? sizes.length + (int) Math.max(0, Math.min(count, (offset - total) / estimate))
+                    : (offset < 0 ? 0 : count);
+        } else {
+            int node = 1;
+            int block = 0;
+            double base = 0d;
+            for (int span = blockCount >> 1; span > 0; span >>= 1) {
+                int left = node << 1;
+                double leftSum = sums[left] +
+                        ((span << BLOCK_SHIFT) - counts[left]) * estimate;
+                if (base + leftSum > offset) {
+                    node = left;
+                } else {
+                    base += leftSum;
+                    node = left + 1;
+                    block += span;
+                }
+            }
+            index = block << BLOCK_SHIFT;
+            int last = index + BLOCK_SIZE - 1;
+            while (index < last) {
+                double s = sizes[index];
+                base += Double.isNaN(s) ? estimate : s;
+                if (base > offset) {
+                    break;
+                }
+                index++;
+            }
+        }
+
+        // The sums above are added in a different order than in getOffset(),
+        // so settle on the index that getOffset() agrees with.
+        index = Math.min(index, count);
+        while (index > 0 && getOffset(index, estimate) > offset) {
+            index--;
+        }
+        while (index < count && getOffset(index + 1, estimate) <= offset) {
+            index++;
+        }
+        return index;
+    }
+
+    private double prefix(int end, boolean count) {
+        end = Math.min(end, sizes.length);
+        if (end <= 0) {
+            return 0d;
+        }
+        int block = end >> BLOCK_SHIFT;
+        double result = 0d;
+        if (block >= blockCount) {
+            result = count ? counts[1] : sums[1];
+        } else if (block > 0) {
+            int node = 1;
+            int lo = 0;
+            for (int span = blockCount >> 1; span > 0; span >>= 1) {
+                if (block >= lo + span) {
+                    int left = node << 1;
+                    result += count ? counts[left] : sums[left];
+                    node = left + 1;
+                    lo += span;
+                } else {
+                    node <<= 1;
+                }
+            }
+        }
+        for (int i = block << BLOCK_SHIFT; i < end; i++) {
+            double s = sizes[i];
+            if (!Double.isNaN(s)) {
+                result += count ? 1 : s;
+            }
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= sizes.length) {
+            return;
+        }
+        int blocks = Math.max(1, blockCount);
+        while ((blocks << BLOCK_SHIFT) < capacity) {
+            blocks <<= 1;
+        }
+        int oldLength = sizes.length;
+        sizes = Arrays.copyOf(sizes, blocks << BLOCK_SHIFT);
+        Arrays.fill(sizes, oldLength, sizes.length, Double.NaN);
+        blockCount = blocks;
+        sums = new double[blocks << 1];
+        counts = new int[blocks << 1];
+        rebuild();
+    }
+
+    private void rebuild() {
+        for (int block = 0; block < blockCount; block++) {
+            computeLeaf(block);
+        }
+        for (int node = blockCount - 1; node > 0; node--) {
+            computeNode(node);
+        }
+    }
+
+    private void updateBlock(int block) {
+        computeLeaf(block);
+        for (int node = (blockCount + block) >> 1; node > 0; node >>= 1) {
+            computeNode(node);
+        }
+    }
+
+    private void computeLeaf(int block) {
+        double sum = 0d;
+        int known = 0;
+        for (int i = block << BLOCK_SHIFT, end = i + BLOCK_SIZE; i < end; i++) {
+            double s = sizes[i];
+            if (!Double.isNaN(s)) {
+                sum += s;
+                known++;
+            }
+        }
+        sums[blockCount + block] = sum;
+        counts[blockCount + block] = known;
+    }
+
+    private void computeNode(int node) {
+        int left = node << 1;
+        sums[node] = sums[left] + sums[left + 1];
+        counts[node] = counts[left] + counts[left + 1];
+    }
+}
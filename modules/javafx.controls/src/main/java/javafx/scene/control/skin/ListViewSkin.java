@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -128,6 +128,7 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
     private final ListChangeListener<T> listViewItemsListener = new ListChangeListener<>() {
         @Override public void onChanged(Change<? extends T> c) {
             while (c.next()) {
+                flow.itemsChanged(c);
                 if (c.wasReplaced()) {
                     // JDK-8118897: Support for when an item is replaced with itself (but
                     // updated internal values that should be shown visually).
@@ -452,11 +453,25 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
         return cell;
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * Overridden to return an empty list cell, which does not show its item.
+     * @since 27
+     */
+    @Override protected ListCell<T> createPlaceholderCell() {
+        ListCell<T> cell = new ListCell<>();
+        cell.getStyleClass().add("placeholder-cell");
+        return cell;
+    }
+
     private void updateListViewItems() {
         if (listViewItems != null) {
             listViewItems.removeListener(weakListViewItemsListener);
         }
 
+        if (flow != null) {
+            flow.discardItemChanges();
+        }
         this.listViewItems = getSkinnable().getItems();
 
         if (listViewItems != null) {
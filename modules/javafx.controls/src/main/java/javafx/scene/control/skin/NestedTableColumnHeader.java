@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import javafx.geometry.NodeOrientation;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.control.ResizeFeaturesBase;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.TableColumnBase;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
@@ -41,8 +42,10 @@ import javafx.scene.shape.Rectangle;
 import javafx.util.Callback;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
 
 /**
@@ -98,6 +101,9 @@ public class NestedTableColumnHeader extends TableColumnHeader {
     // drag rectangle overlays
     private Map<TableColumnBase<?,?>, Rectangle> dragRects = new WeakHashMap<>();
 
+    // column headers taken out of the scenegraph as they are out of view
+    private final Set<TableColumnHeader> detachedHeaders = new HashSet<>();
+
     boolean updateColumns = true;
 
 
@@ -290,6 +296,21 @@ public class NestedTableColumnHeader extends TableColumnHeader {
             label.relocate(snappedLeftInset(), snappedTopInset());
         }
 
+        // with virtualized columns, the root header only keeps the column
+        // headers that intersect the viewport in the scenegraph
+        final TableViewSkinBase<?,?,?,?,?> tableSkin = getTableSkin();
+        final boolean virtualized = tableSkin != null && getTableHeaderRow() != null
+                && getTableHeaderRow().getRootHeader() == this
+                && tableSkin.isColumnVirtualizationEnabled();
+        double viewportStart = 0;
+        double viewportEnd = 0;
+        if (virtualized) {
+            ScrollBar hbar = tableSkin.flow.getHbar();
+            viewportStart = hbar.isVisible() ? hbar.getValue() : 0;
+            viewportEnd = viewportStart + tableSkin.flow.getViewportBreadth();
+        }
+        boolean detachedHeadersChanged = false;
+
         // children columns need to share the total available width
         double x = snappedLeftInset();
         final double height = snapSizeY(h - labelHeight);
@@ -299,8 +320,20 @@ public class NestedTableColumnHeader extends TableColumnHeader {
 
             double prefWidth = n.prefWidth(height);
 
+            boolean inView = ! virtualized || (x + prefWidth > viewportStart && x < viewportEnd);
+            if (inView == detachedHeaders.contains(n)) {
+                detachedHeadersChanged = true;
+                if (inView) {
+                    detachedHeaders.remove(n);
+                } else {
+                    detachedHeaders.add(n);
+                }
+            }
+
             // position the column header in the default location...
-            n.resize(prefWidth, height);
+            if (inView) {
+                n.resize(prefWidth, height);
+            }
             n.relocate(x, labelHeight + snappedTopInset());
 
 //            // ...but, if there are no children of this column, we should ensure
@@ -322,6 +355,10 @@ public class NestedTableColumnHeader extends TableColumnHeader {
                 dragRect.relocate(x - DRAG_RECT_WIDTH / 2, snappedTopInset() + labelHeight);
             }
         }
+
+        if (detachedHeadersChanged) {
+            updateAttachedHeaders();
+        }
     }
 
     // sum up all children columns
@@ -561,6 +598,9 @@ public class NestedTableColumnHeader extends TableColumnHeader {
     }
 
     private void updateContent() {
+        // all the column headers are attached again, until the next layout
+        detachedHeaders.clear();
+
         // create a temporary list so we only do addAll into the main content
         // observableArrayList once.
         final List<Node> content = new ArrayList<>();
@@ -581,6 +621,30 @@ public class NestedTableColumnHeader extends TableColumnHeader {
         getChildren().setAll(content);
     }
 
+    /*
+     * Removes the detached column headers from the children, and inserts the
+     * other ones back in column order after the label, without touching the
+     * headers that stay attached.
+     */
+    private void updateAttachedHeaders() {
+        final List<Node> children = getChildren();
+        int index = children.indexOf(label) + 1;
+        for (TableColumnHeader header : getColumnHeaders()) {
+            if (detachedHeaders.contains(header)) {
+                if (header.getParent() == this) {
+                    children.remove(header);
+                }
+            } else {
+                if (header.getParent() != this) {
+                    children.add(index, header);
+                    // as in JDK-8123569, CSS is needed now as we are in the middle of the layout pass
+                    header.applyCss();
+                }
+                index++;
+            }
+        }
+    }
+
     private void rebuildDragRects() {
         if (! isColumnResizingEnabled()) return;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -427,6 +427,10 @@ public class TableHeaderRow extends StackPane {
      */
     protected void updateScrollX() {
         scrollX = flow.getHbar().isVisible() ? snapPositionX(-flow.getHbar().getValue()) : 0.0F;
+        if (tableSkin.isColumnVirtualizationEnabled()) {
+            // the column headers in view change
+            getRootHeader().requestLayout();
+        }
         requestLayout();
 
         // Fix for JDK-8094852: without this call even though we call requestLayout()
@@ -461,6 +465,10 @@ public class TableHeaderRow extends StackPane {
         }
 
         clip.setWidth(tableWidth);
+
+        if (tableSkin.isColumnVirtualizationEnabled()) {
+            getRootHeader().requestLayout();
+        }
     }
 
     /**
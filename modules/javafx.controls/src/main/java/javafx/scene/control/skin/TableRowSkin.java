@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package javafx.scene.control.skin;
 
 
+import java.lang.ref.Reference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -153,7 +154,9 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
                                 /* This is the row-based case */
                                 column = getTableView().getVisibleLeafColumn(0);
                             }
-                            TableCell<T,?> cell = cellsMap.get(column).get();
+                            // with virtualized columns, there may be no cell for the column
+                            Reference<TableCell<T,?>> cellRef = cellsMap.get(column);
+                            TableCell<T,?> cell = cellRef == null ? null : cellRef.get();
                             if (cell != null) selection.add(cell);
                         }
                         return FXCollections.observableArrayList(selection);
@@ -223,6 +226,18 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
         return cell.getTableColumn();
     }
 
+    /** {@inheritDoc} */
+    @Override Object getCellReuseKey(TableColumnBase<T, ?> tc) {
+        return ((TableColumn<T, ?>) tc).getCellFactory();
+    }
+
+    /** {@inheritDoc} */
+    @Override void updateCellColumn(TableCell<T, ?> cell, TableColumnBase<T, ?> tc) {
+        TableColumn tableColumn = (TableColumn<T, ?>) tc;
+        cell.updateTableColumn(tableColumn);
+        cell.updateTableView(tableColumn.getTableView());
+    }
+
     private TableView<T> getTableView() {
         return getSkinnable().getTableView();
     }
@@ -98,7 +98,8 @@ public abstract class TableRowSkinBase<T,
      * This is recreated whenever the leaf columns change, however to increase
      * efficiency we create cells for all columns, even if they aren't visible,
      * and we only create new cells if we don't already have it cached in this
-     * map.
+     * map. When the columns are virtualized, cells are only created for the
+     * columns in view.
      */
     WeakHashMap<TableColumnBase, Reference<R>> cellsMap;
 
@@ -107,6 +108,17 @@ public abstract class TableRowSkinBase<T,
 
     boolean isDirty = false;
 
+    /*
+     * When the columns are virtualized, the cells list only holds the cells
+     * for the visible leaf columns from firstColumn (inclusive) to lastColumn
+     * (exclusive). The cells of the columns that scroll out of view are kept
+     * in the cell pool, by cell factory, to be reused for other columns.
+     */
+    private boolean columnsVirtualized = false;
+    private int firstColumn = -1;
+    private int lastColumn = -1;
+    private final Map<Object, List<R>> cellPool = new HashMap<>();
+
 
     /* *************************************************************************
      *                                                                         *
@@ -151,6 +163,7 @@ public abstract class TableRowSkinBase<T,
      **************************************************************************/
 
     void updateLeafColumns() {
+        clearCellPool();
         isDirty = true;
         getSkinnable().requestLayout();
     }
@@ -211,7 +224,13 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected void layoutChildren(double x, double y, final double w, final double h) {
         checkState();
-        if (cellsMap.isEmpty()) return;
+
+        VirtualFlow<C> virtualFlow = getVirtualFlow();
+        TableViewSkinBase<?,?,?,?,?> tableSkin = getColumnVirtualizationSkin(virtualFlow);
+        if (columnsVirtualized != (tableSkin != null)) {
+            updateCells();
+        }
+        if (cellsMap.isEmpty() && tableSkin == null) return;
 
         ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
         if (visibleLeafColumns.isEmpty()) {
@@ -291,7 +310,15 @@ public abstract class TableRowSkinBase<T,
         int index = control.getIndex();
         if (index < 0/* || row >= itemsProperty().get().size()*/) return;
 
-        VirtualFlow<C> virtualFlow = getVirtualFlow();
+        // with virtualized columns, only the cells of the columns in view
+        // are laid out, starting at the offset of the first one
+        int firstColumn = 0;
+        if (tableSkin != null) {
+            double[] offsets = tableSkin.getColumnOffsets();
+            firstColumn = updateVisibleColumns(x, offsets, virtualFlow);
+            x += offsets[firstColumn];
+        }
+
         double fixedCellSize = getFixedCellSize();
         for (int column = 0, max = cells.size(); column < max; column++) {
             R tableCell = cells.get(column);
@@ -310,7 +337,9 @@ public abstract class TableRowSkinBase<T,
                 // provided by the developer, and this means that we do not have
                 // to concern ourselves with the possibility that the height
                 // may be variable and / or dynamic.
-                isVisible = isColumnPartiallyOrFullyVisible(x, width, virtualFlow);
+                if (tableSkin == null) {
+                    isVisible = isColumnPartiallyOrFullyVisible(x, width, virtualFlow);
+                }
 
                 y = 0;
                 height = fixedCellSize;
@@ -344,7 +373,7 @@ public abstract class TableRowSkinBase<T,
                 //-----------------------------------------
                 // further indentation code starts here
                 //-----------------------------------------
-                if (indentationRequired && column == indentationColumnIndex) {
+                if (indentationRequired && firstColumn + column == indentationColumnIndex) {
                     if (disclosureVisible) {
                         double ph = disclosureNode.prefHeight(disclosureWidth);
 
@@ -447,10 +476,34 @@ public abstract class TableRowSkinBase<T,
         return true;
     }
 
+    /**
+     * Returns the key under which the cells of the given column are pooled to
+     * be reused for other columns, or null if they cannot be reused.
+     */
+    Object getCellReuseKey(TableColumnBase<T,?> tc) {
+        return null;
+    }
+
+    /**
+     * Tells a pooled cell that it now represents the given column.
+     */
+    void updateCellColumn(R cell, TableColumnBase<T,?> tc) {
+    }
+
     void updateCells() {
         // if clear isn't called first, we can run into situations where the
         // cells aren't updated properly.
         cells.clear();
+        clearCellPool();
+
+        columnsVirtualized = getColumnVirtualizationSkin(getVirtualFlow()) != null;
+        if (columnsVirtualized) {
+            // the cells of the columns in view are set up on layout
+            firstColumn = -1;
+            lastColumn = -1;
+            getChildren().setAll(cells);
+            return;
+        }
 
         final C skinnable = getSkinnable();
         final int skinnableIndex = skinnable.getIndex();
@@ -497,6 +550,13 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected double computePrefWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
         double prefWidth = leftInset + rightInset;
+        if (columnsVirtualized) {
+            TableViewSkinBase<?,?,?,?,?> tableSkin = getColumnVirtualizationSkin(getVirtualFlow());
+            if (tableSkin != null) {
+                double[] offsets = tableSkin.getColumnOffsets();
+                return prefWidth + offsets[offsets.length - 1];
+            }
+        }
         for (R cell : cells) {
             prefWidth += cell.prefWidth(height);
         }
@@ -600,6 +660,114 @@ public abstract class TableRowSkinBase<T,
      *                                                                         *
      **************************************************************************/
 
+    /*
+     * Returns the skin of the table when its columns are virtualized, or null.
+     */
+    private TableViewSkinBase<?,?,?,?,?> getColumnVirtualizationSkin(VirtualFlow<C> virtualFlow) {
+        if (virtualFlow != null && virtualFlow.getParent() instanceof Control control
+                && control.getSkin() instanceof TableViewSkinBase<?,?,?,?,?> tableSkin
+                && tableSkin.isColumnVirtualizationEnabled()) {
+            return tableSkin;
+        }
+        return null;
+    }
+
+    /*
+     * Updates the cells to those of the columns in view, reusing the cells of
+     * the columns that stay in view, and returns the index of the first one.
+     */
+    private int updateVisibleColumns(double start, double[] offsets, VirtualFlow<C> virtualFlow) {
+        final double scrollX = virtualFlow.getHbar().getValue() - start;
+        final double viewportEnd = scrollX + virtualFlow.getViewportBreadth();
+        int first = TableViewSkinBase.getColumnIndex(offsets, scrollX);
+        int last = TableViewSkinBase.getColumnIndex(offsets, viewportEnd);
+        if (last < offsets.length - 1 && offsets[last] < viewportEnd) {
+            last++;
+        }
+        first = Math.min(first, last);
+        if (first == firstColumn && last == lastColumn) {
+            return first;
+        }
+
+        final C skinnable = getSkinnable();
+        final int skinnableIndex = skinnable.getIndex();
+        final List<? extends TableColumnBase/*<T,?>*/> visibleLeafColumns = getVisibleLeafColumns();
+        final List<R> oldCells = new ArrayList<>(cells);
+
+        cells.clear();
+        for (int i = first; i < last; i++) {
+            TableColumnBase<T,?> col = visibleLeafColumns.get(i);
+
+            R cell = null;
+            int oldIndex = i - firstColumn;
+            if (firstColumn >= 0 && oldIndex >= 0 && oldIndex < oldCells.size()
+                    && getTableColumn(oldCells.get(oldIndex)) == col) {
+                cell = oldCells.set(oldIndex, null);
+            } else {
+                cell = acquireCell(col);
+                updateCell(cell, skinnable);
+                cell.updateIndex(skinnableIndex);
+            }
+            cells.add(cell);
+        }
+
+        for (R cell : oldCells) {
+            if (cell != null) {
+                releaseCell(cell);
+            }
+        }
+
+        firstColumn = first;
+        lastColumn = last;
+        return first;
+    }
+
+    private R acquireCell(TableColumnBase<T,?> col) {
+        Reference<R> cellRef = cellsMap.get(col);
+        R cell = cellRef == null ? null : cellRef.get();
+        if (cell == null) {
+            Object key = getCellReuseKey(col);
+            List<R> pooledCells = key == null ? null : cellPool.get(key);
+            if (pooledCells != null && !pooledCells.isEmpty()) {
+                cell = pooledCells.remove(pooledCells.size() - 1);
+                updateCellColumn(cell, col);
+                cellsMap.put(col, new WeakReference<>(cell));
+            } else {
+                cell = createCellAndCache(col);
+            }
+        }
+        return cell;
+    }
+
+    private void releaseCell(R cell) {
+        getChildren().remove(cell);
+
+        TableColumnBase<T,?> col = getTableColumn(cell);
+        Object key = col == null ? null : getCellReuseKey(col);
+        if (key != null) {
+            cellsMap.remove(col);
+            cell.updateIndex(-1);
+            cellPool.computeIfAbsent(key, k -> new ArrayList<>()).add(cell);
+        }
+    }
+
+    /*
+     * Disposes the pooled cells. They still refer to the columns they last
+     * showed, so keeping them across column changes would retain removed
+     * columns.
+     */
+    private void clearCellPool() {
+        for (List<R> pooledCells : cellPool.values()) {
+            for (R cell : pooledCells) {
+                if (cell.getSkin() != null) {
+                    cell.getSkin().dispose();
+                    cell.setSkin(null);
+                }
+            }
+        }
+        cellPool.clear();
+    }
+
     private boolean isColumnPartiallyOrFullyVisible(double start, double width, VirtualFlow<C> virtualFlow) {
         double end = start + width;
 
@@ -639,12 +807,19 @@ public abstract class TableRowSkinBase<T,
             }
             cellsMap.clear();
         }
+        clearCellPool();
 
         ObservableList<? extends TableColumnBase/*<T,?>*/> columns = getVisibleLeafColumns();
 
         cellsMap = new WeakHashMap<>(columns.size());
         getChildren().clear();
 
+        // with virtualized columns, only the cells of the columns in view are
+        // created, on layout
+        if (getColumnVirtualizationSkin(getVirtualFlow()) != null) {
+            return;
+        }
+
         for (TableColumnBase col : columns) {
             if (cellsMap.containsKey(col)) {
                 continue;
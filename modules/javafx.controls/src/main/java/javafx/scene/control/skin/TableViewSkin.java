@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,6 +36,7 @@ import javafx.scene.AccessibleAttribute;
 import javafx.scene.Node;
 import javafx.scene.control.Control;
 import javafx.scene.control.ScrollBar;
+import javafx.scene.control.Skin;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TablePosition;
@@ -219,6 +220,21 @@ public class TableViewSkin<T> extends TableViewSkinBase<T, T, TableView<T>, Tabl
         return cell;
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * Overridden to return a table row without cells.
+     * @since 27
+     */
+    @Override protected TableRow<T> createPlaceholderCell() {
+        TableRow<T> cell = new TableRow<>() {
+            @Override protected Skin<?> createDefaultSkin() {
+                return new CellSkinBase<>(this);
+            }
+        };
+        cell.getStyleClass().add("placeholder-cell");
+        return cell;
+    }
+
     /** {@inheritDoc} */
     @Override protected int getItemCount() {
         TableView<T> tableView = getSkinnable();
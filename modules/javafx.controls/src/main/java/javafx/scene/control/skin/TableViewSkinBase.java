@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -152,6 +152,10 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
 
     private int visibleColCount;
 
+    // The x offset of each visible leaf column, followed by the total width
+    // of the columns, or null when a width or the columns have changed.
+    private double[] columnOffsets;
+
     boolean needCellsReconfigured = false;
 
     private int itemCount = -1;
@@ -166,6 +170,7 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
 
     private ListChangeListener<S> rowCountListener = c -> {
         while (c.next()) {
+            flow.itemsChanged(c);
             if (c.wasReplaced()) {
                 // JDK-8118897: Support for when an item is replaced with itself (but
                 // updated internal values that should be shown visually).
@@ -209,6 +214,7 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
         // using 'needCellsReconfigured' here rather than 'needCellsRebuilt'
         // as otherwise performance suffers massively (JDK-8124403)
         needCellsReconfigured = true;
+        columnOffsets = null;
         if (getSkinnable() != null) {
             getSkinnable().requestLayout();
         }
@@ -589,6 +595,51 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
         tableHeaderRow.updateScrollX();
     }
 
+    /**
+     * Returns whether the columns are virtualized, that is whether the rows
+     * and the header only hold cells for the columns that intersect the
+     * viewport. This requires a fixed cell size, as otherwise the height of a
+     * row depends on the cells of all its columns.
+     */
+    boolean isColumnVirtualizationEnabled() {
+        return flow.getFixedCellSize() > 0;
+    }
+
+    /**
+     * Returns the x offset of each visible leaf column, followed by the total
+     * width of the columns. The offsets are shared by all the rows, so that
+     * they can find the columns in view with a binary search.
+     */
+    double[] getColumnOffsets() {
+        final List<? extends TC> columns = getVisibleLeafColumns();
+        if (columnOffsets == null || columnOffsets.length != columns.size() + 1) {
+            double[] offsets = new double[columns.size() + 1];
+            for (int i = 0, max = columns.size(); i < max; i++) {
+                offsets[i + 1] = offsets[i] + snapSizeX(columns.get(i).getWidth());
+            }
+            columnOffsets = offsets;
+        }
+        return columnOffsets;
+    }
+
+    /**
+     * Returns the index of the first visible leaf column that ends after the
+     * given x offset, or the column count if there is none.
+     */
+    static int getColumnIndex(double[] offsets, double x) {
+        int low = 0;
+        int high = offsets.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid + 1] > x) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
     /**
      * Called when the focus is set on the cell above the current focused cell in order to scroll to it to make it
      * visible.
@@ -712,6 +763,7 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
         if (newList != null) {
             newList.addListener(weakRowCountListener);
         }
+        flow.discardItemChanges();
 
         markItemCountDirty();
         getSkinnable().requestLayout();
@@ -833,6 +885,7 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
      */
     private void updateVisibleColumnCount() {
         visibleColCount = getVisibleLeafColumns().size();
+        columnOffsets = null;
 
         updatePlaceholderRegionVisibility();
         requestRebuildCells();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package javafx.scene.control.skin;
 
+import java.lang.ref.Reference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -291,6 +292,18 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
         return cell.getTableColumn();
     }
 
+    /** {@inheritDoc} */
+    @Override Object getCellReuseKey(TableColumnBase<TreeItem<T>, ?> tc) {
+        return ((TreeTableColumn<T, ?>) tc).getCellFactory();
+    }
+
+    /** {@inheritDoc} */
+    @Override void updateCellColumn(TreeTableCell<T, ?> cell, TableColumnBase<TreeItem<T>, ?> tc) {
+        TreeTableColumn tableColumn = (TreeTableColumn<T, ?>) tc;
+        cell.updateTableColumn(tableColumn);
+        cell.updateTreeTableView(tableColumn.getTreeTableView());
+    }
+
     /** {@inheritDoc} */
     @Override protected ObjectProperty<Node> graphicProperty() {
         if (treeItem == null) return null;
@@ -440,7 +453,9 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                                 /* This is the row-based case */
                                 column = treeTableView.getVisibleLeafColumn(0);
                             }
-                            TreeTableCell<T,?> cell = cellsMap.get(column).get();
+                            // with virtualized columns, there may be no cell for the column
+                            Reference<TreeTableCell<T,?>> cellRef = cellsMap.get(column);
+                            TreeTableCell<T,?> cell = cellRef == null ? null : cellRef.get();
                             if (cell != null) selection.add(cell);
                         }
                         return FXCollections.observableArrayList(selection);
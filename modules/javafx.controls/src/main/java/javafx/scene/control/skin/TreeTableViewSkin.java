@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,6 +38,7 @@ import javafx.scene.AccessibleAttribute;
 import javafx.scene.Node;
 import javafx.scene.control.Control;
 import javafx.scene.control.ScrollBar;
+import javafx.scene.control.Skin;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableCell;
 import javafx.scene.control.TreeTableColumn;
@@ -319,6 +320,21 @@ public class TreeTableViewSkin<T> extends TableViewSkinBase<T, TreeItem<T>, Tree
         return cell;
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * Overridden to return a tree table row without cells.
+     * @since 27
+     */
+    @Override protected TreeTableRow<T> createPlaceholderCell() {
+        TreeTableRow<T> cell = new TreeTableRow<>() {
+            @Override protected Skin<?> createDefaultSkin() {
+                return new CellSkinBase<>(this);
+            }
+        };
+        cell.getStyleClass().add("placeholder-cell");
+        return cell;
+    }
+
     /** {@inheritDoc} */
     @Override protected int getItemCount() {
         return getSkinnable().getExpandedItemCount();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,8 @@
 
 package javafx.scene.control.skin;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.control.Control;
 import javafx.scene.control.IndexedCell;
 import javafx.scene.control.ScrollToEvent;
@@ -148,6 +150,58 @@ public abstract class VirtualContainerBase<C extends Control, I extends IndexedC
         return flow;
     }
 
+    // --- Deferred Cell Update
+    private BooleanProperty deferredCellUpdate;
+
+    public final void setDeferredCellUpdate(boolean value) {
+        deferredCellUpdateProperty().set(value);
+    }
+
+    public final boolean isDeferredCellUpdate() {
+        return deferredCellUpdate != null && deferredCellUpdate.get();
+    }
+
+    /**
+     * Whether the cells of this container are updated with a time budget per
+     * frame. When enabled, items that cannot be shown in time are temporarily
+     * shown with the placeholder cells returned by
+     * {@link #createPlaceholderCell()}, and are replaced with real cells over
+     * the following pulses. This keeps scrolling smooth when updating the
+     * cells is expensive.
+     *
+     * @return the deferred cell update property
+     * @see VirtualFlow#placeholderCellFactoryProperty()
+     * @defaultValue false
+     * @since 27
+     */
+    public final BooleanProperty deferredCellUpdateProperty() {
+        if (deferredCellUpdate == null) {
+            deferredCellUpdate = new SimpleBooleanProperty(this, "deferredCellUpdate") {
+                @Override protected void invalidated() {
+                    flow.setPlaceholderCellFactory(get() ? f -> createPlaceholderCell() : null);
+                }
+            };
+        }
+        return deferredCellUpdate;
+    }
+
+    /**
+     * Creates a cell that is shown in place of an item while the cell update
+     * for that item is deferred. The placeholder cell is given the index of
+     * the item, and should be cheap to update. It should not be associated
+     * with the control, so that it neither shows the item nor takes part in
+     * the selection, focus or editing of the control.
+     * If not overridden, this method returns null, and no cell update is
+     * deferred.
+     *
+     * @return a new placeholder cell, or null
+     * @see #deferredCellUpdateProperty()
+     * @since 27
+     */
+    protected I createPlaceholderCell() {
+        return null;
+    }
+
     /**
      * Call this method to indicate that the item count should be updated on the next pulse.
      */
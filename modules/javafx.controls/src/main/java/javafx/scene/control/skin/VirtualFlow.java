@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package javafx.scene.control.skin;
 
 import com.sun.javafx.scene.ParentHelper;
+import com.sun.javafx.scene.control.CellSizeIndex;
 import com.sun.javafx.scene.control.Logging;
 import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.VirtualScrollBar;
@@ -35,6 +36,7 @@ import com.sun.javafx.scene.traversal.Direction;
 import com.sun.javafx.scene.traversal.ParentTraversalEngine;
 import com.sun.javafx.scene.traversal.TraversalContext;
 import javafx.animation.KeyFrame;
+import javafx.application.Platform;
 import javafx.animation.Timeline;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
@@ -48,6 +50,7 @@ import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventDispatcher;
 import javafx.event.EventHandler;
@@ -73,6 +76,7 @@ import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 /**
  * Implementation of a virtualized container using a cell based mechanism. This
@@ -109,6 +113,18 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     private static final String NEW_CELL = "newcell";
 
+    /**
+     * Indicates that this cell was created by the placeholder cell factory.
+     */
+    private static final String PLACEHOLDER_CELL = "placeholdercell";
+
+    /**
+     * With a placeholder cell factory, the time in nanoseconds that may be
+     * spent updating cells within each frame, and the length of a frame.
+     */
+    private static final long CELL_UPDATE_BUDGET = 4_000_000L;
+    private static final long CELL_UPDATE_FRAME = 16_000_000L;
+
     private static final double GOLDEN_RATIO_MULTIPLIER = 0.618033987;
 
     /**
@@ -195,6 +211,23 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     final ArrayLinkedList<T> pile = new ArrayLinkedList<>();
 
+    /**
+     * The placeholder cells that can be reused later, kept apart from the
+     * pile so that they are never used to show an item.
+     */
+    private final ArrayLinkedList<T> placeholderPile = new ArrayLinkedList<>();
+
+    // The start of the current frame, and the time spent updating cells in it
+    private long cellUpdateFrameStart;
+    private long cellUpdateTime;
+
+    // The clock that the cell updates are timed with, package for testing
+    LongSupplier cellUpdateClock = System::nanoTime;
+
+    // The scene the placeholder cells update is scheduled on, if any
+    private Scene placeholderUpdateScene;
+    private final Runnable placeholderUpdater = this::updatePlaceholderCells;
+
     /**
      * A special cell used to accumulate bounds, such that we reduce object
      * churn. This cell must be recreated whenever the cell factory function
@@ -275,15 +308,25 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     double estimatedSize = -1d;
 
     /**
-     * A list containing the cached version of the calculated size (height for
+     * An index containing the cached version of the calculated size (height for
      * vertical, width for horizontal) for a (fictive or real) cell for
      * each element of the backing data.
-     * This list is used to calculate the estimatedSize.
-     * The list is not expected to be complete, but it is always up to date.
-     * When the size of the items in the backing list changes, this list is
-     * cleared.
+     * This index is used to calculate the estimatedSize, and to convert between
+     * offsets and cell indices in logarithmic time.
+     * The index is not expected to be complete, but it is always up to date.
+     * When the size of the items in the backing list changes, the sizes are
+     * moved with the items that were added or removed, if these changes were
+     * reported, otherwise this index is cleared.
      */
-    private ArrayList<Double> itemSizeCache = new ArrayList<>();
+    private final CellSizeIndex itemSizeCache = new CellSizeIndex();
+
+    /**
+     * The item additions and removals reported since the cell count last
+     * changed, as {from, delta} pairs in the order they happened, and the
+     * change of the cell count they add up to.
+     */
+    private final List<int[]> pendingItemChanges = new ArrayList<>();
+    private int pendingItemDelta = 0;
 
     // used for panning the virtual flow
     private double lastX;
@@ -869,10 +912,19 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             int oldIndex = computeCurrentIndex(oldCount);
             double oldOffset = computeViewportOffset(getPosition(), oldCount);
             int cellCount = get();
+            if (!pendingItemChanges.isEmpty() && cellCount - oldCount == pendingItemDelta) {
+                // Keep the known sizes, and the first visible item in place.
+                // The sizes past the old count were measured on empty cells.
+                if (itemSizeCache.size() > oldCount) {
+                    itemSizeCache.remove(oldCount, itemSizeCache.size() - oldCount);
+                }
+                oldIndex = applyItemChanges(oldIndex);
+            } else {
+                resetSizeEstimates();
+            }
             if (oldIndex > cellCount) {
                 oldIndex = cellCount;
             }
-            resetSizeEstimates();
             getOrCreateCellSize(oldIndex);
             recalculateAndImproveEstimatedSize(DEFAULT_IMPROVEMENT, oldIndex, oldOffset);
 
@@ -1016,6 +1068,48 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
 
+    // --- Placeholder Cell Factory
+    private ObjectProperty<Callback<VirtualFlow<T>, T>> placeholderCellFactory;
+
+    public final void setPlaceholderCellFactory(Callback<VirtualFlow<T>, T> value) {
+        placeholderCellFactoryProperty().set(value);
+    }
+
+    public final Callback<VirtualFlow<T>, T> getPlaceholderCellFactory() {
+        return placeholderCellFactory == null ? null : placeholderCellFactory.get();
+    }
+
+    /**
+     * Setting a placeholder cell factory enables deferred cell updates. While
+     * laying out or scrolling, the VirtualFlow then only spends a few
+     * milliseconds per frame updating cells to show new items. The items it
+     * has no time left for are shown with placeholder cells, created by this
+     * factory, and the VirtualFlow replaces them with real cells over the
+     * following pulses. Placeholders that are scrolled out of view are
+     * discarded without their items ever being shown.
+     *
+     * <p>The placeholder cells are given the index of the item they stand
+     * for, so they must be cheap to update. The sizes of the items are
+     * still measured with real cells unless the fixed cell size is set.
+     *
+     * @return the placeholder cell factory property
+     * @since 27
+     */
+    public final ObjectProperty<Callback<VirtualFlow<T>, T>> placeholderCellFactoryProperty() {
+        if (placeholderCellFactory == null) {
+            placeholderCellFactory = new SimpleObjectProperty<>(this, "placeholderCellFactory") {
+                @Override protected void invalidated() {
+                    // The placeholders in use are replaced by the update
+                    // scheduled for them, the piled ones are dropped.
+                    sheetChildren.removeAll(placeholderPile);
+                    placeholderPile.clear();
+                }
+            };
+        }
+        return placeholderCellFactory;
+    }
+
+
 
     /* *************************************************************************
      *                                                                         *
@@ -1088,6 +1182,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
             cells.clear();
             pile.clear();
+            placeholderPile.clear();
             releaseAllPrivateCells();
         } else if (needsRebuildCells) {
             lastWidth = -1;
@@ -1361,6 +1456,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         lastPosition = getPosition();
         recalculateEstimatedSize();
         cleanPile();
+        schedulePlaceholderUpdate();
     }
 
     /**
@@ -1583,8 +1679,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         T targetCell = getVisibleCell(targetIndex + indexDiff);
         if (targetCell != null) {
-            T cell = getAvailableCell(targetIndex);
-            setCellIndex(cell, targetIndex);
+            T cell = getCellForIndex(targetIndex);
             resizeCell(cell);
             setMaxPrefBreadth(Math.max(getMaxPrefBreadth(), getCellBreadth(cell)));
             cell.setVisible(true);
@@ -1755,6 +1850,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         // Finally, update the scroll bars
         updateScrollBarsAndCells(false);
+        schedulePlaceholderUpdate();
 
         // notify
         return answer;
@@ -2012,7 +2108,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private void positionCell(T cell, double position) {
-        updateCellSize(cell);
+        if (!isPlaceholderCell(cell)) {
+            updateCellSize(cell);
+        }
         if (isVertical()) {
             cell.setLayoutX(0);
             cell.setLayoutY(snapSpaceY(position));
@@ -2141,8 +2239,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         }
         while (index >= 0 && (offset > 0 || first)) {
 
-            cell = getAvailableCell(index);
-            setCellIndex(cell, index);
+            cell = getCellForIndex(index);
             resizeCell(cell); // resize must be after config
             cells.addFirst(cell);
 
@@ -2235,8 +2332,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                     return filledWithNonEmpty;
                 }
             }
-            T cell = getAvailableCell(index);
-            setCellIndex(cell, index);
+            T cell = getCellForIndex(index);
             resizeCell(cell); // resize happens after config!
             cells.addLast(cell);
             // Position the cell and update the max pref
@@ -2267,8 +2363,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             double distance = viewportLength - end;
             while (prospectiveEnd < viewportLength && index != 0 && (-start) < distance) {
                 index--;
-                T cell = getAvailableCell(index);
-                setCellIndex(cell, index);
+                T cell = getCellForIndex(index);
                 resizeCell(cell); // resize must be after config
                 cells.addFirst(cell);
                 double cellLength = getCellLength(cell);
@@ -2838,7 +2933,99 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     private void addToPile(T cell) {
         assert cell != null;
-        pile.addLast(cell);
+        if (isPlaceholderCell(cell)) {
+            placeholderPile.addLast(cell);
+        } else {
+            pile.addLast(cell);
+        }
+    }
+
+    /**
+     * Gets a cell from {@link #getAvailableCell(int)} and sets its index.
+     * With a placeholder cell factory, once the cell updates of the current
+     * frame have used up their time budget, a placeholder cell is returned
+     * instead, unless the pile has a cell that already shows the item.
+     */
+    private T getCellForIndex(int index) {
+        Callback<VirtualFlow<T>, T> factory = getPlaceholderCellFactory();
+        if (factory == null) {
+            T cell = getAvailableCell(index);
+            setCellIndex(cell, index);
+            return cell;
+        }
+
+        long now = cellUpdateClock.getAsLong();
+        if (now - cellUpdateFrameStart > CELL_UPDATE_FRAME) {
+            cellUpdateFrameStart = now;
+            cellUpdateTime = 0;
+        }
+        if (cellUpdateTime >= CELL_UPDATE_BUDGET && !isInPile(index)) {
+            T cell = placeholderPile.isEmpty() ? null : placeholderPile.removeLast();
+            if (cell == null) {
+                cell = factory.call(this);
+                if (cell != null) {
+                    cell.getProperties().put(PLACEHOLDER_CELL, null);
+                }
+            }
+            if (cell != null) {
+                if (cell.getParent() == null) {
+                    sheetChildren.add(cell);
+                }
+                setCellIndex(cell, index);
+                return cell;
+            }
+        }
+
+        T cell = getAvailableCell(index);
+        setCellIndex(cell, index);
+        cellUpdateTime += cellUpdateClock.getAsLong() - now;
+        return cell;
+    }
+
+    private boolean isInPile(int index) {
+        for (int i = 0, max = pile.size(); i < max; i++) {
+            if (getCellIndex(pile.get(i)) == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isPlaceholderCell(T cell) {
+        return cell.hasProperties() && cell.getProperties().containsKey(PLACEHOLDER_CELL);
+    }
+
+    /**
+     * Schedules the replacement of the placeholder cells in view with real
+     * cells on the next pulse.
+     */
+    private void schedulePlaceholderUpdate() {
+        Scene scene = getScene();
+        if (placeholderUpdateScene != null || scene == null) {
+            return;
+        }
+        for (int i = 0, max = cells.size(); i < max; i++) {
+            if (isPlaceholderCell(cells.get(i))) {
+                placeholderUpdateScene = scene;
+                scene.addPreLayoutPulseListener(placeholderUpdater);
+                Platform.requestNextPulse();
+                return;
+            }
+        }
+    }
+
+    private void updatePlaceholderCells() {
+        placeholderUpdateScene.removePreLayoutPulseListener(placeholderUpdater);
+        placeholderUpdateScene = null;
+        // The layout reuses the real cells that already show their item, and
+        // replaces as many placeholders as the budget of the frame allows.
+        // It schedules another update if some placeholders remain.
+        for (int i = 0, max = cells.size(); i < max; i++) {
+            if (isPlaceholderCell(cells.get(i))) {
+                reconfigureCells();
+                return;
+            }
+        }
     }
 
     private void cleanPile() {
@@ -2849,10 +3036,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             wasFocusOwner = wasFocusOwner || doesCellContainFocus(cell);
             cell.setVisible(false);
         }
+        for (int i = 0, max = placeholderPile.size(); i < max; i++) {
+            placeholderPile.get(i).setVisible(false);
+        }
 
         // Remove all cells that are in the pile and therefore not relevant anymore.
         if (sheetChildren.size() != cells.size()) {
             sheetChildren.removeAll(pile);
+            sheetChildren.removeAll(placeholderPile);
         }
 
         // Fix for JDK-8095710: Rather than have the cells do weird things with
@@ -2945,13 +3136,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             return maxOff - absoluteOffset;
         }
 
-        for (int i = 0; i < localCellCount; i++) {
-            double h = getCellSize(i);
-            if (h < 0) h = estSize;
-            if (bound + h > absoluteOffset) {
-                return absoluteOffset - bound;
-            }
-            bound += h;
+        int index = itemSizeCache.getIndex(absoluteOffset, estSize, localCellCount);
+        if (index < localCellCount) {
+            bound = itemSizeCache.getOffset(index, estSize);
+            return absoluteOffset - bound;
         }
         return 0d;
     }
@@ -2964,13 +3152,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (cellCount <= 0) {
             setPosition(0.0f);
         } else {
-            double targetOffset = 0;
             double estSize = estimatedSize/cellCount;
-            for (int i = 0; i < index; i++) {
-                double cz = getCellSize(i);
-                if (cz < 0) cz = estSize;
-                targetOffset = targetOffset+ cz;
-            }
+            double targetOffset = itemSizeCache.getOffset(index, estSize);
             this.absoluteOffset = (estimatedSize < viewportLength)  ? 0  : targetOffset;
             adjustPosition();
         }
@@ -3025,15 +3208,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private double computeBaseOffset(int index) {
-        double baseOffset = 0d;
         int currentCellCount = getCellCount();
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < index; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            baseOffset += nextSize;
-        }
-        return baseOffset;
+        return itemSizeCache.getOffset(index, estSize);
     }
 
     /**
@@ -3045,15 +3222,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private int computeCurrentIndex(int currentCellCount) {
-        double total = 0;
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < currentCellCount; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            total = total + nextSize;
-            if (total > absoluteOffset) {
-                return i;
-            }
+        int index = itemSizeCache.getIndex(absoluteOffset, estSize, currentCellCount);
+        if (index < currentCellCount) {
+            return index;
         }
         return currentCellCount == 0 ? 0 : currentCellCount - 1;
     }
@@ -3087,21 +3259,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private double getOrCreateCellSize (int idx, boolean create) {
         if (idx < 0) return -1;
-        // is the current cache long enough to contain idx?
-        if (itemSizeCache.size() > idx) {
-            // is there a non-null value stored in the cache?
-            if (itemSizeCache.get(idx) != null) {
-                return itemSizeCache.get(idx);
-            }
+        // is there a size stored in the cache?
+        double cachedSize = itemSizeCache.get(idx);
+        if (cachedSize >= 0) {
+            return cachedSize;
         }
         if (!create) return -1;
         boolean doRelease = false;
 
-        // Make sure we have enough space in the cache to store this index
-        while (idx >= itemSizeCache.size()) {
-            itemSizeCache.add(itemSizeCache.size(), null);
-        }
-
         double answer = 1d;
         if (getFixedCellSize() > 0) {
             answer = getFixedCellSize();
@@ -3141,16 +3306,21 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         int cellIndex = cell.getIndex();
 
         if (itemSizeCache.size() > cellIndex) {
-            Double oldSize = itemSizeCache.get(cellIndex);
+            double oldSize = itemSizeCache.get(cellIndex);
             double newSize = getCellLength(cell);
-            itemSizeCache.set(cellIndex, newSize);
-            if ((oldSize != null) && !oldSize.equals(newSize)) {
+            if ((oldSize >= 0) && (oldSize != newSize)) {
+                // The current index is computed with the old size, as the
+                // absolute offset was, so that a cell above it changing
+                // size does not move it
                 int currentIndex = computeCurrentIndex();
                 double oldOffset = computeViewportOffset(getPosition());
+                itemSizeCache.set(cellIndex, newSize);
                 if ((cellIndex == currentIndex) && (oldOffset != 0)) {
                     oldOffset = oldOffset + newSize - oldSize;
                 }
                 recalculateAndImproveEstimatedSize(0, currentIndex, oldOffset);
+            } else {
+                itemSizeCache.set(cellIndex, newSize);
             }
         }
     }
@@ -3190,27 +3360,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 added++;
             }
             cacheCount = itemSizeCache.size();
-            int cnt = 0;
-            double tot = 0d;
-            for (int i = 0; (i < itemCount && i < cacheCount); i++) {
-                Double il = itemSizeCache.get(i);
-                if (il != null) {
-                    tot = tot + il;
-                    cnt++;
-                }
-            }
+            int end = Math.min(itemCount, cacheCount);
+            int cnt = itemSizeCache.getKnownCount(end);
+            double tot = itemSizeCache.getKnownSum(end);
             this.estimatedSize = cnt == 0 ? 1d : tot * itemCount / cnt;
             double estSize = estimatedSize / itemCount;
 
             if (keepRatio) {
-                double newOffset = 0;
-                for (int i = 0; i < oldIndex; i++) {
-                    double h = getCellSize(i);
-                    if (h < 0) {
-                        h = estSize;
-                    }
-                    newOffset += h;
-                }
+                double newOffset = itemSizeCache.getOffset(oldIndex, estSize);
                 this.absoluteOffset = newOffset + oldOffset;
                 adjustPosition();
             }
@@ -3221,9 +3378,72 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private void resetSizeEstimates() {
         itemSizeCache.clear();
+        pendingItemChanges.clear();
+        pendingItemDelta = 0;
         this.estimatedSize = 1d;
     }
 
+    /**
+     * Reports a step of a change of the items backing the cells, before the
+     * cell count is updated, so that the known cell sizes are moved with
+     * their items instead of being discarded when the cell count changes.
+     */
+    void itemsChanged(ListChangeListener.Change<?> c) {
+        if (c.wasPermutated() || c.wasUpdated()) {
+            return;
+        }
+        if (c.wasRemoved()) {
+            pendingItemChanges.add(new int[] {c.getFrom(), -c.getRemovedSize()});
+            pendingItemDelta -= c.getRemovedSize();
+        }
+        if (c.wasAdded()) {
+            pendingItemChanges.add(new int[] {c.getFrom(), c.getAddedSize()});
+            pendingItemDelta += c.getAddedSize();
+        }
+        if (pendingItemDelta == 0) {
+            // The cell count will not change, so the known sizes are kept
+            // where they are, to be updated as the cells are laid out.
+            discardItemChanges();
+        }
+    }
+
+    /**
+     * Discards the reported item changes, for instance when the list of
+     * items backing the cells is replaced by another list.
+     */
+    void discardItemChanges() {
+        pendingItemChanges.clear();
+        pendingItemDelta = 0;
+    }
+
+    /**
+     * Applies the reported item changes to the known cell sizes, and returns
+     * the new index of the item at the given index, or of the item following
+     * it if it was removed.
+     */
+    private int applyItemChanges(int index) {
+        for (int[] change : pendingItemChanges) {
+            int from = change[0];
+            int delta = change[1];
+            if (delta > 0) {
+                itemSizeCache.insert(from, delta);
+                if (from < index) {
+                    index += delta;
+                }
+            } else {
+                itemSizeCache.remove(from, -delta);
+                if (from - delta <= index) {
+                    index += delta;
+                } else if (from < index) {
+                    index = from;
+                }
+            }
+        }
+        pendingItemChanges.clear();
+        pendingItemDelta = 0;
+        return index;
+    }
+
     private void setClipLayoutX(double x) {
         double snappedX = snapPositionX(x);
         clipView.setLayoutX(-snappedX);
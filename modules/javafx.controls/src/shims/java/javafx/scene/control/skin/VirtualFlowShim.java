@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,7 +25,9 @@
 package javafx.scene.control.skin;
 
 import java.util.List;
+import java.util.function.LongSupplier;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.control.IndexedCell;
@@ -69,6 +71,14 @@ public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
         super.recreateCells();
     }
 
+    public void shim_itemsChanged(ListChangeListener.Change<?> c) {
+        super.itemsChanged(c);
+    }
+
+    public void shim_setCellUpdateClock(LongSupplier clock) {
+        cellUpdateClock = clock;
+    }
+
     public double shim_getMaxPrefBreadth() {
         return super.getMaxPrefBreadth();
     }
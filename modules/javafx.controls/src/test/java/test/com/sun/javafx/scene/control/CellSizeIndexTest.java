@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.control.CellSizeIndex;
+
+public class CellSizeIndexTest {
+
+    private CellSizeIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new CellSizeIndex();
+    }
+
+    @Test
+    public void testUnknownSizes() {
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(0), 0);
+        index.set(40, 10);
+        assertEquals(41, index.size());
+        assertEquals(-1, index.get(39), 0);
+        assertEquals(10, index.get(40), 0);
+        assertEquals(1, index.getKnownCount(41));
+        assertEquals(0, index.getKnownCount(40));
+        assertEquals(10, index.getKnownSum(100), 0);
+    }
+
+    @Test
+    public void testOffsetUsesEstimateForUnknownSizes() {
+        index.set(0, 10);
+        index.set(2, 30);
+        assertEquals(0, index.getOffset(0, 5), 0);
+        assertEquals(10, index.getOffset(1, 5), 0);
+        assertEquals(15, index.getOffset(2, 5), 0);
+        assertEquals(45, index.getOffset(3, 5), 0);
+        assertEquals(45 + 5 * 100, index.getOffset(103, 5), 0);
+    }
+
+    @Test
+    public void testIndexAtOffset() {
+        index.set(0, 10);
+        index.set(2, 30);
+        assertEquals(0, index.getIndex(-1, 5, 10));
+        assertEquals(0, index.getIndex(0, 5, 10));
+        assertEquals(0, index.getIndex(9.5, 5, 10));
+        assertEquals(1, index.getIndex(10, 5, 10));
+        assertEquals(2, index.getIndex(15, 5, 10));
+        assertEquals(2, index.getIndex(44, 5, 10));
+        assertEquals(3, index.getIndex(45, 5, 10));
+        assertEquals(9, index.getIndex(79, 5, 10));
+        assertEquals(10, index.getIndex(80, 5, 10));
+        assertEquals(0, index.getIndex(100, 5, 0));
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        Random random = new Random(42);
+        int count = 5000;
+        double estimate = 7.5;
+        for (int i = 0; i < 3000; i++) {
+            index.set(random.nextInt(count), 1 + random.nextInt(40) / 3.0);
+        }
+        for (int i = 0; i < 200; i++) {
+            double offset = random.nextDouble() * count * 10;
+            double total = 0;
+            int expected = count;
+            for (int j = 0; j < count; j++) {
+                double size = index.get(j);
+                total += size < 0 ? estimate : size;
+                if (total > offset) {
+                    expected = j;
+                    break;
+                }
+            }
+            int actual = index.getIndex(offset, estimate, count);
+            assertEquals(expected, actual);
+            if (actual < count) {
+                assertEquals(total - sizeOf(actual, estimate), index.getOffset(actual, estimate), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void testIndexAtOffsetOfEachCell() {
+        for (int i = 0; i < 1000; i++) {
+            index.set(i, 1 + (i % 7) / 3.0);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, index.getIndex(index.getOffset(i, 1), 1, 1000));
+        }
+    }
+
+    @Test
+    public void testInsertAndRemove() {
+        for (int i = 0; i < 100; i++) {
+            index.set(i, i);
+        }
+        index.insert(10, 5);
+        assertEquals(105, index.size());
+        assertEquals(9, index.get(9), 0);
+        assertEquals(-1, index.get(10), 0);
+        assertEquals(-1, index.get(14), 0);
+        assertEquals(10, index.get(15), 0);
+        assertEquals(99, index.get(104), 0);
+        assertEquals(100, index.getKnownCount(105));
+
+        index.remove(10, 6);
+        assertEquals(99, index.size());
+        assertEquals(9, index.get(9), 0);
+        assertEquals(11, index.get(10), 0);
+        assertEquals(99, index.get(98), 0);
+        assertEquals(-1, index.get(99), 0);
+        assertEquals(99, index.getKnownCount(200));
+        assertEquals(4950 - 10, index.getKnownSum(200), 0);
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < 100; i++) {
+            index.set(i, 3);
+        }
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(5), 0);
+        assertEquals(0, index.getKnownCount(100));
+        assertEquals(50, index.getOffset(10, 5), 0);
+    }
+
+    private double sizeOf(int i, double estimate) {
+        double size = index.get(i);
+        return size < 0 ? estimate : size;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -71,6 +71,7 @@ import javafx.scene.control.cell.CheckBoxListCell;
 import javafx.scene.control.cell.ComboBoxListCell;
 import javafx.scene.control.cell.TextFieldListCell;
 import javafx.scene.control.skin.ListCellSkin;
+import javafx.scene.control.skin.ListViewSkin;
 import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
@@ -2786,6 +2787,24 @@ public class ListViewTest {
         assertEquals(newName, cell.getText());
     }
 
+    @Test
+    public void testPlaceholderCellIsNotAttachedToListView() {
+        listView.getItems().addAll("a", "b");
+        listView.getSelectionModel().select(0);
+        listView.getFocusModel().focus(0);
+        stageLoader = new StageLoader(listView);
+
+        ((ListViewSkin<?>) listView.getSkin()).setDeferredCellUpdate(true);
+        VirtualFlow<ListCell<String>> flow = (VirtualFlow<ListCell<String>>) VirtualFlowTestUtils.getVirtualFlow(listView);
+        ListCell<String> cell = flow.getPlaceholderCellFactory().call(flow);
+        cell.updateIndex(0);
+
+        assertNull(cell.getListView());
+        assertNull(cell.getItem());
+        assertFalse(cell.isSelected());
+        assertFalse(cell.isFocused());
+    }
+
     private static double toViewportLength(double prefHeight) {
         // it would be better to calculate this from listView but there is no API for this
         return prefHeight - 2;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,20 +34,27 @@ import javafx.scene.control.IndexedCell;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
+import javafx.scene.control.skin.NestedTableColumnHeader;
+import javafx.scene.control.skin.TableColumnHeader;
 import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.control.skin.VirtualFlowShim;
+import javafx.util.Callback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import test.com.sun.javafx.scene.control.infrastructure.StageLoader;
 import test.com.sun.javafx.scene.control.infrastructure.VirtualFlowTestUtils;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static test.com.sun.javafx.scene.control.infrastructure.ControlSkinFactory.attemptGC;
 
 class TableViewVirtualizationTest {
 
@@ -533,6 +540,108 @@ class TableViewVirtualizationTest {
         }
     }
 
+    @Test
+    void testHorizontalVirtualizationCreatesCellsOnlyForColumnsInView() {
+        List<TableCell<String, String>> createdCells = new ArrayList<>();
+        Callback<TableColumn<String, String>, TableCell<String, String>> cellFactory = _ -> {
+            TableCell<String, String> cell = new TableCell<>();
+            createdCells.add(cell);
+            return cell;
+        };
+
+        tableView.getColumns().clear();
+        for (int index = 0; index < 200; index++) {
+            TableColumn<String, String> tableColumn = new TableColumn<>(String.valueOf(index));
+            tableColumn.setPrefWidth(100);
+            tableColumn.setCellFactory(cellFactory);
+            tableView.getColumns().add(tableColumn);
+        }
+        Toolkit.getToolkit().firePulse();
+
+        int rowCount = VirtualFlowShim.getCells(VirtualFlowShim.getVirtualFlow(tableView.getSkin())).size();
+        assertTrue(createdCells.size() <= rowCount * 3, "created " + createdCells.size() + " cells");
+
+        // scrolling sideways reuses the cells of the columns that went out of view
+        int created = createdCells.size();
+        VirtualScrollBar hbar = VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(tableView);
+        for (double value = 0; value <= hbar.getMax(); value += 50) {
+            hbar.setValue(value);
+            Toolkit.getToolkit().firePulse();
+        }
+        assertTrue(createdCells.size() <= created + rowCount, "created " + createdCells.size() + " cells");
+
+        for (int index = 0; index < tableView.getItems().size(); index++) {
+            IndexedCell<?> row = getRow(index);
+            assertEquals(3, getCellCount(row));
+            for (Node node : row.getChildrenUnmodifiable()) {
+                TableCell<?, ?> cell = (TableCell<?, ?>) node;
+                assertEquals(index, cell.getIndex());
+                assertEquals(node.getLayoutX(), offsetOf(cell.getTableColumn()), 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testRemovedColumnIsNotRetainedByPooledCells() {
+        // a cell factory of its own keeps the cells of the first column
+        // pooled once it scrolls out of view
+        TableColumn<String, String> firstColumn = new TableColumn<>("first");
+        firstColumn.setPrefWidth(100);
+        firstColumn.setCellFactory(_ -> new TableCell<>());
+        tableView.getColumns().add(0, firstColumn);
+        Toolkit.getToolkit().firePulse();
+
+        VirtualScrollBar hbar = VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(tableView);
+        hbar.setValue(hbar.getMax());
+        Toolkit.getToolkit().firePulse();
+
+        WeakReference<TableColumn<String, String>> columnRef = new WeakReference<>(firstColumn);
+        tableView.getColumns().remove(firstColumn);
+        firstColumn = null;
+        Toolkit.getToolkit().firePulse();
+
+        attemptGC(columnRef);
+        assertNull(columnRef.get(), "removed column must be gc'ed");
+    }
+
+    @Test
+    void testHorizontalVirtualizationOfColumnHeaders() {
+        tableView.getColumns().clear();
+        for (int index = 0; index < 200; index++) {
+            TableColumn<String, String> tableColumn = new TableColumn<>(String.valueOf(index));
+            tableColumn.setPrefWidth(100);
+            tableView.getColumns().add(tableColumn);
+        }
+        Toolkit.getToolkit().firePulse();
+
+        NestedTableColumnHeader rootHeader = VirtualFlowTestUtils.getTableHeaderRow(tableView).getRootHeader();
+        assertEquals(200, rootHeader.getColumnHeaders().size());
+        assertTrue(countAttachedHeaders(rootHeader) <= 4);
+
+        VirtualScrollBar hbar = VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(tableView);
+        hbar.setValue(hbar.getMax());
+        Toolkit.getToolkit().firePulse();
+
+        assertTrue(countAttachedHeaders(rootHeader) <= 4);
+        TableColumnHeader lastHeader = rootHeader.getColumnHeaders().get(199);
+        assertSame(rootHeader, lastHeader.getParent());
+    }
+
+    private static int countAttachedHeaders(NestedTableColumnHeader rootHeader) {
+        return (int) rootHeader.getChildrenUnmodifiable().stream().filter(TableColumnHeader.class::isInstance).count();
+    }
+
+    private double offsetOf(TableColumn<?, ?> column) {
+        double offset = 0;
+        for (TableColumn<String, ?> c : tableView.getVisibleLeafColumns()) {
+            if (c == column) {
+                break;
+            }
+            offset += c.getWidth();
+        }
+        return offset;
+    }
+
     private IndexedCell<?> getRow(int index) {
         return VirtualFlowTestUtils.getVirtualFlow(tableView).getVisibleCell(index);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -41,6 +41,9 @@ import java.util.List;
 import java.util.function.DoubleSupplier;
 import java.util.function.Supplier;
 import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.event.Event;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -52,6 +55,7 @@ import javafx.scene.control.skin.VirtualFlowShim.ArrayLinkedListShim;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.shape.Circle;
+import com.sun.javafx.tk.Toolkit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -2118,6 +2122,137 @@ assertEquals(0, firstCell.getIndex());
         assertEquals(flow.cells, flow.sheetChildren);
     }
 
+    @Test
+    public void testFirstVisibleItemStaysInPlaceWhenItemsChangeAboveIt() {
+        ObservableList<Integer> items = FXCollections.observableArrayList();
+        for (int i = 0; i < 100; i++) {
+            items.add(i);
+        }
+        items.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                flow.shim_itemsChanged(c);
+            }
+            flow.setCellCount(items.size());
+        });
+        flow = new VirtualFlowShim<>();
+        flow.setCellFactory(p -> new CellStub(flow) {
+            @Override
+            protected double computeMinHeight(double width) {
+                return computePrefHeight(width);
+            }
+
+            @Override
+            protected double computeMaxHeight(double width) {
+                return computePrefHeight(width);
+            }
+
+            @Override
+            protected double computePrefHeight(double width) {
+                // The size follows the item rather than the index
+                int index = getIndex();
+                return index >= 0 && index < items.size() && items.get(index) % 10 == 0 ? 50 : 25;
+            }
+        });
+        flow.setCellCount(items.size());
+        flow.resize(300, 300);
+        pulse();
+
+        flow.scrollToTop(40);
+        flow.scrollPixels(10);
+        pulse();
+        IndexedCell<?> cell = flow.getFirstVisibleCell();
+        int index = cell.getIndex();
+        double position = flow.getCellPosition(cell);
+        assertTrue(index > 30, "index " + index);
+        assertTrue(position < 0, "position " + position);
+        assertEquals(50, flow.getCellSize(10), 0.1);
+
+        // items added above the first visible item
+        items.addAll(10, List.of(-1, -2, -3, -4, -5));
+        pulse();
+        cell = flow.getFirstVisibleCell();
+        assertEquals(index + 5, cell.getIndex());
+        assertEquals(position, flow.getCellPosition(cell), 0.1);
+        // the known sizes moved with their items
+        assertEquals(-1, flow.getCellSize(10), 0.1);
+        assertEquals(50, flow.getCellSize(15), 0.1);
+
+        // items removed above the first visible item
+        items.remove(0, 10);
+        pulse();
+        cell = flow.getFirstVisibleCell();
+        assertEquals(index - 5, cell.getIndex());
+        assertEquals(position, flow.getCellPosition(cell), 0.1);
+        assertEquals(50, flow.getCellSize(5), 0.1);
+
+        // items added below the first visible item
+        items.addAll(index, List.of(-6, -7));
+        pulse();
+        cell = flow.getFirstVisibleCell();
+        assertEquals(index - 5, cell.getIndex());
+        assertEquals(position, flow.getCellPosition(cell), 0.1);
+    }
+
+    @Test
+    public void testPlaceholderCellsAreReplacedOverPulses() {
+        long[] time = new long[1];
+        flow = new VirtualFlowShim<>();
+        flow.shim_setCellUpdateClock(() -> time[0]);
+        flow.setFixedCellSize(24);
+        flow.setCellFactory(p -> new CellStub(flow) {
+            @Override
+            public void updateIndex(int i) {
+                boolean changed = i != getIndex();
+                super.updateIndex(i);
+                if (changed) {
+                    // an expensive cell update
+                    time[0] += 2_000_000L;
+                }
+            }
+        });
+        flow.setPlaceholderCellFactory(p -> {
+            CellStub cell = new CellStub(flow);
+            cell.getStyleClass().add("placeholder");
+            return cell;
+        });
+        flow.setCellCount(100);
+
+        StageLoader loader = new StageLoader(flow);
+        flow.setPrefSize(250, 240);
+        flow.resize(250, 240);
+        pulse();
+
+        // two updates use up the budget of a frame
+        assertEquals(10, VirtualFlowShim.getCells(flow).size());
+        assertEquals(8, countPlaceholderCells());
+
+        for (int expected = 6; expected >= 0; expected -= 2) {
+            time[0] += 20_000_000L;
+            Toolkit.getToolkit().firePulse();
+            assertEquals(expected, countPlaceholderCells());
+        }
+        List<IndexedCell> cells = VirtualFlowShim.getCells(flow);
+        for (int i = 0; i < cells.size(); i++) {
+            assertEquals(i, cells.get(i).getIndex());
+        }
+
+        // no frame has passed, so the scrolled in items get placeholders
+        flow.scrollPixels(48);
+        assertEquals(2, countPlaceholderCells());
+
+        loader.dispose();
+    }
+
+    private int countPlaceholderCells() {
+        int count = 0;
+        for (IndexedCell cell : VirtualFlowShim.getCells(flow)) {
+            if (cell.getStyleClass().contains("placeholder")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
 }
 
 class GraphicalCellStub extends IndexedCellShim<Node> {
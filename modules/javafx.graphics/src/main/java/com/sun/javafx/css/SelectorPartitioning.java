@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -102,6 +102,7 @@ public final class SelectorPartitioning {
 
         private final PartitionKey key;
         private final Map<PartitionKey, Slot> slots;
+        private final StyleClassIndex styleClassIndex = new StyleClassIndex();
         private List<Selector> selectors;
 
         private Partition(PartitionKey key) {
@@ -127,6 +128,7 @@ public final class SelectorPartitioning {
                 Partition partition = getPartition(id,map);
                 slot = new Slot(partition);
                 slots.put(id, slot);
+                styleClassIndex.add(slot);
             }
             return slot;
         }
@@ -145,6 +147,9 @@ public final class SelectorPartitioning {
         // The other Slots to which this Slot refers
         private final Map<PartitionKey, Slot> referents;
 
+        // The referents whose partition is a set of style classes
+        private final StyleClassIndex styleClassIndex = new StyleClassIndex();
+
         // Selectors that match the path to this slot
         private List<Selector> selectors;
 
@@ -171,6 +176,7 @@ public final class SelectorPartitioning {
                 Partition p = getPartition(id, map);
                 slot = new Slot(p);
                 referents.put(id, slot);
+                styleClassIndex.add(slot);
 
             }
             return slot;
@@ -178,6 +184,58 @@ public final class SelectorPartitioning {
 
     }
 
+    /**
+     * An index of the Slots that lead to a Partition for a set of style classes.
+     * <p>
+     * A selector with style classes .a.b applies to a node only if the node has
+     * both style classes, so the Slot for {a, b} only needs to be considered
+     * for nodes that have style class 'a'. Each Slot is filed under one of
+     * its style classes, which lets match() look only at the Slots filed under
+     * the style classes of the node instead of testing every set of style
+     * classes that appears in the stylesheet.
+     */
+    private static final class StyleClassIndex {
+
+        private Map<String, List<Slot>> slotsByStyleClass;
+
+        private void add(Slot slot) {
+            if (!(slot.partition.key.key instanceof Set<?> styleClasses) || styleClasses.isEmpty()) {
+                return;
+            }
+
+            if (slotsByStyleClass == null) {
+                slotsByStyleClass = new HashMap<>();
+            }
+
+            final String styleClass = (String)styleClasses.iterator().next();
+            slotsByStyleClass.computeIfAbsent(styleClass, k -> new ArrayList<>()).add(slot);
+        }
+
+        /**
+         * Adds the selectors of the Slots whose style classes are all contained
+         * in the given set of style classes.
+         */
+        private void match(Set<String> styleClasses, List<Selector> selectors) {
+            if (slotsByStyleClass == null) {
+                return;
+            }
+
+            for (String styleClass : styleClasses) {
+                final List<Slot> slots = slotsByStyleClass.get(styleClass);
+                if (slots == null) continue;
+
+                for (int n = 0, nMax = slots.size(); n < nMax; n++) {
+                    final Slot s = slots.get(n);
+                    if (s.selectors == null || s.selectors.isEmpty()) continue;
+                    Set<String> other = (Set<String>)s.partition.key.key;
+                    if (styleClasses.containsAll(other)) {
+                        selectors.addAll(s.selectors);
+                    }
+                }
+            }
+        }
+    }
+
     /* A Map for selectors that have an id */
     private final Map<PartitionKey, Partition> idMap = new HashMap<>();
 
@@ -352,14 +410,7 @@ public final class SelectorPartitioning {
                                     selectors.addAll(slot.selectors);
                                 }
                                 if ((c & STYLECLASS_BIT) == STYLECLASS_BIT) {
-                                    Set<String> key = (Set<String>)styleClassKey.key;
-                                    for (Slot s : slot.referents.values()) {
-                                        if (s.selectors == null || s.selectors.isEmpty()) continue;
-                                        Set<String> other = (Set<String>)s.partition.key.key;
-                                        if (key.containsAll(other)) {
-                                            selectors.addAll(s.selectors);
-                                        }
-                                    }
+                                    slot.styleClassIndex.match((Set<String>)styleClassKey.key, selectors);
                                 }
 
                             }
@@ -394,14 +445,7 @@ public final class SelectorPartitioning {
                                 selectors.addAll(partition.selectors);
                             }
                             if ((c & STYLECLASS_BIT) == STYLECLASS_BIT) {
-                                Set<String> key = (Set<String>)styleClassKey.key;
-                                for (Slot s : partition.slots.values()) {
-                                    if (s.selectors == null || s.selectors.isEmpty()) continue;
-                                    Set<String> other = (Set<String>)s.partition.key.key;
-                                    if (key.containsAll(other)) {
-                                        selectors.addAll(s.selectors);
-                                    }
-                                }
+                                partition.styleClassIndex.match((Set<String>)styleClassKey.key, selectors);
                             }
                         }
                         // if typePK is 'A', make it '*', if it is '*' make it null
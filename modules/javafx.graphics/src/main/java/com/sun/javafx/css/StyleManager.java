@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -75,7 +75,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -192,7 +194,7 @@ final public class StyleManager {
         synchronized (styleLock) {
             CacheContainer container = cacheContainerMap.get(root);
             if (container == null) {
-                container = new CacheContainer();
+                container = getSharedCacheContainer(root, subScene);
                 cacheContainerMap.put(root, container);
             }
 
@@ -200,6 +202,147 @@ final public class StyleManager {
         }
     }
 
+    /*
+     * The styles cached by a CacheContainer only depend on the stylesheets of the scene, the
+     * user agent stylesheets and the stylesheets of parents. Media queries are evaluated each
+     * time a node is matched, and the stylesheets of parents are part of the keys within the
+     * CacheContainer. Scene roots that use the same scene stylesheets and user agent stylesheets
+     * can therefore share a CacheContainer.
+     */
+    private record SharedCacheKey(
+            List<String> sceneStylesheets,
+            String sceneUserAgentStylesheet,
+            String subSceneUserAgentStylesheet,
+            boolean isSubScene) {
+    }
+
+    /*
+     * CacheContainers that are shared by scene roots, in least-recently-used order. A container
+     * that is no longer used by any scene root is retained, so that a scene that is shown later
+     * with the same stylesheets starts with warm caches. Unused containers are evicted when their
+     * total size exceeds sharedCacheLimit.
+     */
+    // package for testing
+    final Map<SharedCacheKey, CacheContainer> sharedCacheContainers = new LinkedHashMap<>(16, 0.75f, true);
+
+    // package for testing
+    int sharedCacheLimit = Integer.getInteger("javafx.css.sharedStyleCacheLimit", 10000);
+
+    /*
+     * Shared cache statistics, guarded by styleLock.
+     */
+    private long sharedCacheHitCount;
+    private long sharedCacheMissCount;
+    private long sharedCacheEvictionCount;
+
+    private CacheContainer getSharedCacheContainer(Parent root, SubScene subScene) {
+        final Scene scene = subScene != null ? subScene.getScene() : root.getScene();
+        if (scene == null) {
+            return new CacheContainer();
+        }
+
+        final SharedCacheKey key = new SharedCacheKey(
+                Collections.unmodifiableList(new ArrayList<>(scene.getStylesheets())),
+                scene.getUserAgentStylesheet(),
+                subScene != null ? subScene.getUserAgentStylesheet() : null,
+                subScene != null);
+
+        CacheContainer container = sharedCacheContainers.get(key);
+        if (container != null) {
+            sharedCacheHitCount++;
+            return container;
+        }
+
+        sharedCacheMissCount++;
+        // Evict before adding the new container, which is not in use by the root yet
+        evictUnusedCacheContainers();
+        container = new CacheContainer();
+        container.sharedCacheKey = key;
+        sharedCacheContainers.put(key, container);
+        return container;
+    }
+
+    private boolean isShared(CacheContainer container) {
+        return container.sharedCacheKey != null && sharedCacheContainers.get(container.sharedCacheKey) == container;
+    }
+
+    private void evictUnusedCacheContainers() {
+        final Set<CacheContainer> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        used.addAll(cacheContainerMap.values());
+
+        int unusedSize = 0;
+        for (CacheContainer container : sharedCacheContainers.values()) {
+            if (!used.contains(container)) {
+                unusedSize += container.size();
+            }
+        }
+
+        final Iterator<CacheContainer> iterator = sharedCacheContainers.values().iterator();
+        while (unusedSize > sharedCacheLimit && iterator.hasNext()) {
+            final CacheContainer container = iterator.next();
+            if (used.contains(container)) {
+                continue;
+            }
+
+            unusedSize -= container.size();
+            iterator.remove();
+            container.clearCache();
+            sharedCacheEvictionCount++;
+        }
+    }
+
+    /**
+     * Returns the total size of the shared style caches, which is the number of
+     * style maps and style caches they hold, plus one for each shared cache.
+     */
+    public int getSharedStyleCacheSize() {
+        synchronized (styleLock) {
+            int size = 0;
+            for (CacheContainer container : sharedCacheContainers.values()) {
+                size += container.size();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Returns the number of times a scene root started using a shared style cache that already existed.
+     */
+    public long getSharedStyleCacheHitCount() {
+        synchronized (styleLock) {
+            return sharedCacheHitCount;
+        }
+    }
+
+    /**
+     * Returns the number of times a shared style cache was created for a scene root.
+     */
+    public long getSharedStyleCacheMissCount() {
+        synchronized (styleLock) {
+            return sharedCacheMissCount;
+        }
+    }
+
+    /**
+     * Returns the number of unused shared style caches that were evicted.
+     */
+    public long getSharedStyleCacheEvictionCount() {
+        synchronized (styleLock) {
+            return sharedCacheEvictionCount;
+        }
+    }
+
+    /**
+     * Resets the hit, miss and eviction counts of the shared style caches.
+     */
+    public void resetSharedStyleCacheStatistics() {
+        synchronized (styleLock) {
+            sharedCacheHitCount = 0;
+            sharedCacheMissCount = 0;
+            sharedCacheEvictionCount = 0;
+        }
+    }
+
     /**
      * StyleHelper uses this cache but it lives here so it can be cleared
      * when style-sheets change.
@@ -486,17 +629,27 @@ final public class StyleManager {
     public void stylesheetsChanged(Scene scene, Change<String> c) {
 
         synchronized (styleLock) {
-            // Clear the cache so the cache will be rebuilt.
-            Set<Entry<Parent,CacheContainer>> entrySet = cacheContainerMap.entrySet();
-            for(Entry<Parent,CacheContainer> entry : entrySet) {
+            // The scene roots no longer use the same stylesheets as the other users of their
+            // shared cache, so they will get a different cache when CSS is reapplied.
+            Iterator<Entry<Parent,CacheContainer>> entryIterator = cacheContainerMap.entrySet().iterator();
+            List<CacheContainer> removedContainers = new ArrayList<>();
+            while (entryIterator.hasNext()) {
+                Entry<Parent,CacheContainer> entry = entryIterator.next();
                 Parent parent = entry.getKey();
-                CacheContainer container = entry.getValue();
-                if (parent.getScene() == scene) {
-                    container.clearCache();
+                if (parent != null && parent.getScene() == scene) {
+                    entryIterator.remove();
+                    removedContainers.add(entry.getValue());
                 }
+            }
 
+            for (CacheContainer container : removedContainers) {
+                if (!isShared(container)) {
+                    container.clearCache();
+                }
             }
 
+            evictUnusedCacheContainers();
+
             c.reset();
             while(c.next()) {
                 if (c.wasRemoved()) {
@@ -530,7 +683,12 @@ final public class StyleManager {
             // JDK-8094828 - clean up CSS cache when Parent is removed from scene-graph
             CacheContainer removedContainer = cacheContainerMap.remove(parent);
             if (removedContainer != null) {
-                removedContainer.clearCache();
+                if (isShared(removedContainer)) {
+                    // Retain the container for scenes that use the same stylesheets
+                    evictUnusedCacheContainers();
+                } else {
+                    removedContainer.clearCache();
+                }
             }
 
             final List<String> stylesheets = parent.getStylesheets();
@@ -687,10 +845,34 @@ final public class StyleManager {
                 stylesheetContainer.selectorPartitioning.reset();
             }
 
+            // The stylesheet may be reloaded when it is used again, so shared caches
+            // for scenes that use the stylesheet must not be reused.
+            final Set<CacheContainer> usedContainers = Collections.newSetFromMap(new IdentityHashMap<>());
+            usedContainers.addAll(cacheContainerMap.values());
+
+            final Iterator<CacheContainer> sharedIterator = sharedCacheContainers.values().iterator();
+            while (sharedIterator.hasNext()) {
+                final CacheContainer container = sharedIterator.next();
+                final SharedCacheKey key = container.sharedCacheKey;
+                if (key.sceneStylesheets().contains(fname)
+                        || fname.equals(key.sceneUserAgentStylesheet())
+                        || fname.equals(key.subSceneUserAgentStylesheet())) {
+                    sharedIterator.remove();
+                    if (!usedContainers.contains(container)) {
+                        container.clearCache();
+                    }
+                }
+            }
+
+            // Both the containers in use and the unused shared containers may have cached
+            // styles from the stylesheet as a parent stylesheet.
+            final Set<CacheContainer> containers = Collections.newSetFromMap(new IdentityHashMap<>());
+            containers.addAll(usedContainers);
+            containers.addAll(sharedCacheContainers.values());
+
             // if container has no references, then remove it
-            for(Entry<Parent,CacheContainer> entry : cacheContainerMap.entrySet()) {
+            for(CacheContainer container : containers) {
 
-                CacheContainer container = entry.getValue();
                 if (container == null || container.cacheMap == null || container.cacheMap.isEmpty()) {
                     continue;
                 }
@@ -982,7 +1164,14 @@ final public class StyleManager {
                     DataURI dataUri = null;
 
                     if (url != null) {
-                        stylesheet = new CssParser().parse(url);
+                        final StylesheetCache cache = StylesheetCache.getInstance();
+                        if (cache != null) {
+                            stylesheet = cache.load(url);
+                        }
+
+                        if (stylesheet == null) {
+                            stylesheet = new CssParser().parse(url);
+                        }
                     } else {
                         dataUri = DataURI.tryParse(fname);
                     }
@@ -1425,6 +1614,10 @@ final public class StyleManager {
                 container.clearCache();
             }
 
+            for (CacheContainer container : sharedCacheContainers.values()) {
+                container.clearCache();
+            }
+
             StyleConverter.clearCache();
 
             for (Parent root : cacheContainerMap.keySet()) {
@@ -1541,6 +1734,67 @@ final public class StyleManager {
     // Stores weak references to regions which return non-null user agent stylesheets
     private final WeakHashMap<Region, String> weakRegionUserAgentStylesheetMap = new WeakHashMap<>();
 
+    /*
+     * Selector matching statistics. A node whose type, id and style classes were
+     * matched before is a cache hit and reuses the candidate selectors found by the
+     * SelectorPartitioning. A candidate selector that applies to the node is a
+     * selector hit, one that doesn't is a selector miss. The counts are guarded by
+     * styleLock.
+     */
+    private long matchCacheHitCount;
+    private long matchCacheMissCount;
+    private long selectorHitCount;
+    private long selectorMissCount;
+
+    /**
+     * Returns the number of times the candidate selectors for a node were found in the cache.
+     */
+    public long getMatchCacheHitCount() {
+        synchronized (styleLock) {
+            return matchCacheHitCount;
+        }
+    }
+
+    /**
+     * Returns the number of times the candidate selectors for a node had to be looked up in
+     * the selector index of the stylesheets.
+     */
+    public long getMatchCacheMissCount() {
+        synchronized (styleLock) {
+            return matchCacheMissCount;
+        }
+    }
+
+    /**
+     * Returns the number of candidate selectors that applied to the node they were tested against.
+     */
+    public long getSelectorHitCount() {
+        synchronized (styleLock) {
+            return selectorHitCount;
+        }
+    }
+
+    /**
+     * Returns the number of candidate selectors that did not apply to the node they were tested against.
+     */
+    public long getSelectorMissCount() {
+        synchronized (styleLock) {
+            return selectorMissCount;
+        }
+    }
+
+    /**
+     * Resets the selector matching statistics.
+     */
+    public void resetMatchStatistics() {
+        synchronized (styleLock) {
+            matchCacheHitCount = 0;
+            matchCacheMissCount = 0;
+            selectorHitCount = 0;
+            selectorMissCount = 0;
+        }
+    }
+
     /**
      * Finds matching styles for this Node.
      */
@@ -1641,7 +1895,10 @@ final public class StyleManager {
             Map<Key, Cache> cacheMap = cacheContainer.getCacheMap(parentStylesheets,regionUserAgentStylesheet);
             Cache cache = cacheMap.get(key);
 
-            if (cache == null) {
+            if (cache != null) {
+                matchCacheHitCount++;
+            } else {
+                matchCacheMissCount++;
 
                 // If the cache is null, then we need to create a new Cache and
                 // add it to the cache map
@@ -1817,10 +2074,19 @@ final public class StyleManager {
 
     private static List<String> cacheMapKey;
 
-    // Each Scene has its own cache
+    // Each Scene has its own cache, which is shared with scenes that use the same stylesheets
     // package for testing
     static class CacheContainer {
 
+        /*
+         * The key of this container in sharedCacheContainers, or null if the container is not shared.
+         */
+        private SharedCacheKey sharedCacheKey;
+
+        private int size() {
+            return 1 + (styleMapList != null ? styleMapList.size() : 0) + (styleCache != null ? styleCache.size() : 0);
+        }
+
         private Map<StyleCache.Key,StyleCache> getStyleCache() {
             if (styleCache == null) styleCache = new HashMap<>();
             return styleCache;
@@ -1995,7 +2261,7 @@ final public class StyleManager {
     /**
      * Creates and caches maps of styles, reusing them as often as practical.
      */
-    private static class Cache {
+    private class Cache {
 
         private static class Key {
             final long[] key;
@@ -2101,6 +2367,9 @@ final public class StyleManager {
                     final long mask = key[index] | 1l << s;
                     key[index] = mask;
                     nothingMatched = false;
+                    selectorHitCount++;
+                } else {
+                    selectorMissCount++;
                 }
             }
 
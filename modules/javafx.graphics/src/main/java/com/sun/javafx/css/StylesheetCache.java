@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import com.sun.javafx.logging.PlatformLogger;
+import com.sun.javafx.logging.PlatformLogger.Level;
+import com.sun.javafx.runtime.VersionInfo;
+import javafx.css.Stylesheet;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A persistent cache of parsed stylesheets that survives application restarts.
+ * <p>
+ * Parsing CSS text is a significant part of application startup. When the cache is enabled with the
+ * {@code javafx.css.cache.dir} system property, every stylesheet that would otherwise be parsed from
+ * CSS text is stored in the cache directory in binary CSS format, and subsequent launches load the
+ * binary form instead of parsing the text again.
+ * <p>
+ * A cache file is named after a hash of the stylesheet URL. It records a hash of the stylesheet content
+ * and of the content of all stylesheets that it imports, directly or transitively, since imported
+ * stylesheets are embedded in the binary form. A cache file is only used when all of these hashes match
+ * the current content, and is rewritten otherwise. Cache files are also invalidated by a change of the
+ * JavaFX runtime version.
+ * <p>
+ * The cache is only accessed while holding the {@code StyleManager} lock. Failures to read or write the
+ * cache are not fatal: the stylesheet is parsed from its CSS text instead.
+ */
+public final class StylesheetCache {
+
+    private static final String CACHE_DIR_PROPERTY = "javafx.css.cache.dir";
+    private static final int CACHE_FILE_MAGIC = 0x4a464343; // "JFCC"
+    private static final int CACHE_FILE_VERSION = 1;
+    private static final String CACHE_FILE_EXTENSION = ".bssc";
+
+    private static StylesheetCache instance;
+    private static boolean initialized;
+
+    /**
+     * Returns the cache that is configured with the {@code javafx.css.cache.dir} system property,
+     * or {@code null} if the cache is disabled.
+     */
+    public static StylesheetCache getInstance() {
+        if (!initialized) {
+            initialized = true;
+            String dir = System.getProperty(CACHE_DIR_PROPERTY);
+            if (dir != null && !dir.isBlank()) {
+                instance = new StylesheetCache(Path.of(dir));
+            }
+        }
+
+        return instance;
+    }
+
+    private record Dependency(String url, byte[] hash) {}
+
+    private final Path directory;
+
+    /**
+     * The dependencies of stylesheets that were loaded by this cache, keyed by stylesheet URL.
+     * The first dependency of each list is the stylesheet itself.
+     */
+    private final Map<String, List<Dependency>> dependencies = new HashMap<>();
+
+    private int hitCount;
+    private int missCount;
+
+    public StylesheetCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Loads the stylesheet at the specified URL, either from the cache or by parsing it and storing the
+     * result in the cache.
+     *
+     * @param url the URL of a CSS file
+     * @return the stylesheet, or {@code null} if the content of the URL could not be read
+     * @throws IOException if the stylesheet could not be parsed
+     */
+    public Stylesheet load(URL url) throws IOException {
+        final String urlString = url.toExternalForm();
+        final byte[] hash;
+
+        try {
+            hash = hash(url);
+        } catch (IOException | SecurityException e) {
+            // Let the parser report the error
+            return null;
+        }
+
+        final Path cacheFile = directory.resolve(HexFormat.of().formatHex(digest(urlString.getBytes(StandardCharsets.UTF_8))) + CACHE_FILE_EXTENSION);
+        final Stylesheet cached = readCacheFile(cacheFile, urlString, hash);
+        if (cached != null) {
+            hitCount++;
+            return cached;
+        }
+
+        missCount++;
+
+        final Stylesheet unmerged = StylesheetHelper.parseUnmerged(url);
+        final ByteArrayOutputStream bss = new ByteArrayOutputStream();
+        StylesheetHelper.writeBinary(unmerged, bss);
+
+        final List<Dependency> deps = collectDependencies(urlString, hash, unmerged);
+        if (deps != null) {
+            dependencies.put(urlString, deps);
+            writeCacheFile(cacheFile, deps, bss.toByteArray());
+        }
+
+        // Load the binary form so that the result is the same as when loading from the cache
+        return StylesheetHelper.loadBinary(new ByteArrayInputStream(bss.toByteArray()), urlString);
+    }
+
+    private List<Dependency> collectDependencies(String url, byte[] hash, Stylesheet unmerged) {
+        final List<Dependency> deps = new ArrayList<>();
+        final Set<String> urls = new HashSet<>();
+        deps.add(new Dependency(url, hash));
+        urls.add(url);
+
+        for (Stylesheet imported : StylesheetHelper.getImportedStylesheets(unmerged)) {
+            final String importUrl = imported.getUrl();
+            if (importUrl == null) {
+                return null;
+            }
+
+            List<Dependency> importDeps = dependencies.get(importUrl);
+            if (importDeps == null) {
+                try {
+                    importDeps = List.of(new Dependency(importUrl, hash(URI.create(importUrl).toURL())));
+                } catch (IOException | IllegalArgumentException | SecurityException e) {
+                    return null;
+                }
+            }
+
+            for (Dependency dep : importDeps) {
+                if (urls.add(dep.url())) {
+                    deps.add(dep);
+                }
+            }
+        }
+
+        return deps;
+    }
+
+    private Stylesheet readCacheFile(Path cacheFile, String url, byte[] hash) {
+        final byte[] bss;
+        final List<Dependency> deps = new ArrayList<>();
+
+        try (DataInputStream is = new DataInputStream(Files.newInputStream(cacheFile))) {
+            if (is.readInt() != CACHE_FILE_MAGIC
+                    || is.readInt() != CACHE_FILE_VERSION
+                    || !VersionInfo.getRuntimeVersion().equals(is.readUTF())) {
+                return null;
+            }
+
+            final int count = is.readInt();
+            for (int i = 0; i < count; i++) {
+                final String depUrl = is.readUTF();
+                final byte[] depHash = new byte[is.readUnsignedByte()];
+                is.readFully(depHash);
+                deps.add(new Dependency(depUrl, depHash));
+            }
+
+            if (deps.isEmpty() || !deps.get(0).url().equals(url) || !Arrays.equals(deps.get(0).hash(), hash)) {
+                return null;
+            }
+
+            for (int i = 1; i < count; i++) {
+                final Dependency dep = deps.get(i);
+                if (!Arrays.equals(dep.hash(), hash(URI.create(dep.url()).toURL()))) {
+                    return null;
+                }
+            }
+
+            bss = is.readAllBytes();
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | IllegalArgumentException | SecurityException e) {
+            final PlatformLogger logger = com.sun.javafx.util.Logging.getCSSLogger();
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Could not read stylesheet cache file " + cacheFile + ": " + e);
+            }
+
+            return null;
+        }
+
+        try {
+            final Stylesheet stylesheet = StylesheetHelper.loadBinary(new ByteArrayInputStream(bss), url);
+            dependencies.put(url, deps);
+            return stylesheet;
+        } catch (IOException | RuntimeException e) {
+            final PlatformLogger logger = com.sun.javafx.util.Logging.getCSSLogger();
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Could not load stylesheet cache file " + cacheFile + ": " + e);
+            }
+
+            return null;
+        }
+    }
+
+    private void writeCacheFile(Path cacheFile, List<Dependency> deps, byte[] bss) {
+        Path tempFile = null;
+
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, null, ".tmp");
+
+            try (DataOutputStream os = new DataOutputStream(Files.newOutputStream(tempFile))) {
+                os.writeInt(CACHE_FILE_MAGIC);
+                os.writeInt(CACHE_FILE_VERSION);
+                os.writeUTF(VersionInfo.getRuntimeVersion());
+                os.writeInt(deps.size());
+
+                for (Dependency dep : deps) {
+                    os.writeUTF(dep.url());
+                    os.writeByte(dep.hash().length);
+                    os.write(dep.hash());
+                }
+
+                os.write(bss);
+            }
+
+            // Other processes may be using the same cache directory, so they must never see a partial file
+            try {
+                Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            tempFile = null;
+        } catch (IOException | SecurityException e) {
+            final PlatformLogger logger = com.sun.javafx.util.Logging.getCSSLogger();
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Could not write stylesheet cache file " + cacheFile + ": " + e);
+            }
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException | SecurityException ignored) {
+                }
+            }
+        }
+    }
+
+    private static byte[] hash(URL url) throws IOException {
+        try (InputStream stream = url.openStream()) {
+            return digest(stream.readAllBytes());
+        }
+    }
+
+    private static byte[] digest(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,8 @@
 
 package com.sun.javafx.font;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import com.sun.javafx.scene.text.GlyphList;
 import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.BaseTransform;
@@ -41,6 +43,10 @@ public class CompositeStrike implements FontStrike {
     private FontStrike slot0Strike;
     private FontStrike[] strikeSlots;
 
+    // The slot strikes with prepared glyphs, kept for the lifetime of this
+    // strike since they are only weakly referenced by their font resource
+    private final Set<FontStrike> preparedSlotStrikes = ConcurrentHashMap.newKeySet();
+
     private FontStrikeDesc desc;
     DisposerRecord disposer;
 
@@ -62,6 +68,7 @@ public class CompositeStrike implements FontStrike {
                 }
             }
         }
+        preparedSlotStrikes.clear();
     }
 
     CompositeStrike(CompositeFontResource fontResource,
@@ -174,6 +181,21 @@ public class CompositeStrike implements FontStrike {
         return getStrikeSlot(slot).getGlyph(slotglyphCode);
     }
 
+    @Override
+    public void prepareGlyph(int glyphCode) {
+        // The strike slots are filled lazily by the rendering thread,
+        // so look up the slot strike from the font resource instead.
+        int slot = (glyphCode >>> 24);
+        int slotglyphCode = glyphCode & CompositeGlyphMapper.GLYPHMASK;
+        FontResource slotResource = fontResource.getSlotResource(slot);
+        if (slotResource != null) {
+            FontStrike strike = slotResource.getStrike(size, transform,
+                                                       getAAMode());
+            preparedSlotStrikes.add(strike);
+            strike.prepareGlyph(slotglyphCode);
+        }
+    }
+
      /**
      * Access to individual character advances are frequently needed for layout
      * understand that advance may vary for single glyph if ligatures or kerning
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,6 +47,13 @@ public interface FontStrike {
     public Metrics getMetrics();
     public Glyph getGlyph(char symbol);
     public Glyph getGlyph(int glyphCode);
+
+    /**
+     * Rasterizes the glyph ahead of its first use, so that rendering it
+     * later only has to upload its image. A strike whose glyphs cannot be
+     * rasterized outside of the rendering thread does nothing.
+     */
+    public void prepareGlyph(int glyphCode);
     public void clearDesc(); // for cache management.
     public int getAAMode();
 
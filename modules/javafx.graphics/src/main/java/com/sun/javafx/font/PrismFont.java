@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,9 +25,10 @@
 
 package com.sun.javafx.font;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import com.sun.javafx.geom.transform.BaseTransform;
 
-
 class PrismFont implements PGFont {
 
     private String name;
@@ -35,12 +36,22 @@ class PrismFont implements PGFont {
     protected FontResource fontResource;
     private int features;
 
+    /* Strikes are only weakly referenced by their font resource. The strikes
+     * with prepared glyphs are kept for as long as this font is used, so that
+     * they are not collected before the text is drawn.
+     */
+    private final Set<FontStrike> preparedStrikes = ConcurrentHashMap.newKeySet();
+
     PrismFont(FontResource fontResource, String name, float size) {
         this.fontResource = fontResource;
         this.name = name;
         this.fontSize = size;
     }
 
+    void retainPreparedStrike(FontStrike strike) {
+        preparedStrikes.add(strike);
+    }
+
     @Override
     public String getFullName() {
         return fontResource.getFullName();
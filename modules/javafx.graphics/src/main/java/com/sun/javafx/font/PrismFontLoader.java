@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,7 +34,11 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import com.sun.javafx.geom.transform.BaseTransform;
 
 public class PrismFontLoader extends FontLoader {
     private static PrismFontLoader theInstance = new PrismFontLoader();
@@ -254,6 +258,30 @@ public class PrismFontLoader extends FontLoader {
         return PrismFontFactory.getSystemFontSize();
     }
 
+    @Override public CompletableFuture<Void> prepareGlyphs(Font font,
+            BaseTransform transform, FontSmoothingType smoothingType,
+            int firstCodePoint, int lastCodePoint, Executor executor) {
+
+        Objects.requireNonNull(font, "font must not be null");
+        Objects.requireNonNull(transform, "transform must not be null");
+        Objects.requireNonNull(smoothingType, "smoothingType must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (firstCodePoint < 0 || lastCodePoint > Character.MAX_CODE_POINT ||
+            firstCodePoint > lastCodePoint) {
+            throw new IllegalArgumentException("Invalid code point range: " +
+                                               firstCodePoint + " - " +
+                                               lastCodePoint);
+        }
+        PGFont prismFont = (PGFont) FontHelper.getNativeFont(font);
+        BaseTransform tx = transform.copy();
+        int aaMode = smoothingType == FontSmoothingType.LCD
+                     ? FontResource.AA_LCD : FontResource.AA_GREYSCALE;
+        return CompletableFuture.runAsync(() ->
+            PrismFontUtils.prepareGlyphs(prismFont, tx, aaMode,
+                                         firstCodePoint, lastCodePoint),
+            executor);
+    }
+
     FontFactory installedFontFactory = null;
     private FontFactory getFontFactoryFromPipeline() {
         if (installedFontFactory != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,8 +25,8 @@
 
 package com.sun.javafx.font;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.sun.javafx.geom.Path2D;
 import com.sun.javafx.geom.Point2D;
@@ -38,7 +38,8 @@ import com.sun.javafx.scene.text.GlyphList;
 public abstract class PrismFontStrike<T extends PrismFontFile> implements FontStrike {
     private DisposerRecord disposer;
     private T fontResource;
-    private Map<Integer,Glyph> glyphMap = new HashMap<>();
+    // Concurrent since glyphs may be prepared on a background thread
+    private Map<Integer,Glyph> glyphMap = new ConcurrentHashMap<>();
     private PrismMetrics metrics;
     protected boolean drawShapes = false;
     private float size;
@@ -184,6 +185,33 @@ public abstract class PrismFontStrike<T extends PrismFontFile> implements FontSt
         return glyph;
     }
 
+    /**
+     * Returns whether the glyphs of this strike can be rasterized outside of
+     * the rendering thread. The glyph rasterizers that share their native
+     * rendering targets between all of the glyphs cannot.
+     */
+    protected boolean canPrepareGlyphs() {
+        return false;
+    }
+
+    @Override
+    public void prepareGlyph(int glyphCode) {
+        if (drawShapes || !canPrepareGlyphs() ||
+            glyphMap.containsKey(glyphCode)) {
+            return;
+        }
+        Glyph glyph = createGlyph(glyphCode);
+        glyph.getPixelData(0);
+        // The glyph is only published once rasterized, the concurrent map
+        // makes its image visible to the thread that renders it.
+        glyphMap.putIfAbsent(glyphCode, glyph);
+    }
+
+    // package for testing
+    boolean isGlyphCached(int glyphCode) {
+        return glyphMap.containsKey(glyphCode);
+    }
+
     protected abstract Path2D createGlyphOutline(int glyphCode);
 
     @Override
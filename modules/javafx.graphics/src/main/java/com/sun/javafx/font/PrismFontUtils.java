@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,4 +47,28 @@ public class PrismFontUtils {
         }
         return width;
     }
+
+    static void prepareGlyphs(PGFont font, BaseTransform transform, int aaMode,
+                              int firstCodePoint, int lastCodePoint) {
+        FontStrike strike = font.getStrike(transform, aaMode);
+        if (strike.drawAsShapes()) {
+            return;
+        }
+        if (font instanceof PrismFont prismFont) {
+            prismFont.retainPreparedStrike(strike);
+        }
+        CharToGlyphMapper mapper = font.getFontResource().getGlyphMapper();
+        int missingGlyph = mapper.getMissingGlyphCode();
+        for (int cp = firstCodePoint; cp <= lastCodePoint; cp++) {
+            if (Character.getType(cp) == Character.SURROGATE ||
+                Character.isISOControl(cp)) {
+                continue;
+            }
+            int glyphCode = mapper.charToGlyph(cp);
+            if (glyphCode != missingGlyph &&
+                glyphCode != CharToGlyphMapper.INVISIBLE_GLYPH_ID) {
+                strike.prepareGlyph(glyphCode);
+            }
+        }
+    }
 }
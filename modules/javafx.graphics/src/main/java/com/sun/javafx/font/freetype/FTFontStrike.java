@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -67,6 +67,12 @@ class FTFontStrike extends PrismFontStrike<FTFontFile> {
         return null;
     }
 
+    @Override
+    protected boolean canPrepareGlyphs() {
+        // The glyphs are rasterized by the synchronized methods of the font
+        return true;
+    }
+
     @Override
     protected Glyph createGlyph(int glyphCode) {
         return new FTGlyph(this, glyphCode, drawShapes);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -262,6 +262,30 @@ public interface TextLayout {
      */
     public void getRange(int start, int end, int type, GeometryCallback client);
 
+    /**
+     * Creates a detached copy of the content and settings of this TextLayout,
+     * using the given wrapping width. The content of the spans is captured when
+     * this method is called, so the copy can be laid out on any thread (calling
+     * {@link #getLines()} forces the layout) and later handed back to
+     * {@link #adoptSnapshot(TextLayout)} on the thread that owns this layout.
+     *
+     * @param wrapWidth the wrapping width of the copy
+     * @return the detached copy
+     */
+    public TextLayout createSnapshot(float wrapWidth);
+
+    /**
+     * Adopts the result of a snapshot created by {@link #createSnapshot(float)}.
+     * The snapshot is used the next time this TextLayout is laid out with
+     * the wrapping width of the snapshot, instead of laying out the text
+     * again. The snapshot is discarded when the content changes.
+     *
+     * @param snapshot the laid out snapshot
+     * @return returns true if the snapshot still matches the content and
+     * settings of this layout and was adopted
+     */
+    public boolean adoptSnapshot(TextLayout snapshot);
+
     /**
      * Encodes the caret geometry, which can be either a single vertical line,
      * or two vertical lines (a "split" caret), represented by {@code Single}
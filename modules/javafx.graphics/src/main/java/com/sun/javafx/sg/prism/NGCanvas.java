@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,8 @@ package com.sun.javafx.sg.prism;
 
 import java.nio.IntBuffer;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import javafx.geometry.VPos;
@@ -115,6 +117,9 @@ public class NGCanvas extends NGNode {
     public static final byte STROKE_ARC        = OP_BASE + 9;
     public static final byte FILL_TEXT         = OP_BASE + 10;
     public static final byte STROKE_TEXT       = OP_BASE + 11;
+    public static final byte FILL_RECTS        = OP_BASE + 12;
+    public static final byte STROKE_LINES      = OP_BASE + 13;
+    public static final byte DRAW_POINTS       = OP_BASE + 14;
 
     public static final byte                PATH_BASE = 40;
     public static final byte PATHSTART    = PATH_BASE + 0;
@@ -139,6 +144,8 @@ public class NGCanvas extends NGNode {
     public static final byte                   UTIL_BASE = 70;
     public static final byte RESET           = UTIL_BASE + 0;
     public static final byte SET_DIMS        = UTIL_BASE + 1;
+    public static final byte RELEASE_LAYER   = UTIL_BASE + 2;
+    public static final byte RESET_ATTRS     = UTIL_BASE + 3;
 
     public static final byte CAP_BUTT   = 0;
     public static final byte CAP_ROUND  = 1;
@@ -179,7 +186,7 @@ public class NGCanvas extends NGNode {
         RTTexture tex;
         Graphics g;
         EffectInput input;
-        private PixelData savedPixelData = null;
+        PixelData savedPixelData = null;
 
         public RenderBuf(InitType init_type) {
             this.init_type = init_type;
@@ -272,6 +279,16 @@ public class NGCanvas extends NGNode {
         }
     }
 
+    // A layer of the canvas, which keeps the size at which it was last
+    // cleared by the rendering operations of its own stream
+    static class Layer extends RenderBuf {
+        int cw, ch;
+
+        public Layer() {
+            super(InitType.PRESERVE_UPPER_LEFT);
+        }
+    }
+
     // Saved pixel data used to preserve the image that backs the canvas if the
     // RTT is volatile.
     private static class PixelData {
@@ -314,12 +331,17 @@ public class NGCanvas extends NGNode {
 
     private static Blend BLENDER = new MyBlend(Mode.SRC_OVER, null, null);
 
-    private GrowableDataBuffer thebuf;
+    // The pending rendering operations of each layer, by layer index
+    private final TreeMap<Integer, GrowableDataBuffer> thebufs;
 
     private final float highestPixelScale;
     private int tw, th;
-    private int cw, ch;
-    private RenderBuf cv;
+    // The layer that the rendering operations are currently drawn into
+    private Layer cv;
+    // The index of the layer whose stream is currently rendered
+    private int cvindex;
+    // All layers by index, composited in ascending order; layer 0 always exists
+    private final TreeMap<Integer, Layer> layers;
     private RenderBuf temp;
     private RenderBuf clip;
 
@@ -364,7 +386,10 @@ public class NGCanvas extends NGNode {
         }
         highestPixelScale = (float) Math.ceil(hPS);
 
-        cv = new RenderBuf(InitType.PRESERVE_UPPER_LEFT);
+        thebufs = new TreeMap<>();
+        cv = new Layer();
+        layers = new TreeMap<>();
+        layers.put(0, cv);
         temp = new RenderBuf(InitType.CLEAR);
         clip = new RenderBuf(InitType.FILL_WHITE);
 
@@ -397,6 +422,7 @@ public class NGCanvas extends NGNode {
         align = ALIGN_LEFT;
         baseline = VPos.BASELINE.ordinal();
         transform.setToScale(highestPixelScale, highestPixelScale);
+        effect = null;
         clipStack.clear();
         resetClip(false);
     }
@@ -572,83 +598,155 @@ public class NGCanvas extends NGNode {
     }
 
     private boolean printedCanvas(Graphics g) {
-       final RTTexture localTex = cv.tex;
-       if (!(g instanceof PrinterGraphics) || localTex  == null) {
+       final RTTexture baseTex = layers.get(0).tex;
+       if (!(g instanceof PrinterGraphics) || baseTex  == null) {
           return false;
         }
         ResourceFactory factory = g.getResourceFactory();
-        boolean isCompatTex = factory.isCompatibleTexture(localTex);
+        boolean isCompatTex = factory.isCompatibleTexture(baseTex);
         if (isCompatTex) {
             return false;
         }
 
+        for (Layer layer : layers.values()) {
+            if (layer.tex != null) {
+                printLayer(g, factory, layer);
+            }
+        }
+        return true;
+    }
+
+    private void printLayer(Graphics g, ResourceFactory factory, Layer layer) {
+        final RTTexture localTex = layer.tex;
         final int tw = localTex.getContentWidth();
         final int th = localTex.getContentHeight();
         final RTTexture tmpTex =
               factory.createRTTexture(tw, th, WrapMode.CLAMP_TO_ZERO);
         final Graphics texg = tmpTex.createGraphics();
         texg.setCompositeMode(CompositeMode.SRC);
-        if (cv.savedPixelData == null) {
-            final PixelData pd = new PixelData(cw, ch);
+        if (layer.savedPixelData == null) {
+            final PixelData pd = new PixelData(layer.cw, layer.ch);
             runOnRenderThread(() -> {
               pd.save(localTex);
               pd.restore(texg, tw, th);
             });
         } else {
-            cv.savedPixelData.restore(texg, tw, th);
+            layer.savedPixelData.restore(texg, tw, th);
         }
         g.drawTexture(tmpTex, 0, 0, tw, th);
         tmpTex.unlock();
         tmpTex.dispose();
-        return true;
     }
 
     @Override
     protected void renderContent(Graphics g) {
         if (printedCanvas(g)) return;
         initCanvas(g);
-        if (cv.tex != null) {
-            if (thebuf != null) {
-                renderStream(thebuf);
-                GrowableDataBuffer.returnBuffer(thebuf);
-                thebuf = null;
-            }
+        if (layers.get(0).tex != null) {
+            renderStreams();
             float dw = tw / highestPixelScale;
             float dh = th / highestPixelScale;
-            g.drawTexture(cv.tex,
-                          0, 0, dw, dh,
-                          0, 0, tw, th);
-            // Must save the pixels every frame if RTT is volatile.
-            cv.save(tw, th);
+            // Layers without new rendering operations are only composited,
+            // their contents are retained in their textures
+            for (RenderBuf layer : layers.values()) {
+                g.drawTexture(layer.tex,
+                              0, 0, dw, dh,
+                              0, 0, tw, th);
+                // Must save the pixels every frame if RTT is volatile.
+                layer.save(tw, th);
+            }
         }
-        this.temp.g = this.clip.g = this.cv.g = null;
+        releaseGraphics();
     }
 
     @Override
     public void renderForcedContent(Graphics gOptional) {
-        if (thebuf != null) {
+        if (!thebufs.isEmpty()) {
             initCanvas(gOptional);
-            if (cv.tex != null) {
-                renderStream(thebuf);
-                GrowableDataBuffer.returnBuffer(thebuf);
-                thebuf = null;
-                cv.save(tw, th);
+            if (layers.get(0).tex != null) {
+                renderStreams();
+                for (RenderBuf layer : layers.values()) {
+                    layer.save(tw, th);
+                }
             }
-            this.temp.g = this.clip.g = this.cv.g = null;
+            releaseGraphics();
+        }
+    }
+
+    // The layers only depend on their own streams, which are rendered in
+    // turn. The stream of a canvas with a single layer keeps the attributes
+    // left by its previous stream, while the stream of a canvas with several
+    // layers starts by resetting the attributes.
+    private void renderStreams() {
+        for (Map.Entry<Integer, GrowableDataBuffer> e : thebufs.entrySet()) {
+            GrowableDataBuffer buf = e.getValue();
+            cvindex = e.getKey();
+            // A released layer is not created only to be disposed again
+            cv = (buf.peekByte(0) == RELEASE_LAYER)
+                ? layers.get(0)
+                : getLayer(cvindex);
+            renderStream(buf);
+            GrowableDataBuffer.returnBuffer(buf);
+        }
+        thebufs.clear();
+        cv = layers.get(0);
+    }
+
+    private void releaseGraphics() {
+        this.temp.g = this.clip.g = null;
+        for (RenderBuf layer : layers.values()) {
+            layer.g = null;
         }
     }
 
     private void initCanvas(Graphics g) {
         if (tw <= 0 || th <= 0) {
-            cv.dispose();
+            for (RenderBuf layer : layers.values()) {
+                layer.dispose();
+            }
             return;
         }
-        if (cv.validate(g, tw, th)) {
+        for (RenderBuf layer : layers.values()) {
+            initLayer(layer, g);
+        }
+    }
+
+    private void initLayer(RenderBuf layer, Graphics g) {
+        if (layer.validate(g, tw, th)) {
             // If the texture was recreated then we add a permanent
             // "useful" and extra "lock" status to it.
-            cv.tex.contentsUseful();
-            cv.tex.makePermanent();
-            cv.tex.lock();
+            layer.tex.contentsUseful();
+            layer.tex.makePermanent();
+            layer.tex.lock();
+        }
+    }
+
+    private Layer getLayer(int index) {
+        Layer layer = layers.get(index);
+        if (layer == null) {
+            Layer base = layers.get(0);
+            layer = new Layer();
+            layers.put(index, layer);
+            initLayer(layer, base.g);
+            layer.g.clear();
+            layer.cw = this.tw;
+            layer.ch = this.th;
+        }
+        return layer;
+    }
+
+    private void releaseLayer(int index) {
+        if (index == 0) {
+            // The base layer always exists, so it is only cleared
+            cv = layers.get(0);
+            cv.cw = this.tw;
+            cv.ch = this.th;
+            clearCanvas(0, 0, this.tw, this.th);
+        } else {
+            Layer layer = layers.remove(index);
+            if (layer != null) {
+                layer.dispose();
+            }
         }
     }
 
@@ -817,15 +915,15 @@ public class NGCanvas extends NGNode {
                     initAttributes();
                     // RESET is always followed by SET_DIMS
                     // Setting cwh = twh avoids unnecessary double clears
-                    this.cw = this.tw;
-                    this.ch = this.th;
+                    cv.cw = this.tw;
+                    cv.ch = this.th;
                     clearCanvas(0, 0, this.tw, this.th);
                     break;
                 case SET_DIMS:
                     int neww = (int) Math.ceil(buf.getFloat() * highestPixelScale);
                     int newh = (int) Math.ceil(buf.getFloat() * highestPixelScale);
-                    int clearx = Math.min(neww, this.cw);
-                    int cleary = Math.min(newh, this.ch);
+                    int clearx = Math.min(neww, cv.cw);
+                    int cleary = Math.min(newh, cv.ch);
                     if (clearx < this.tw) {
                         // tw is set to the final width, we simulate all of
                         // the intermediate changes in size by making sure
@@ -840,8 +938,17 @@ public class NGCanvas extends NGNode {
                         // cleared at the stream point where they happened
                         clearCanvas(0, cleary, this.tw, this.th-cleary);
                     }
-                    this.cw = neww;
-                    this.ch = newh;
+                    cv.cw = neww;
+                    cv.ch = newh;
+                    break;
+                case RELEASE_LAYER:
+                    releaseLayer(cvindex);
+                    cv = buf.hasValues() ? getLayer(cvindex) : layers.get(0);
+                    break;
+                case RESET_ATTRS:
+                    // Starts a stream from the default attributes, without
+                    // clearing the layer
+                    initAttributes();
                     break;
                 case PATHSTART:
                     path.reset();
@@ -1058,6 +1165,9 @@ public class NGCanvas extends NGNode {
                 case DRAW_SUBIMAGE:
                 case FILL_TEXT:
                 case STROKE_TEXT:
+                case FILL_RECTS:
+                case STROKE_LINES:
+                case DRAW_POINTS:
                 {
                     RenderBuf dest;
                     boolean tempvalidated;
@@ -1450,6 +1560,23 @@ public class NGCanvas extends NGNode {
                 }
                 break;
             }
+            case FILL_RECTS:
+            case STROKE_LINES:
+            case DRAW_POINTS:
+            {
+                int count = buf.getInt();
+                float[] coords = (float[]) buf.getObject();
+                int[] colors = (int[]) buf.getObject();
+                if (bounds != null) {
+                    batchbounds(token, coords, count, bounds);
+                    strokeBounds = (token != FILL_RECTS);
+                    transformBounds = true;
+                }
+                if (gr != null) {
+                    renderBatch(token, coords, colors, count, gr);
+                }
+                break;
+            }
             default:
                 throw new InternalError("Unrecognized PGCanvas rendering token: "+token);
         }
@@ -1532,6 +1659,81 @@ public class NGCanvas extends NGNode {
         }
     }
 
+    private static void batchbounds(int token, float[] coords, int count,
+                                    RectBounds bounds)
+    {
+        float x0 = Float.POSITIVE_INFINITY;
+        float y0 = Float.POSITIVE_INFINITY;
+        float x1 = Float.NEGATIVE_INFINITY;
+        float y1 = Float.NEGATIVE_INFINITY;
+        if (token == FILL_RECTS) {
+            for (int i = 0; i < count * 4; i += 4) {
+                float x = coords[i];
+                float y = coords[i+1];
+                float w = coords[i+2];
+                float h = coords[i+3];
+                if (w > 0 && h > 0) {
+                    if (x0 > x) x0 = x;
+                    if (y0 > y) y0 = y;
+                    if (x1 < x + w) x1 = x + w;
+                    if (y1 < y + h) y1 = y + h;
+                }
+            }
+        } else {
+            // Lines are made of two points
+            int n = (token == STROKE_LINES) ? count * 4 : count * 2;
+            for (int i = 0; i < n; i += 2) {
+                float x = coords[i];
+                float y = coords[i+1];
+                if (x0 > x) x0 = x;
+                if (x1 < x) x1 = x;
+                if (y0 > y) y0 = y;
+                if (y1 < y) y1 = y;
+            }
+        }
+        if (x0 > x1) {
+            bounds.makeEmpty();
+        } else {
+            bounds.setBounds(x0, y0, x1, y1);
+        }
+    }
+
+    // Renders all of the primitives of a batch in one tight loop, so that
+    // the pipeline can accumulate them into as few draw calls as possible
+    private void renderBatch(int token, float[] coords, int[] colors, int count,
+                             Graphics gr)
+    {
+        if (token == FILL_RECTS) {
+            setupFill(gr);
+        } else {
+            setupStroke(gr);
+        }
+        int argb = 0;
+        for (int i = 0; i < count; i++) {
+            if (colors != null && (i == 0 || colors[i] != argb)) {
+                argb = colors[i];
+                gr.setPaint(new Color(((argb >> 16) & 0xff) / 255.0f,
+                                      ((argb >>  8) & 0xff) / 255.0f,
+                                      ((argb      ) & 0xff) / 255.0f,
+                                      ((argb) >>> 24) / 255.0f));
+            }
+            switch (token) {
+                case FILL_RECTS:
+                    gr.fillRect(coords[i*4], coords[i*4+1], coords[i*4+2], coords[i*4+3]);
+                    break;
+                case STROKE_LINES:
+                    gr.drawLine(coords[i*4], coords[i*4+1], coords[i*4+2], coords[i*4+3]);
+                    break;
+                case DRAW_POINTS:
+                    // A point is a square of the line width centered on it
+                    float half = linewidth / 2f;
+                    gr.fillRect(coords[i*2] - half, coords[i*2+1] - half,
+                                linewidth, linewidth);
+                    break;
+            }
+        }
+    }
+
     public void updateBounds(float w, float h) {
         this.tw = (int) Math.ceil(w * highestPixelScale);
         this.th = (int) Math.ceil(h * highestPixelScale);
@@ -1539,22 +1741,26 @@ public class NGCanvas extends NGNode {
     }
 
     // Returns true if we are falling behind in rendering (i.e. we
-    // have unrendered data at the time of the synch.  This tells
-    // the FX layer that it should consider emitting a RESET if it
+    // have unrendered data for the layer at the time of the synch.  This
+    // tells the FX layer that it should consider emitting a RESET if it
     // detects a full-canvas clear command even if it looks like it
     // is superfluous.
-    public boolean updateRendering(GrowableDataBuffer buf) {
+    public boolean updateRendering(int layer, GrowableDataBuffer buf) {
+        GrowableDataBuffer thebuf = thebufs.get(layer);
         if (buf.isEmpty()) {
             GrowableDataBuffer.returnBuffer(buf);
-            return (this.thebuf != null);
+            return (thebuf != null);
         }
-        boolean reset = (buf.peekByte(0) == RESET);
+        // A RESET or RELEASE_LAYER only discards the unrendered data of
+        // its own layer
+        byte token = buf.peekByte(0);
+        boolean reset = (token == RESET || token == RELEASE_LAYER);
         GrowableDataBuffer retbuf;
-        if (reset || this.thebuf == null) {
-            retbuf = this.thebuf;
-            this.thebuf = buf;
+        if (reset || thebuf == null) {
+            retbuf = thebuf;
+            thebufs.put(layer, buf);
         } else {
-            this.thebuf.append(buf);
+            thebuf.append(buf);
             retbuf = buf;
         }
         geometryChanged();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,10 +31,12 @@ import java.util.List;
 import com.sun.javafx.geom.DirtyRegionContainer;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.scene.NodeHelper;
 import com.sun.prism.Graphics;
+import com.sun.prism.impl.shape.ShapeMaskPrefetcher;
 import com.sun.scenario.effect.Blend;
 import javafx.scene.Node;
 
@@ -197,6 +199,16 @@ public class NGGroup extends NGNode {
         }
     }
 
+    @Override
+    void prefetchContentMasks(Affine2D tx, RectBounds bounds, ShapeMaskPrefetcher prefetcher,
+                              boolean isDirty)
+    {
+        List<NGNode> orderedChildren = getOrderedChildren();
+        for (int i = 0; i < orderedChildren.size(); i++) {
+            orderedChildren.get(i).prefetchShapeMasks(tx, bounds, prefetcher, isDirty);
+        }
+    }
+
     @Override
     protected void renderContent(Graphics g) {
         List<NGNode> orderedChildren = getOrderedChildren();
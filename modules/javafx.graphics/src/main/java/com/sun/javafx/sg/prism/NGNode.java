@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,6 +36,7 @@ import com.sun.javafx.geom.DirtyRegionPool;
 import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.Affine3D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
@@ -46,6 +47,7 @@ import com.sun.prism.GraphicsPipeline;
 import com.sun.prism.RTTexture;
 import com.sun.prism.ReadbackGraphics;
 import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.shape.ShapeMaskPrefetcher;
 import com.sun.scenario.effect.Blend;
 import com.sun.scenario.effect.Effect;
 import com.sun.scenario.effect.FilterContext;
@@ -1971,6 +1973,68 @@ public abstract class NGNode {
     public void renderForcedContent(Graphics gOptional) {
     }
 
+    /**
+     * Submits the shapes of this node and its descendants whose coverage
+     * masks are likely to be rasterized by the next render pass to the
+     * given prefetcher, so that the masks can be rasterized in parallel
+     * before painting starts. Only nodes that changed since the last
+     * render pass (or that have an ancestor that did) are submitted, since
+     * the masks of unchanged shapes are normally cached. Subtrees that are
+     * rendered through an intermediate texture (blend modes, opacity,
+     * caching, non-rectangular clips and effects) or with a 3D transform
+     * are skipped, as they are not rendered with the transform that is
+     * accumulated here.
+     *
+     * @param tx the transform this node will be rendered with, excluding the
+     *           transform of this node itself; restored before returning
+     * @param bounds the device space bounds of the render target
+     * @param prefetcher the prefetcher to submit the shapes to
+     */
+    public final void prefetchShapeMasks(Affine2D tx, RectBounds bounds, ShapeMaskPrefetcher prefetcher) {
+        prefetchShapeMasks(tx, bounds, prefetcher, false);
+    }
+
+    final void prefetchShapeMasks(Affine2D tx, RectBounds bounds, ShapeMaskPrefetcher prefetcher,
+                                  boolean ancestorDirty)
+    {
+        if (!visible || opacity != 1f || isShape3D() || needsBlending() ||
+                cacheFilter != null || effectFilter != null || !getTransform().is2D())
+        {
+            return;
+        }
+        final boolean isDirty = ancestorDirty || dirty == DirtyFlag.DIRTY;
+        if (!isDirty && !childDirty) {
+            return;
+        }
+
+        final double mxx = tx.getMxx();
+        final double mxy = tx.getMxy();
+        final double mxt = tx.getMxt();
+        final double myx = tx.getMyx();
+        final double myy = tx.getMyy();
+        final double myt = tx.getMyt();
+        tx.concatenate(getTransform());
+        if (clipNode == null || (clipNode instanceof NGRectangle && clipNode.isRectClip(tx, false))) {
+            prefetchContentMasks(tx, bounds, prefetcher, isDirty);
+        }
+        tx.setTransform(mxx, myx, mxy, myy, mxt, myt);
+    }
+
+    /**
+     * Submits the shapes rendered by {@link #renderContent} to the prefetcher.
+     * The default implementation does nothing.
+     *
+     * @param tx the transform the content will be rendered with
+     * @param bounds the device space bounds of the render target
+     * @param prefetcher the prefetcher to submit the shapes to
+     * @param isDirty whether this node or one of its ancestors changed
+     *                since the last render pass
+     */
+    void prefetchContentMasks(Affine2D tx, RectBounds bounds, ShapeMaskPrefetcher prefetcher,
+                              boolean isDirty)
+    {
+    }
+
     // This node requires 2D graphics state for rendering
     boolean isShape3D() {
         return false;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,7 +28,10 @@ package com.sun.javafx.sg.prism;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.scene.shape.StrokeType;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.prism.BasicStroke;
 import com.sun.prism.Graphics;
@@ -36,6 +39,7 @@ import com.sun.prism.PrinterGraphics;
 import com.sun.prism.RTTexture;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.shape.ShapeMaskPrefetcher;
 import com.sun.prism.paint.Paint;
 import com.sun.prism.shape.ShapeRep;
 import static com.sun.prism.shape.ShapeRep.InvalidationType.LOCATION_AND_GEOMETRY;
@@ -301,6 +305,24 @@ public abstract class NGShape extends NGNode {
         }
     }
 
+    @Override
+    void prefetchContentMasks(Affine2D tx, RectBounds bounds, ShapeMaskPrefetcher prefetcher,
+                              boolean isDirty)
+    {
+        // Only paths are rasterized into masks; the simple shapes
+        // are rendered by more direct means.
+        final Shape shape;
+        if (!isDirty || mode == Mode.EMPTY || !((shape = getShape()) instanceof Path2D)) {
+            return;
+        }
+        if (mode != Mode.STROKE) {
+            prefetcher.submit(shape, null, tx, bounds, isSmooth());
+        }
+        if (mode != Mode.FILL && drawStroke.getLineWidth() > 0) {
+            prefetcher.submit(shape, drawStroke, tx, bounds, isSmooth());
+        }
+    }
+
     @Override
     protected boolean hasOverlappingContents() {
         return mode == Mode.STROKE_FILL;
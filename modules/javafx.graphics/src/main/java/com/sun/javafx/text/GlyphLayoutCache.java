@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.logging.PulseLogger;
+
+/**
+ * Process wide cache of shaped text shared by all the PrismTextLayout
+ * instances, so that the same string in the same font is only shaped once
+ * (for example the repeated values in the cells of a table).
+ * <p>
+ * The cache maps the text of a run, its font and font features, and the run
+ * attributes that affect shaping (bidi level, script, fallback slot and
+ * linking) to the glyphs computed for it. Only short runs are cached. The
+ * number of entries is bounded by the {@code prism.glyphLayoutCacheSize}
+ * system property, the least recently used entries are evicted first. A size
+ * of zero disables the cache.
+ * <p>
+ * The glyphs, advances and character indices of a cached {@link ShapedRun}
+ * are shared by all the runs that use it and must not be modified. Runs get
+ * a copy of the positions, since justification modifies them in place.
+ */
+public final class GlyphLayoutCache {
+
+    private static final int MAX_TEXT_LENGTH = 256;
+    private static final int MAX_SIZE = Math.max(0, Integer.getInteger("prism.glyphLayoutCacheSize", 4096));
+
+    /* Run flags that affect the result of shaping */
+    private static final int SHAPING_FLAGS = TextRun.FLAGS_COMPLEX | TextRun.FLAGS_CANONICAL |
+                                             TextRun.FLAGS_NO_LINK_BEFORE | TextRun.FLAGS_NO_LINK_AFTER;
+
+    private static final Map<Key, ShapedRun> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, ShapedRun> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private static long hitCount;
+    private static long missCount;
+    private static int pulseHitCount;
+    private static int pulseMissCount;
+
+    private GlyphLayoutCache() {
+    }
+
+    record Key(String text, PGFont font, int features, byte level, int script, int slot, int flags) {}
+
+    /**
+     * The glyphs of a shaped run. Simple runs store the advance of each
+     * glyph, complex runs store the positions and character indices computed
+     * by the {@link GlyphLayout}.
+     */
+    record ShapedRun(int glyphCount, int[] glyphs, float[] advances, float[] positions, int[] charIndices) {}
+
+    public static boolean isEnabled() {
+        return MAX_SIZE > 0;
+    }
+
+    /**
+     * Creates the key used to cache the glyphs of a run.
+     *
+     * @return the key, or null if the run is not cached
+     */
+    static Key createKey(TextRun run, char[] chars, PGFont font) {
+        int length = run.getLength();
+        if (MAX_SIZE == 0 || length == 0 || length > MAX_TEXT_LENGTH) {
+            return null;
+        }
+        String text = new String(chars, run.getStart(), length);
+        return new Key(text, font, font.getFeatures(), run.getLevel(), run.getScript(),
+                       run.getSlot(), run.flags & SHAPING_FLAGS);
+    }
+
+    static synchronized ShapedRun get(Key key) {
+        ShapedRun shapedRun = cache.get(key);
+        if (shapedRun != null) {
+            hitCount++;
+            pulseHitCount++;
+        } else {
+            missCount++;
+            pulseMissCount++;
+        }
+        return shapedRun;
+    }
+
+    static synchronized void put(Key key, ShapedRun shapedRun) {
+        cache.put(key, shapedRun);
+    }
+
+    public static synchronized int size() {
+        return cache.size();
+    }
+
+    public static synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public static synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public static synchronized void clear() {
+        cache.clear();
+        hitCount = missCount = 0;
+        pulseHitCount = pulseMissCount = 0;
+    }
+
+    /**
+     * Reports the hit rate of the cache since the previous pulse to the
+     * pulse logger. Must be called on the FX thread.
+     */
+    public static void logPulseStatistics() {
+        int hits, misses;
+        synchronized (GlyphLayoutCache.class) {
+            hits = pulseHitCount;
+            misses = pulseMissCount;
+            pulseHitCount = pulseMissCount = 0;
+        }
+        int lookups = hits + misses;
+        if (lookups > 0) {
+            PulseLogger.addMessage("Glyph layout cache: " + hits + " hits, " + misses + " misses (" +
+                                   (100 * hits / lookups) + "% hit rate), " + size() + " entries");
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.text.BreakIterator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Hashtable;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.PathElement;
@@ -67,6 +68,10 @@ public class PrismTextLayout implements TextLayout {
     private static int cacheSize = 0;
     private static final int MAX_STRING_SIZE = 256;
 
+    /* Layout result flags copied when a snapshot is installed */
+    private static final int SNAPSHOT_RESULT_MASK = ANALYSIS_MASK &
+            ~(FLAGS_CACHED_UNDERLINE | FLAGS_CACHED_STRIKETHROUGH | DIRECTION_MASK);
+
     private final int maxCacheSize;
     private char[] text;
     private TextSpan[] spans;   /* Rich text  (null for single font text) */
@@ -84,6 +89,8 @@ public class PrismTextLayout implements TextLayout {
     private Shape shape;
     private int flags;
     private TabAdvancePolicy tabAdvancePolicy;
+    private float snapshotLayoutShift = Float.NaN; /* Captured by createSnapshot() */
+    private PrismTextLayout adoptedSnapshot;
 
     public PrismTextLayout(int maxCacheSize) {
         this.maxCacheSize = maxCacheSize;
@@ -92,6 +99,7 @@ public class PrismTextLayout implements TextLayout {
     }
 
     private void reset() {
+        adoptedSnapshot = null;
         layoutCache = null;
         runs = null;
         flags &= ~ANALYSIS_MASK;
@@ -691,6 +699,53 @@ public class PrismTextLayout implements TextLayout {
         return false;
     }
 
+    @Override
+    public TextLayout createSnapshot(float wrapWidth) {
+        PrismTextLayout layout = newLayout();
+        if (spans != null) {
+            /* The spans are not thread safe, capture their content */
+            TextSpan[] snapshotSpans = new TextSpan[spans.length];
+            for (int i = 0; i < spans.length; i++) {
+                snapshotSpans[i] = new SnapshotSpan(spans[i], i);
+            }
+            layout.spans = snapshotSpans;
+            layout.snapshotLayoutShift = getSnapshotLayoutShift();
+        } else {
+            layout.font = font;
+            layout.strike = strike;
+            layout.text = text;
+            layout.cacheKey = cacheKey;
+            layout.snapshotLayoutShift = 0;
+        }
+        layout.flags = flags & (DIRECTION_MASK | BOUNDS_MASK | ALIGN_MASK);
+        layout.spacing = spacing;
+        layout.tabAdvancePolicy = tabAdvancePolicy;
+        layout.setWrapWidth(wrapWidth);
+        return layout;
+    }
+
+    @Override
+    public boolean adoptSnapshot(TextLayout snapshot) {
+        if (!(snapshot instanceof PrismTextLayout layout)) return false;
+        if (layout.lines == null) return false;
+        if (!hasSameContent(layout) || !hasSameSettings(layout)) return false;
+
+        /* Point the runs of the snapshot back to the spans of this layout */
+        if (spans != null) {
+            for (int i = 0; i < layout.runCount; i++) {
+                restoreSpan(layout.runs[i]);
+            }
+            for (int i = 0; i < layout.lines.length; i++) {
+                TextRun[] lineRuns = layout.lines[i].getRuns();
+                for (int j = 0; j < lineRuns.length; j++) {
+                    restoreSpan(lineRuns[j]);
+                }
+            }
+        }
+        adoptedSnapshot = layout;
+        return true;
+    }
+
     /***************************************************************************
      *                                                                         *
      *                     Text Layout Implementation                          *
@@ -837,6 +892,11 @@ public class PrismTextLayout implements TextLayout {
         return GlyphLayoutManager.getInstance();
     }
 
+    /* Creates the instance used by createSnapshot() */
+    protected PrismTextLayout newLayout() {
+        return new PrismTextLayout(maxCacheSize);
+    }
+
     private void shape(TextRun run, char[] chars, GlyphLayout layout) {
         FontStrike strike;
         PGFont font;
@@ -893,8 +953,22 @@ public class PrismTextLayout implements TextLayout {
         if (run.isLinebreak()) return;
         if (run.getGlyphCount() > 0) return;
         if (run.isComplex()) {
-            /* Use GlyphLayout to shape complex text */
-            layout.layout(run, font, strike, chars);
+            /* Justification modifies the positions in place, so the run and
+             * the cache never share the positions array */
+            GlyphLayoutCache.Key key = GlyphLayoutCache.createKey(run, chars, font);
+            GlyphLayoutCache.ShapedRun shapedRun = key != null ? GlyphLayoutCache.get(key) : null;
+            if (shapedRun != null) {
+                run.shape(shapedRun.glyphCount(), shapedRun.glyphs(),
+                          shapedRun.positions().clone(), shapedRun.charIndices());
+            } else {
+                /* Use GlyphLayout to shape complex text */
+                layout.layout(run, font, strike, chars);
+                if (key != null) {
+                    shapedRun = new GlyphLayoutCache.ShapedRun(run.glyphCount, run.gids,
+                                                               null, run.positions.clone(), run.charIndices);
+                    GlyphLayoutCache.put(key, shapedRun);
+                }
+            }
         } else {
             FontResource fr = strike.getFontResource();
             int start = run.getStart();
@@ -902,19 +976,35 @@ public class PrismTextLayout implements TextLayout {
 
             /* No glyph layout required */
             if (layoutCache == null) {
-                float fontSize = strike.getSize();
-                CharToGlyphMapper mapper  = fr.getGlyphMapper();
+                GlyphLayoutCache.Key key = GlyphLayoutCache.createKey(run, chars, font);
+                GlyphLayoutCache.ShapedRun shapedRun = key != null ? GlyphLayoutCache.get(key) : null;
+                int[] glyphs;
+                float[] advances;
+                if (shapedRun != null) {
+                    glyphs = shapedRun.glyphs();
+                    advances = shapedRun.advances();
+                } else {
+                    float fontSize = strike.getSize();
+                    CharToGlyphMapper mapper  = fr.getGlyphMapper();
 
-                /* The text contains complex and non-complex runs */
-                int[] glyphs = new int[length];
-                mapper.charsToGlyphs(start, length, chars, glyphs);
+                    /* The text contains complex and non-complex runs */
+                    glyphs = new int[length];
+                    mapper.charsToGlyphs(start, length, chars, glyphs);
+                    advances = new float[length];
+                    for (int i = 0; i < length; i++) {
+                        advances[i] = fr.getAdvance(glyphs[i], fontSize);
+                    }
+                    if (key != null) {
+                        shapedRun = new GlyphLayoutCache.ShapedRun(length, glyphs, advances, null, null);
+                        GlyphLayoutCache.put(key, shapedRun);
+                    }
+                }
                 float[] positions = new float[(length + 1) << 1];
                 float xadvance = 0;
                 for (int i = 0; i < length; i++) {
-                    float width = fr.getAdvance(glyphs[i], fontSize);
                     positions[i<<1] = xadvance;
                     //yadvance always zero
-                    xadvance += width;
+                    xadvance += advances[i];
                 }
                 positions[length<<1] = xadvance;
                 run.shape(length, glyphs, positions, null);
@@ -923,15 +1013,29 @@ public class PrismTextLayout implements TextLayout {
                 /* The text only contains non-complex runs, all the glyphs and
                  * advances are stored in the shapeCache */
                 if (!layoutCache.valid) {
-                    float fontSize = strike.getSize();
-                    CharToGlyphMapper mapper  = fr.getGlyphMapper();
-                    mapper.charsToGlyphs(start, length, chars, layoutCache.glyphs, start);
                     int end = start + length;
+                    GlyphLayoutCache.Key key = GlyphLayoutCache.createKey(run, chars, font);
+                    GlyphLayoutCache.ShapedRun shapedRun = key != null ? GlyphLayoutCache.get(key) : null;
+                    if (shapedRun != null) {
+                        System.arraycopy(shapedRun.glyphs(), 0, layoutCache.glyphs, start, length);
+                        System.arraycopy(shapedRun.advances(), 0, layoutCache.advances, start, length);
+                    } else {
+                        float fontSize = strike.getSize();
+                        CharToGlyphMapper mapper  = fr.getGlyphMapper();
+                        mapper.charsToGlyphs(start, length, chars, layoutCache.glyphs, start);
+                        for (int i = start; i < end; i++) {
+                            layoutCache.advances[i] = fr.getAdvance(layoutCache.glyphs[i], fontSize);
+                        }
+                        if (key != null) {
+                            shapedRun = new GlyphLayoutCache.ShapedRun(length,
+                                    Arrays.copyOfRange(layoutCache.glyphs, start, end),
+                                    Arrays.copyOfRange(layoutCache.advances, start, end), null, null);
+                            GlyphLayoutCache.put(key, shapedRun);
+                        }
+                    }
                     float width = 0;
                     for (int i = start; i < end; i++) {
-                        float adv = fr.getAdvance(layoutCache.glyphs[i], fontSize);
-                        layoutCache.advances[i] = adv;
-                        width += adv;
+                        width += layoutCache.advances[i];
                     }
                     run.setWidth(width);
                 }
@@ -1190,6 +1294,9 @@ public class PrismTextLayout implements TextLayout {
      */
 
     private void layout() {
+        /* Whole layout computed in advance by an adopted snapshot */
+        if (installSnapshot()) return;
+
         /* Try the cache */
         initCache();
 
@@ -1242,7 +1349,7 @@ public class PrismTextLayout implements TextLayout {
         float lineWidth = 0;
         int startIndex = 0;
         int startOffset = 0;
-        float layoutShift = Float.NaN;
+        float layoutShift = snapshotLayoutShift;
         ArrayList<PrismTextLine> linesList = new ArrayList<>();
         for (int i = 0; i < runCount; i++) {
             TextRun run = runs[i];
@@ -1689,6 +1796,66 @@ public class PrismTextLayout implements TextLayout {
         line.setSideBearings(lsb, rsb);
     }
 
+    private float getSnapshotLayoutShift() {
+        /* All the spans share the same layout root */
+        return spans.length > 0 ? computeLayoutShift(spans[0]) : 0.0f;
+    }
+
+    private boolean hasSameContent(PrismTextLayout layout) {
+        if (spans == null || layout.spans == null) {
+            return spans == layout.spans && Objects.equals(font, layout.font) &&
+                   Arrays.equals(text, layout.text);
+        }
+        if (spans.length != layout.spans.length) return false;
+        for (int i = 0; i < spans.length; i++) {
+            TextSpan span = spans[i];
+            TextSpan snapshotSpan = layout.spans[i];
+            if (!Objects.equals(span.getText(), snapshotSpan.getText()) ||
+                !Objects.equals(span.getFont(), snapshotSpan.getFont()) ||
+                !Objects.equals(span.getBounds(), snapshotSpan.getBounds())) {
+                return false;
+            }
+        }
+        return getSnapshotLayoutShift() == layout.snapshotLayoutShift;
+    }
+
+    private boolean hasSameSettings(PrismTextLayout layout) {
+        int mask = BOUNDS_MASK | ALIGN_MASK;
+        return (flags & mask) == (layout.flags & mask) &&
+               getDirection() == layout.getDirection() &&
+               spacing == layout.spacing &&
+               (tabAdvancePolicy == null || tabAdvancePolicy.equals(layout.tabAdvancePolicy));
+    }
+
+    private void restoreSpan(TextRun run) {
+        if (run.span instanceof SnapshotSpan snapshotSpan) {
+            run.span = spans[snapshotSpan.index];
+        }
+    }
+
+    private boolean installSnapshot() {
+        PrismTextLayout layout = adoptedSnapshot;
+        if (layout == null || layout.wrapWidth != wrapWidth || !hasSameSettings(layout)) {
+            return false;
+        }
+
+        /* The runs and lines of a laid out snapshot are never modified, the
+         * same way as the ones shared through the stringCache. Copy the runs
+         * array as it is reused by the next layout.
+         */
+        if (text == null) text = layout.text;
+        runs = layout.runs.clone();
+        runCount = layout.runCount;
+        lines = layout.lines;
+        layoutWidth = layout.layoutWidth;
+        layoutHeight = layout.layoutHeight;
+        logicalBounds = logicalBounds.deriveWithNewBounds(layout.logicalBounds);
+        if (layout.layoutCache != null) layoutCache = layout.layoutCache;
+        if (tabAdvancePolicy == null) tabAdvancePolicy = layout.tabAdvancePolicy;
+        flags = (flags & ~SNAPSHOT_RESULT_MASK) | (layout.flags & SNAPSHOT_RESULT_MASK);
+        return true;
+    }
+
     private float computeLayoutShift(TextSpan span) {
         if (span != null) {
             Region root = span.getLayoutRootRegion();
@@ -1699,4 +1866,37 @@ public class PrismTextLayout implements TextLayout {
         }
         return 0.0f;
     }
+
+    /* Immutable copy of a span used by the layout of a snapshot */
+    private static final class SnapshotSpan implements TextSpan {
+        private final String text;
+        private final Object font;
+        private final RectBounds bounds;
+        private final int index;
+
+        SnapshotSpan(TextSpan span, int index) {
+            this.text = span.getText();
+            this.font = span.getFont();
+            RectBounds spanBounds = span.getBounds();
+            this.bounds = spanBounds != null ? new RectBounds(spanBounds) : null;
+            this.index = index;
+        }
+
+        @Override public String getText() {
+            return text;
+        }
+
+        @Override public Object getFont() {
+            return font;
+        }
+
+        @Override public RectBounds getBounds() {
+            return bounds;
+        }
+
+        @Override public Region getLayoutRootRegion() {
+            /* Not accessed, see snapshotLayoutShift */
+            return null;
+        }
+    }
 }
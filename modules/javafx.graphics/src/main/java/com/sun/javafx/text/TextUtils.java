@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,8 @@
 package com.sun.javafx.text;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
@@ -35,6 +37,7 @@ import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.scene.text.GlyphList;
 import com.sun.javafx.scene.text.TextLayout;
 import com.sun.javafx.scene.text.TextLine;
+import com.sun.javafx.tk.Toolkit;
 
 /**
  * Text-related Utilities.
@@ -136,4 +139,24 @@ public final class TextUtils {
             };
         }
     }
+
+    /**
+     * Lays out a snapshot of the text layout for the given wrapping width on
+     * the executor, and hands the result back to the text layout on the FX
+     * thread. The result is discarded when the content or the settings of the
+     * text layout changed in the meantime.
+     *
+     * @param layout the text layout
+     * @param wrapWidth the wrapping width
+     * @param executor the executor used to lay out the snapshot
+     * @return a future completed on the FX thread with true if the text layout
+     * adopted the result
+     */
+    public static CompletableFuture<Boolean> prepareLayout(TextLayout layout, float wrapWidth, Executor executor) {
+        TextLayout snapshot = layout.createSnapshot(wrapWidth);
+        return CompletableFuture.supplyAsync(() -> {
+            snapshot.getLines();
+            return snapshot;
+        }, executor).thenApplyAsync(layout::adoptSnapshot, Toolkit.getToolkit()::defer);
+    }
 }
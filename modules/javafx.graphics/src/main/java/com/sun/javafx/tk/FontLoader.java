@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,11 +27,16 @@ package com.sun.javafx.tk;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javafx.scene.text.Font;
 import javafx.scene.text.FontPosture;
+import javafx.scene.text.FontSmoothingType;
 import javafx.scene.text.FontWeight;
 
+import com.sun.javafx.geom.transform.BaseTransform;
+
 public abstract class FontLoader {
     public abstract void loadFont(Font font);
     public abstract List<String> getFamilies();
@@ -44,4 +49,25 @@ public abstract class FontLoader {
     public abstract FontMetrics getFontMetrics(Font font);
     public abstract float getCharWidth(char ch, Font font);
     public abstract float getSystemFontSize();
+
+    /**
+     * Rasterizes the glyphs of the font for the code points in the given
+     * range using the executor, so that the first frames drawing them only
+     * have to upload their images to the glyph cache. The transform is the
+     * transform the text will be rendered with, including the render scale
+     * of the screen; its translation is ignored.
+     *
+     * @param font the font
+     * @param transform the rendering transform
+     * @param smoothingType the smoothing type the text will be rendered with
+     * @param firstCodePoint the first code point of the range
+     * @param lastCodePoint the last code point of the range, inclusive
+     * @param executor the executor to rasterize the glyphs on
+     * @return a future completed once the glyphs are rasterized
+     * @throws IllegalArgumentException if the range is not a valid code
+     * point range
+     */
+    public abstract CompletableFuture<Void> prepareGlyphs(Font font,
+            BaseTransform transform, FontSmoothingType smoothingType,
+            int firstCodePoint, int lastCodePoint, Executor executor);
 }
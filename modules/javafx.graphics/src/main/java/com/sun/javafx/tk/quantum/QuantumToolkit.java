@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -99,6 +99,7 @@ import com.sun.javafx.runtime.async.AbstractRemoteResource.SizedStream;
 import com.sun.javafx.runtime.async.AbstractRemoteResource.SizedStreamSupplier;
 import com.sun.javafx.scene.text.TextLayoutFactory;
 import com.sun.javafx.sg.prism.NGNode;
+import com.sun.javafx.text.GlyphLayoutCache;
 import com.sun.javafx.tk.CompletionListener;
 import com.sun.javafx.tk.FileChooserType;
 import com.sun.javafx.tk.FontLoader;
@@ -599,6 +600,7 @@ public final class QuantumToolkit extends Toolkit {
         } finally {
             inPulse--;
             if (PULSE_LOGGING_ENABLED) {
+                GlyphLayoutCache.logPulseStatistics();
                 PulseLogger.pulseEnd();
             }
         }
@@ -1448,6 +1450,22 @@ public final class QuantumToolkit extends Toolkit {
             image = img;
         }
 
+        // Returns the pixels of the image if a snapshot of the given size
+        // can be read back into them in place, or null
+        IntBuffer getReusablePixels(int w, int h) {
+            if (image != null &&
+                    image.getPixelFormat() == com.sun.prism.PixelFormat.INT_ARGB_PRE &&
+                    image.getWidth() == w && image.getHeight() == h &&
+                    image.getMinX() == 0 && image.getMinY() == 0 &&
+                    image.getScanlineStride() == w * image.getBytesPerPixelUnit() &&
+                    image.getPixelBuffer() instanceof IntBuffer ib &&
+                    ib.capacity() == w * h) {
+                ib.clear();
+                return ib;
+            }
+            return null;
+        }
+
         @Override
         public Exception getException() {
             return (image == null)
@@ -1582,8 +1600,16 @@ public final class QuantumToolkit extends Toolkit {
                 Graphics g = rt.createGraphics();
                 draw(g, x, y, w, h);
                 int[] pixels = rt.getPixels();
+                IntBuffer reusable;
                 if (pixels != null) {
                     pImage.setImage(com.sun.prism.Image.fromIntArgbPreData(pixels, w, h));
+                } else if ((reusable = pImage.getReusablePixels(w, h)) != null &&
+                        rt.readPixels(reusable, rt.getContentX(), rt.getContentY(), w, h)) {
+                    // The snapshot was read back in place into the image of
+                    // a previous snapshot, so that repeated snapshots into the
+                    // same WritableImage do not allocate a new pixel buffer
+                    reusable.rewind();
+                    pImage.image.getSerial().update(null);
                 } else {
                     IntBuffer ib = IntBuffer.allocate(w * h);
                     if (rt.readPixels(ib, rt.getContentX(), rt.getContentY(), w, h)) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,7 @@ import com.sun.javafx.geom.DirtyRegionContainer;
 import com.sun.javafx.geom.DirtyRegionPool;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.Affine3D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
@@ -47,6 +48,9 @@ import com.sun.prism.RTTexture;
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.ps.BaseShaderGraphics;
+import com.sun.prism.impl.shape.ShapeMaskPrefetcher;
+import com.sun.prism.impl.shape.ShapeUtil;
 import com.sun.prism.paint.Color;
 import com.sun.prism.paint.Paint;
 import com.sun.javafx.logging.PulseLogger;
@@ -123,6 +127,12 @@ abstract class ViewPainter implements Runnable {
      */
     private RTTexture sceneBuffer;
 
+    // Used to rasterize the masks of changed shapes in parallel before
+    // painting when -Dprism.prefetchShapeMasks=true
+    private ShapeMaskPrefetcher maskPrefetcher;
+    private Affine2D prefetchTx;
+    private RectBounds prefetchBounds;
+
     protected ViewPainter(GlassScene gs) {
         sceneState = gs.getSceneState();
         if (sceneState == null) {
@@ -258,6 +268,8 @@ abstract class ViewPainter implements Runnable {
         // might as well save this reference.
         final int dirtyRegionSize = status == DirtyRegionContainer.DTR_OK ? dirtyRegionContainer.size() : 0;
 
+        final boolean prefetchingMasks = startMaskPrefetch(g, pixelScaleX, pixelScaleY);
+
         if (dirtyRegionSize > 0) {
             // We set this flag on Graphics so that subsequent code in the render paths of
             // NGNode know whether they ought to be paying attention to dirty region
@@ -335,6 +347,10 @@ abstract class ViewPainter implements Runnable {
             overlayRoot.render(g);
         }
 
+        if (prefetchingMasks) {
+            endMaskPrefetch();
+        }
+
         // If we're showing dirty regions or overdraw, then we're going to need to draw
         // over-top the normal scene. If we have been drawing do the back buffer, then we
         // will just draw on top of it. If we have been drawing to the sceneBuffer, then
@@ -439,6 +455,39 @@ abstract class ViewPainter implements Runnable {
         return sceneState.isWindowVisible() && !sceneState.isWindowMinimized();
     }
 
+    private boolean startMaskPrefetch(Graphics g, float pixelScaleX, float pixelScaleY) {
+        // The masks are only used by the shader pipelines, and they can only
+        // be predicted when the scene is rendered with 2D transforms
+        if (!PrismSettings.prefetchShapeMasks || !(g instanceof BaseShaderGraphics) ||
+                sceneState.getCamera() instanceof NGPerspectiveCamera ||
+                !g.getTransformNoClone().is2D())
+        {
+            return false;
+        }
+        if (maskPrefetcher == null) {
+            maskPrefetcher = new ShapeMaskPrefetcher();
+            prefetchTx = new Affine2D();
+            prefetchBounds = new RectBounds();
+        } else {
+            // discard anything left over from a frame that failed to paint
+            maskPrefetcher.endFrame();
+        }
+        prefetchTx.setTransform(g.getTransformNoClone());
+        prefetchBounds.deriveWithNewBounds(0, 0, 0, width * pixelScaleX, height * pixelScaleY, 0);
+        root.prefetchShapeMasks(prefetchTx, prefetchBounds, maskPrefetcher);
+        ShapeUtil.setMaskPrefetcher(maskPrefetcher);
+        return true;
+    }
+
+    private void endMaskPrefetch() {
+        ShapeUtil.setMaskPrefetcher(null);
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.addMessage(maskPrefetcher.getTakenCount() + " of " +
+                    maskPrefetcher.getSubmittedCount() + " prefetched shape masks used");
+        }
+        maskPrefetcher.endFrame();
+    }
+
     protected float getPixelScaleFactorX() {
         return presentable == null ? 1.0f : presentable.getPixelScaleFactorX();
     }
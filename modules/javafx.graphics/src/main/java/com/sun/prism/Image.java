@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -696,8 +696,12 @@ public class Image implements PlatformImage {
     }
 
     public static class Serial {
+        // Number of recent dirty regions kept, must be a power of 2
+        private static final int HISTORY_SIZE = 8;
+
         private int id;
         private Rectangle dirtyRegion;
+        private final Rectangle[] history = new Rectangle[HISTORY_SIZE];
 
         Serial() {
             id = 0;
@@ -709,10 +713,39 @@ public class Image implements PlatformImage {
             return new Pair(id, (dirtyRegion == null)? null : new Rectangle(dirtyRegion));
         }
 
+        /**
+         * Returns the current serial id together with the union of the
+         * dirty regions of all updates made after {@code sinceId}, so that
+         * a consumer which missed several updates can still refresh only
+         * the changed area. The region is {@code null} if any of those
+         * updates dirtied the whole image or if they are no longer known.
+         */
+        public synchronized Pair<Integer, Rectangle> getIdRect(int sinceId) {
+            // Called on quantumRenderer-0
+            int count = id - sinceId;
+            Rectangle union = null;
+            if (count > 0 && count <= HISTORY_SIZE) {
+                for (int n = 1; n <= count; n++) {
+                    Rectangle rect = history[(sinceId + n) & (HISTORY_SIZE - 1)];
+                    if (rect == null) {
+                        union = null;
+                        break;
+                    }
+                    if (union == null) {
+                        union = new Rectangle(rect);
+                    } else {
+                        union.add(rect);
+                    }
+                }
+            }
+            return new Pair(id, union);
+        }
+
         public synchronized void update(Rectangle rect) {
             // Called on FX Application thread
             id++;
             dirtyRegion = rect;
+            history[id & (HISTORY_SIZE - 1)] = rect;
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -192,6 +192,17 @@ public abstract class BaseContext {
         glyphCaches.clear();
     }
 
+    void releaseGlyphCache(FontStrike strike) {
+        Map<FontStrike, GlyphCache> glyphCaches =
+            (strike.getAAMode() == FontResource.AA_LCD)
+            ? lcdGlyphCaches : greyGlyphCaches;
+        GlyphCache cache = glyphCaches.remove(strike);
+        if (cache != null) {
+            strike.clearDesc();
+            cache.clear();
+        }
+    }
+
     abstract public RTTexture getLCDBuffer();
 
     public GlyphCache getGlyphCache(FontStrike strike) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -241,9 +241,10 @@ public abstract class BaseResourceFactory implements ResourceFactory {
                 texCache.put(image, tex);
             }
         } else if (tex.getLastImageSerial() != idRect.getKey()) {
-            // If the image was updated only once, then the image is partially updated.
-            // Else whole image is updated.
-            if (idRect.getKey() - tex.getLastImageSerial() == 1 && idRect.getValue() != null) {
+            // If the dirty regions of all updates since the last upload are
+            // known, then only their union is updated. Else whole image is updated.
+            idRect = image.getSerial().getIdRect(tex.getLastImageSerial());
+            if (idRect.getValue() != null) {
                 Rectangle dirtyRect = idRect.getValue();
                 tex.update(image.getPixelBuffer(), image.getPixelFormat(),
                         dirtyRect.x, dirtyRect.y, dirtyRect.x, dirtyRect.y,
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.prism.Texture;
+import com.sun.prism.impl.packrect.RectanglePacker;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The glyph texture shared by all the GlyphCaches of a context, divided
+ * into horizontal pages. Each page packs its own rectangles, so when the
+ * texture is full only the least recently used page needs to be cleared,
+ * instead of the whole texture and every glyph cache of the context.
+ *
+ * All the pages live on the same texture, so a string can still be drawn
+ * with a single texture bound, whichever pages its glyphs are on.
+ *
+ * A glyph taller than a page still fits the texture: the whole texture is
+ * then cleared and used as a single page, as it was before it was divided,
+ * until that page is full and a glyph that fits a page is added.
+ */
+final class GlyphAtlas {
+
+    // A page shorter than this can't hold a glyph of a large font
+    private static final int MIN_PAGE_HEIGHT = 64;
+
+    /**
+     * A user of the atlas, which has glyphs on its pages.
+     */
+    interface Owner {
+        /**
+         * Forgets the glyphs stored on the given page, which is about to be cleared.
+         */
+        void removeGlyphs(Page page);
+    }
+
+    private final Texture texture;
+    private final int width;
+    private final int height;
+    private final int pageCount;
+    private final int pageHeight;
+    private Page[] pages;
+    private long clock;
+
+    GlyphAtlas(Texture texture, int width, int height, int pageCount) {
+        this.texture = texture;
+        this.width = width;
+        this.height = height;
+        this.pageCount = Math.max(1, Math.min(pageCount, height / MIN_PAGE_HEIGHT));
+        this.pageHeight = height / this.pageCount;
+        pages = createPages(this.pageCount);
+    }
+
+    private Page[] createPages(int count) {
+        int h = height / count;
+        Page[] newPages = new Page[count];
+        for (int i = 0; i < count; i++) {
+            int y = i * h;
+            // The last page also takes the rows left over by the division
+            int ph = (i == count - 1) ? height - y : h;
+            newPages[i] = new Page(new RectanglePacker(texture, 0, y, width, ph, false), y, ph);
+        }
+        return newPages;
+    }
+
+    Texture getBackingStore() {
+        return texture;
+    }
+
+    /**
+     * Returns whether the rectangle fits on a page when the texture is
+     * divided into pages.
+     */
+    boolean fitsPage(Rectangle rect) {
+        return rect.width <= width && rect.height <= pageHeight;
+    }
+
+    /**
+     * Places the rectangle on one of the pages, and records the owner of
+     * the rectangle as an owner of that page.
+     *
+     * @return the page, or null if no page has room for the rectangle
+     */
+    Page add(Rectangle rect, Owner owner) {
+        for (Page page : pages) {
+            if (page.packer.add(rect)) {
+                page.owners.put(owner, Boolean.TRUE);
+                touch(page);
+                return page;
+            }
+        }
+        return null;
+    }
+
+    void touch(Page page) {
+        page.lastUsed = ++clock;
+    }
+
+    /**
+     * Makes room for a rectangle that could not be added. The least recently
+     * used page is cleared if the rectangle fits on a page. Otherwise the
+     * whole texture is cleared and used as a single page. The caller must
+     * flush any vertices that may still refer to the cleared pages before
+     * calling this method.
+     *
+     * @return the owners that had glyphs on the cleared pages
+     */
+    List<Owner> evict(Rectangle rect) {
+        List<Owner> owners = new ArrayList<>();
+        if (!fitsPage(rect) || pages.length != pageCount) {
+            for (Page page : pages) {
+                clear(page, owners);
+            }
+            pages = createPages(fitsPage(rect) ? pageCount : 1);
+        } else {
+            Page lru = pages[0];
+            for (Page page : pages) {
+                if (page.lastUsed < lru.lastUsed) {
+                    lru = page;
+                }
+            }
+            clear(lru, owners);
+            touch(lru);
+        }
+        return owners;
+    }
+
+    private void clear(Page page, List<Owner> owners) {
+        for (Owner owner : page.owners.keySet()) {
+            owner.removeGlyphs(page);
+            if (!owners.contains(owner)) {
+                owners.add(owner);
+            }
+        }
+        page.owners.clear();
+        page.packer.clear();
+    }
+
+    // package for testing
+    Page[] getPages() {
+        return pages;
+    }
+
+    void dispose() {
+        texture.dispose();
+    }
+
+    static final class Page {
+        private final RectanglePacker packer;
+        private final Map<Owner, Boolean> owners = new IdentityHashMap<>();
+        private final int y;
+        private final int height;
+        private long lastUsed;
+
+        private Page(RectanglePacker packer, int y, int height) {
+            this.packer = packer;
+            this.y = y;
+            this.height = height;
+        }
+
+        // package for testing
+        int getY() {
+            return y;
+        }
+
+        // package for testing
+        int getHeight() {
+            return height;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,13 +35,13 @@ import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.scene.text.GlyphList;
-import com.sun.prism.impl.packrect.RectanglePacker;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.shape.MaskData;
 import com.sun.prism.paint.Color;
 
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.WeakHashMap;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
@@ -50,7 +50,7 @@ import com.sun.javafx.logging.PulseLogger;
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture.WrapMode;
 
-public class GlyphCache {
+public class GlyphCache implements GlyphAtlas.Owner {
 
     // REMIND: For a less powerful device, the size of this cache
     // is likely something we'd want to tune as they may have much less
@@ -59,8 +59,11 @@ public class GlyphCache {
     // 2048 pixels introduced very noticeable pauses when trying
     // to free 1/4 of the glyphs, which for spiral text also amounts
     // to 1/4 of the strikes.
+    // The texture is divided in pages, and only the least recently used
+    // page is cleared when the texture is full, see GlyphAtlas.
     private static final int WIDTH = PrismSettings.glyphCacheWidth; // in pixels
     private static final int HEIGHT = PrismSettings.glyphCacheHeight; // in pixels
+    private static final int PAGES = PrismSettings.glyphCachePages;
     private static ByteBuffer emptyMask;
 
     private final BaseContext context;
@@ -77,17 +80,20 @@ public class GlyphCache {
     // Using them for subpixel
     private static final int SUBPIXEL_SHIFT = 27;
 
-    private RectanglePacker packer;
+    private GlyphAtlas atlas;
+
+    // The number of glyphs of this cache stored on the atlas
+    private int atlasGlyphCount;
 
     private boolean isLCDCache;
 
-    /* Share a RectanglePacker and its associated texture cache
+    /* Share a GlyphAtlas and its associated texture cache
      * for all uses on a particular screen.
      */
-    static WeakHashMap<BaseContext, RectanglePacker> greyPackerMap =
+    static WeakHashMap<BaseContext, GlyphAtlas> greyAtlasMap =
         new WeakHashMap<>();
 
-    static WeakHashMap<BaseContext, RectanglePacker> lcdPackerMap =
+    static WeakHashMap<BaseContext, GlyphAtlas> lcdAtlasMap =
         new WeakHashMap<>();
 
     public GlyphCache(BaseContext context, FontStrike strike) {
@@ -97,10 +103,10 @@ public class GlyphCache {
         //int numSegments = (numGlyphs + SEGSIZE-1)/SEGSIZE;
         //this.glyphs = new GlyphData[numSegments][];
         isLCDCache = strike.getAAMode() == FontResource.AA_LCD;
-        WeakHashMap<BaseContext, RectanglePacker>
-            packerMap = isLCDCache ? lcdPackerMap : greyPackerMap;
-        packer = packerMap.get(context);
-        if (packer == null) {
+        WeakHashMap<BaseContext, GlyphAtlas>
+            atlasMap = isLCDCache ? lcdAtlasMap : greyAtlasMap;
+        atlas = atlasMap.get(context);
+        if (atlas == null) {
             ResourceFactory factory = context.getResourceFactory();
             Texture tex = factory.createMaskTexture(WIDTH, HEIGHT,
                                                     WrapMode.CLAMP_NOT_NEEDED);
@@ -110,8 +116,8 @@ public class GlyphCache {
                 factory.setGlyphTexture(tex);
             }
             tex.setLinearFiltering(false);
-            packer = new RectanglePacker(tex, WIDTH, HEIGHT);
-            packerMap.put(context, packer);
+            atlas = new GlyphAtlas(tex, WIDTH, HEIGHT, PAGES);
+            atlasMap.put(context, atlas);
         }
     }
 
@@ -223,19 +229,49 @@ public class GlyphCache {
     }
 
     public Texture getBackingStore() {
-        return packer.getBackingStore();
+        return atlas.getBackingStore();
     }
 
     public void clear() {
         glyphDataMap.clear();
+        atlasGlyphCount = 0;
     }
 
-    private void clearAll() {
+    private void evictPage(Rectangle rect) {
         // flush any pending vertices that may depend on the current state
         // of the glyph cache texture.
         context.flushVertexBuffer();
-        context.clearGlyphCaches();
-        packer.clear();
+        for (GlyphAtlas.Owner owner : atlas.evict(rect)) {
+            // Release the strikes that no longer have glyphs on the
+            // texture, as clearing the whole cache used to do.
+            if (owner != this && owner instanceof GlyphCache cache && cache.atlasGlyphCount == 0) {
+                context.releaseGlyphCache(cache.strike);
+            }
+        }
+    }
+
+    /**
+     * Forgets the glyphs stored on the given page of the atlas,
+     * which is about to be cleared.
+     */
+    @Override
+    public void removeGlyphs(GlyphAtlas.Page page) {
+        for (Iterator<GlyphData[]> iter = glyphDataMap.values().iterator(); iter.hasNext();) {
+            GlyphData[] segment = iter.next();
+            boolean empty = true;
+            for (int i = 0; i < SEGSIZE; i++) {
+                GlyphData data = segment[i];
+                if (data != null && data.page == page) {
+                    segment[i] = null;
+                    atlasGlyphCount--;
+                } else if (data != null) {
+                    empty = false;
+                }
+            }
+            if (empty) {
+                iter.remove();
+            }
+        }
     }
 
     private GlyphData getCachedGlyph(int glyphCode, int subPixel) {
@@ -244,8 +280,12 @@ public class GlyphCache {
         segIndex |= (subPixel << SUBPIXEL_SHIFT);
         GlyphData[] segment = glyphDataMap.get(segIndex);
         if (segment != null) {
-            if (segment[subIndex] != null) {
-                return segment[subIndex];
+            GlyphData data = segment[subIndex];
+            if (data != null) {
+                if (data.page != null) {
+                    atlas.touch(data.page);
+                }
+                return data;
             }
         } else {
             segment = new GlyphData[SEGSIZE];
@@ -261,7 +301,7 @@ public class GlyphCache {
                 data = new GlyphData(0, 0, 0,
                                      glyph.getPixelXAdvance(),
                                      glyph.getPixelYAdvance(),
-                                     null);
+                                     null, null);
             } else {
                 // Rasterize the glyph
                 // NOTE : if the MaskData can be stored back directly
@@ -280,24 +320,34 @@ public class GlyphCache {
                 int originX = maskData.getOriginX();
                 int originY = maskData.getOriginY();
                 Rectangle rect = new Rectangle(0, 0, rectW, rectH);
-                data = new GlyphData(originX, originY, border,
-                                     glyph.getPixelXAdvance(),
-                                     glyph.getPixelYAdvance(),
-                                     rect);
-
-                if (!packer.add(rect)) {
+                GlyphAtlas.Page page = atlas.add(rect, this);
+                if (page == null) {
                     if (PULSE_LOGGING_ENABLED) {
-                        PulseLogger.incrementCounter("Font Glyph Cache Cleared");
+                        PulseLogger.incrementCounter(atlas.fitsPage(rect)
+                                ? "Font Glyph Cache Page Evicted"
+                                : "Font Glyph Cache Cleared");
                     }
-                    // If add fails,clear up the cache. Try add again.
-                    clearAll();
-                    if (!packer.add(rect)) {
+                    // If add fails, clear up the least recently used page,
+                    // or the whole texture for a glyph taller than a page.
+                    // Try add again.
+                    evictPage(rect);
+                    page = atlas.add(rect, this);
+                    if (page == null) {
                         if (PrismSettings.verbose) {
                             System.out.println(rect + " won't fit in GlyphCache");
                         }
                         return null;
                     }
                 }
+                // The eviction may have removed the segment of this glyph
+                if (glyphDataMap.get(segIndex) != segment) {
+                    glyphDataMap.put(segIndex, segment);
+                }
+                atlasGlyphCount++;
+                data = new GlyphData(originX, originY, border,
+                                     glyph.getPixelXAdvance(),
+                                     glyph.getPixelYAdvance(),
+                                     rect, page);
 
                 // We always pass skipFlush=true to backingStore.update()
                 // since we are in control of the contents of the backingStore
@@ -362,8 +412,12 @@ public class GlyphCache {
         // The rectangle on the backing store corresponding to this glyph
         private final Rectangle rect;
 
+        // The page of the atlas holding the rectangle
+        private final GlyphAtlas.Page page;
+
         GlyphData(int originX, int originY, int blankBoundary,
-                  float xAdvance, float yAdvance, Rectangle rect)
+                  float xAdvance, float yAdvance, Rectangle rect,
+                  GlyphAtlas.Page page)
         {
             this.originX = originX;
             this.originY = originY;
@@ -371,6 +425,7 @@ public class GlyphCache {
             this.xAdvance = xAdvance;
             this.yAdvance = yAdvance;
             this.rect = rect;
+            this.page = page;
         }
 
         int getOriginX() {
@@ -398,18 +453,18 @@ public class GlyphCache {
         }
     }
 
-    private static void disposePackerForContext(BaseContext ctx,
-            WeakHashMap<BaseContext, RectanglePacker> packerMap) {
+    private static void disposeAtlasForContext(BaseContext ctx,
+            WeakHashMap<BaseContext, GlyphAtlas> atlasMap) {
 
-        RectanglePacker packer = packerMap.remove(ctx);
-        if (packer != null) {
-            packer.dispose();
+        GlyphAtlas atlas = atlasMap.remove(ctx);
+        if (atlas != null) {
+            atlas.dispose();
         }
     }
 
     public static void disposeForContext(BaseContext ctx) {
-        disposePackerForContext(ctx, greyPackerMap);
-        disposePackerForContext(ctx, lcdPackerMap);
+        disposeAtlasForContext(ctx, greyAtlasMap);
+        disposeAtlasForContext(ctx, lcdAtlasMap);
     }
 
 }
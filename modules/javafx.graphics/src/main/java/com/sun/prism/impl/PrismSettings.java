@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -76,6 +76,7 @@ public final class PrismSettings {
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
+    public static final int glyphCachePages;
     public static final String perfLog;
     public static final boolean perfLogExitFlush;
     public static final boolean perfLogFirstPaintFlush;
@@ -84,6 +85,9 @@ public final class PrismSettings {
     public static final boolean forceUploadingPainter;
     public static final boolean forceAlphaTestShader;
     public static final boolean forceNonAntialiasedShape;
+    public static final int swTileThreads;
+    public static final int swTileMinHeight;
+    public static final boolean prefetchShapeMasks;
 
     public static enum RasterizerType {
         DoubleMarlin("Double Precision Marlin Rasterizer");
@@ -332,6 +336,8 @@ public final class PrismSettings {
                 "Try -Dprism.glyphCacheWidth=<number>");
         glyphCacheHeight = getInt(systemProperties, "prism.glyphCacheHeight", 1024,
                 "Try -Dprism.glyphCacheHeight=<number>");
+        glyphCachePages = getInt(systemProperties, "prism.glyphCachePages", 4,
+                "Try -Dprism.glyphCachePages=<number>");
 
         /*
          * Performance Logger flags
@@ -356,6 +362,30 @@ public final class PrismSettings {
         // Force non anti-aliasing (not smooth) shape rendering
         forceNonAntialiasedShape = getBoolean(systemProperties, "prism.forceNonAntialiasedShape", false);
 
+        /*
+         * Software pipeline: rasterize large shapes as horizontal tiles on
+         * the render worker pool. A value of 0 (the default) keeps all of the
+         * rasterization on the render thread, while "true" uses one tile per
+         * available processor.
+         */
+        swTileThreads = Math.max(0, getInt(systemProperties, "prism.sw.tilethreads", 0,
+                Runtime.getRuntime().availableProcessors(),
+                "Try -Dprism.sw.tilethreads=<number>"));
+        swTileMinHeight = Math.max(1, getInt(systemProperties, "prism.sw.tileminheight", 64,
+                "Try -Dprism.sw.tileminheight=<number>"));
+        if (verbose && swTileThreads > 0) {
+            System.out.println("SW pipeline rasterizing shapes with up to " + swTileThreads + " tiles");
+        }
+
+        /*
+         * Rasterize the masks of the path shapes that changed since the last
+         * frame in parallel on the render worker pool before painting.
+         */
+        prefetchShapeMasks = getBoolean(systemProperties, "prism.prefetchShapeMasks", false);
+        if (verbose) {
+            printBooleanOption(prefetchShapeMasks, "Prefetching shape masks");
+        }
+
     }
 
     private static int parseInt(String s, int dflt, int trueDflt,
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lazily created pool of daemon worker threads that the rendering code
+ * can use to fan out CPU bound work that does not touch any pipeline
+ * resources (such as rasterizing shape coverage into byte masks).
+ * Callers on the render thread are expected to join all of the tasks they
+ * submit before they use the results.
+ */
+public final class RenderWorkerPool {
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static ForkJoinPool pool;
+
+    private RenderWorkerPool() {
+    }
+
+    /**
+     * Returns the shared worker pool, creating it on first use.
+     *
+     * @return the shared worker pool
+     */
+    public static synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            final int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+            pool = new ForkJoinPool(parallelism, p -> {
+                ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                t.setName("Prism Render Worker-" + threadCount.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            }, null, false);
+            if (PrismSettings.verbose) {
+                System.out.println("Prism render worker pool created with parallelism " + parallelism);
+            }
+        }
+        return pool;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -37,6 +37,7 @@ import com.sun.marlin.MaskMarlinAlphaConsumer;
 import com.sun.marlin.RendererContext;
 import com.sun.prism.BasicStroke;
 import com.sun.prism.impl.PrismSettings;
+import java.util.Arrays;
 
 /**
  * Thread-safe Marlin rasterizer (TL or CLQ storage)
@@ -52,6 +53,26 @@ public final class DMarlinRasterizer implements ShapeRasterizer {
                                 RectBounds xformBounds,
                                 BaseTransform xform,
                                 boolean close, boolean antialiasedShape)
+    {
+        return rasterize(shape, stroke, xformBounds, xform, antialiasedShape, false);
+    }
+
+    @Override
+    public MaskData getMaskDataCopy(Shape shape,
+                                    BasicStroke stroke,
+                                    RectBounds xformBounds,
+                                    BaseTransform xform,
+                                    boolean close, boolean antialiasedShape)
+    {
+        return rasterize(shape, stroke, xformBounds, xform, antialiasedShape, true);
+    }
+
+    private static MaskData rasterize(Shape shape,
+                                      BasicStroke stroke,
+                                      RectBounds xformBounds,
+                                      BaseTransform xform,
+                                      boolean antialiasedShape,
+                                      boolean copy)
     {
         if (stroke != null && stroke.getType() != BasicStroke.TYPE_CENTERED) {
             // JDK-8090672
@@ -113,6 +134,12 @@ public final class DMarlinRasterizer implements ShapeRasterizer {
             if (!DO_RENDER) {
                 return EMPTY_MASK;
             }
+            if (copy) {
+                // the consumer is owned by the RendererContext, which can be
+                // reused by another thread as soon as it has been returned
+                final byte[] alphas = Arrays.copyOf(consumer.getMaskData().getMaskBuffer().array(), w * h);
+                return MaskData.create(alphas, outpix_xmin, outpix_ymin, w, h);
+            }
             return consumer.getMaskData();
         } finally {
             if (renderer != null) {
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl.shape;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.impl.RenderWorkerPool;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Rasterizes the coverage masks of shapes that are expected to be rendered
+ * in the upcoming frame in parallel on the render worker pool, so that the
+ * render pass only has to upload them.
+ *
+ * The render thread calls {@link #submit} for each shape before it starts
+ * painting, installs the prefetcher with
+ * {@link ShapeUtil#setMaskPrefetcher}, and calls {@link #endFrame} when it
+ * is done. {@link ShapeUtil#rasterizeShape} then takes a prefetched mask
+ * when the request matches one that was submitted; the shape must be the
+ * same instance, the stroke and antialiasing flag must be equal, the
+ * transform must be identical and the requested bounds must lie within
+ * the bounds that the mask was rasterized for. Requests that do not match
+ * are rasterized on the render thread as usual.
+ *
+ * Shapes are matched by identity and are read by the worker threads while
+ * the frame is painted, so the submitted shapes must not be mutated before
+ * {@link #endFrame} is called. This holds for the geometry of the scene
+ * graph nodes, which is only synchronized between frames.
+ */
+public final class ShapeMaskPrefetcher {
+
+    private static final class Request {
+        final BasicStroke stroke;
+        final BaseTransform xform;
+        final RectBounds bounds;
+        final boolean antialiasedShape;
+        final ForkJoinTask<MaskData> task;
+        volatile boolean discarded;
+        Request next;
+
+        Request(Shape shape, BasicStroke stroke, BaseTransform xform,
+                RectBounds bounds, boolean antialiasedShape)
+        {
+            this.stroke = stroke;
+            this.xform = xform;
+            this.bounds = bounds;
+            this.antialiasedShape = antialiasedShape;
+            this.task = RenderWorkerPool.getPool().submit(() -> discarded ? null :
+                    ShapeUtil.rasterizeShapeCopy(shape, stroke, bounds, xform, true, antialiasedShape));
+        }
+
+        boolean matches(BasicStroke stroke, BaseTransform xform,
+                        RectBounds bounds, boolean antialiasedShape)
+        {
+            return this.antialiasedShape == antialiasedShape &&
+                   Objects.equals(this.stroke, stroke) &&
+                   this.xform.getMxx() == xform.getMxx() &&
+                   this.xform.getMxy() == xform.getMxy() &&
+                   this.xform.getMxt() == xform.getMxt() &&
+                   this.xform.getMyx() == xform.getMyx() &&
+                   this.xform.getMyy() == xform.getMyy() &&
+                   this.xform.getMyt() == xform.getMyt() &&
+                   this.bounds.contains(bounds);
+        }
+    }
+
+    private final Thread renderThread = Thread.currentThread();
+    private final IdentityHashMap<Shape, Request> requests = new IdentityHashMap<>();
+    private int submitted;
+    private int taken;
+
+    /**
+     * Starts rasterizing the mask of the given shape on the worker pool.
+     * Only 2D transforms are supported; shapes with other transforms are
+     * ignored.
+     *
+     * @param shape the shape, which must not be mutated until the end of the frame
+     * @param stroke the stroke, or null to fill the shape
+     * @param xform the transform the shape will be rendered with
+     * @param bounds the device space bounds to rasterize the mask for
+     * @param antialiasedShape whether the shape will be antialiased
+     */
+    public void submit(Shape shape, BasicStroke stroke, BaseTransform xform,
+                       RectBounds bounds, boolean antialiasedShape)
+    {
+        if (!xform.is2D() || bounds.isEmpty()) {
+            return;
+        }
+        final Request request = new Request(shape, (stroke == null) ? null : stroke.copy(),
+                xform.copy(), new RectBounds(bounds), antialiasedShape);
+        request.next = requests.put(shape, request);
+        submitted++;
+    }
+
+    /**
+     * Returns the prefetched mask for the given request, waiting for it to
+     * be rasterized if necessary, or null if no matching mask was submitted.
+     */
+    MaskData take(Shape shape, BasicStroke stroke, RectBounds xformBounds,
+                  BaseTransform xform, boolean antialiasedShape)
+    {
+        if (xformBounds == null || xform == null || Thread.currentThread() != renderThread) {
+            return null;
+        }
+        Request prev = null;
+        for (Request r = requests.get(shape); r != null; prev = r, r = r.next) {
+            if (r.matches(stroke, xform, xformBounds, antialiasedShape)) {
+                if (prev != null) {
+                    prev.next = r.next;
+                } else if (r.next != null) {
+                    requests.put(shape, r.next);
+                } else {
+                    requests.remove(shape);
+                }
+                taken++;
+                return r.task.join();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of masks that were submitted since the last call
+     * to {@link #endFrame}.
+     */
+    public int getSubmittedCount() {
+        return submitted;
+    }
+
+    /**
+     * Returns the number of submitted masks that were used by the render
+     * pass since the last call to {@link #endFrame}.
+     */
+    public int getTakenCount() {
+        return taken;
+    }
+
+    /**
+     * Discards all of the masks that were not used by the render pass,
+     * skipping their rasterization if it has not started yet, and waits
+     * for any rasterization still in progress to complete, after which the
+     * submitted shapes may be mutated again.
+     */
+    public void endFrame() {
+        for (Request r : requests.values()) {
+            for (; r != null; r = r.next) {
+                r.discarded = true;
+            }
+        }
+        for (Request r : requests.values()) {
+            for (; r != null; r = r.next) {
+                r.task.quietlyJoin();
+            }
+        }
+        requests.clear();
+        submitted = 0;
+        taken = 0;
+    }
+}
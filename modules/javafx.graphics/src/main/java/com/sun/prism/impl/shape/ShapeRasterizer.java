@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,4 +36,14 @@ public interface ShapeRasterizer {
                                 RectBounds xformBounds,
                                 BaseTransform xform,
                                 boolean close, boolean antialiasedShape);
+
+    /**
+     * Rasterizes the shape like {@link #getMaskData} but returns a mask that
+     * owns its coverage data, so that the result stays valid after any
+     * further rasterization on the calling thread or any other thread.
+     */
+    public MaskData getMaskDataCopy(Shape shape, BasicStroke stroke,
+                                    RectBounds xformBounds,
+                                    BaseTransform xform,
+                                    boolean close, boolean antialiasedShape);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -43,15 +43,42 @@ public class ShapeUtil {
         }
     }
 
+    private static volatile ShapeMaskPrefetcher maskPrefetcher;
+
     public static MaskData rasterizeShape(Shape shape,
                                           BasicStroke stroke,
                                           RectBounds xformBounds,
                                           BaseTransform xform,
                                           boolean close, boolean antialiasedShape)
     {
+        final ShapeMaskPrefetcher prefetcher = maskPrefetcher;
+        if (prefetcher != null) {
+            final MaskData maskData = prefetcher.take(shape, stroke, xformBounds, xform, antialiasedShape);
+            if (maskData != null) {
+                return maskData;
+            }
+        }
         return shapeRasterizer.getMaskData(shape, stroke, xformBounds, xform, close, antialiasedShape);
     }
 
+    static MaskData rasterizeShapeCopy(Shape shape,
+                                       BasicStroke stroke,
+                                       RectBounds xformBounds,
+                                       BaseTransform xform,
+                                       boolean close, boolean antialiasedShape)
+    {
+        return shapeRasterizer.getMaskDataCopy(shape, stroke, xformBounds, xform, close, antialiasedShape);
+    }
+
+    /**
+     * Installs the prefetcher whose results {@link #rasterizeShape} should
+     * consult for the frame that is about to be painted, or removes it when
+     * {@code null} is passed.
+     */
+    public static void setMaskPrefetcher(ShapeMaskPrefetcher prefetcher) {
+        maskPrefetcher = prefetcher;
+    }
+
     public static Shape createCenteredStrokedShape(Shape s, BasicStroke stroke) {
         return DMarlinRasterizer.createCenteredStrokedShape(s, stroke);
     }
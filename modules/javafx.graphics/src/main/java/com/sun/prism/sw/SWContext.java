@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,14 +35,19 @@ import com.sun.marlin.RendererContext;
 import com.sun.marlin.MarlinAlphaConsumer;
 import com.sun.marlin.MarlinConst;
 import com.sun.marlin.MarlinRenderer;
+import com.sun.marlin.MaskMarlinAlphaConsumer;
 import com.sun.pisces.PiscesRenderer;
 import com.sun.prism.BasicStroke;
 import com.sun.prism.PixelFormat;
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.RenderWorkerPool;
 import com.sun.prism.impl.shape.DMarlinPrismUtils;
+import com.sun.prism.impl.shape.MaskData;
 import java.lang.ref.SoftReference;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 final class SWContext {
 
@@ -194,12 +199,228 @@ final class SWContext {
         public void dispose() { }
     }
 
+    /**
+     * Shape renderer that splits the device space bounds of large shapes
+     * into horizontal tiles and rasterizes the coverage of each tile into
+     * its own alpha mask on the render worker pool. The PiscesRenderer is
+     * not thread safe, so the masks are composited into the render target
+     * on the calling thread once all of the tiles have been rasterized.
+     * Shapes that are too small to yield more than one tile are passed on
+     * to the direct (single threaded) renderer.
+     */
+    static final class TiledDMarlinShapeRenderer implements ShapeRenderer {
+        private final DMarlinShapeRenderer directRenderer = new DMarlinShapeRenderer();
+        private final int maxTiles;
+        private final int minTileHeight;
+        private final float[] bbox = new float[4];
+        private Tile[] tiles = new Tile[0];
+
+        TiledDMarlinShapeRenderer(int maxTiles, int minTileHeight) {
+            this.maxTiles = maxTiles;
+            this.minTileHeight = minTileHeight;
+        }
+
+        @Override
+        public void renderShape(PiscesRenderer pr, Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip, boolean antialiasedShape) {
+            if (stroke != null && stroke.getType() != BasicStroke.TYPE_CENTERED) {
+                // see DMarlinShapeRenderer.renderShape (JDK-8090672)
+                shape = stroke.createStrokedShape(shape);
+                stroke = null;
+            }
+            final int numTiles = rasterizeTiles(shape, stroke, tr, clip, antialiasedShape);
+            if (numTiles == 0) {
+                directRenderer.renderShape(pr, shape, stroke, tr, clip, antialiasedShape);
+                return;
+            }
+            try {
+                for (int i = 0; i < numTiles; i++) {
+                    tiles[i].composite(pr);
+                }
+            } finally {
+                clearTiles();
+            }
+        }
+
+        /**
+         * Rasterizes the coverage of the given (filled or centered stroke)
+         * shape into horizontal tiles, in parallel. Returns the number of
+         * tiles, or 0 if the shape is too small to be tiled, in which case
+         * nothing has been rasterized. The tile masks stay valid until
+         * {@link #clearTiles()} is called.
+         */
+        int rasterizeTiles(Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip, boolean antialiasedShape) {
+            final BaseTransform xform = (tr == null) ? BaseTransform.IDENTITY_TRANSFORM : tr;
+            bbox[0] = bbox[1] = Float.POSITIVE_INFINITY;
+            bbox[2] = bbox[3] = Float.NEGATIVE_INFINITY;
+            if (stroke != null) {
+                stroke.accumulateShapeBounds(bbox, shape, xform);
+            } else {
+                Shape.accumulate(bbox, shape, xform);
+            }
+            // pad by one pixel on each side to account for antialiasing
+            final int x0 = Math.max(clip.x, (int) Math.floor(bbox[0]) - 1);
+            final int x1 = Math.min(clip.x + clip.width, (int) Math.ceil(bbox[2]) + 1);
+            final int y0 = Math.max(clip.y, (int) Math.floor(bbox[1]) - 1);
+            final int y1 = Math.min(clip.y + clip.height, (int) Math.ceil(bbox[3]) + 1);
+            final int h = y1 - y0;
+            final int numTiles = (x1 > x0) ? Math.min(maxTiles, h / minTileHeight) : 0;
+            if (numTiles < 2) {
+                return 0;
+            }
+
+            if (tiles.length < numTiles) {
+                final Tile[] newTiles = new Tile[numTiles];
+                System.arraycopy(tiles, 0, newTiles, 0, tiles.length);
+                for (int i = tiles.length; i < numTiles; i++) {
+                    newTiles[i] = new Tile();
+                }
+                tiles = newTiles;
+            }
+            final int tileHeight = (h + numTiles - 1) / numTiles;
+            for (int i = 0; i < numTiles; i++) {
+                final int ty = y0 + i * tileHeight;
+                tiles[i].init(shape, stroke, tr, clip, antialiasedShape,
+                        ty, Math.min(tileHeight, y1 - ty));
+            }
+
+            // the calling thread rasterizes the first tile itself
+            final ForkJoinPool pool = RenderWorkerPool.getPool();
+            final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[numTiles];
+            for (int i = 1; i < numTiles; i++) {
+                tasks[i] = pool.submit(tiles[i]);
+            }
+            boolean done = false;
+            try {
+                tiles[0].run();
+                for (int i = 1; i < numTiles; i++) {
+                    tasks[i].join();
+                }
+                done = true;
+            } finally {
+                if (!done) {
+                    clearTiles();
+                }
+            }
+            return numTiles;
+        }
+
+        /**
+         * Returns the coverage mask of the given tile, or null if the tile
+         * is empty. Only valid between {@link #rasterizeTiles} and
+         * {@link #clearTiles()}.
+         */
+        MaskData getTileMask(int index) {
+            return tiles[index].getMask();
+        }
+
+        void clearTiles() {
+            for (Tile tile : tiles) {
+                tile.clear();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            directRenderer.dispose();
+            tiles = new Tile[0];
+        }
+    }
+
+    /**
+     * A horizontal tile of a shape, rasterized into its own alpha mask.
+     * The shape is clipped against the whole clip, as Marlin subdivides
+     * the curves at the clip edges, and only the rows of the tile are
+     * produced, so that the tiles match a single rasterization exactly.
+     * The coverage array is kept between shapes and grown as needed.
+     */
+    private static final class Tile implements Runnable {
+        private final Rectangle clip = new Rectangle();
+        private final Rectangle bounds = new Rectangle();
+        private MaskMarlinAlphaConsumer consumer;
+        private Shape shape;
+        private BasicStroke stroke;
+        private BaseTransform tr;
+        private boolean antialiasedShape;
+        private boolean empty;
+
+        void init(Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip,
+                  boolean antialiasedShape, int y, int h)
+        {
+            this.shape = shape;
+            this.stroke = stroke;
+            this.tr = tr;
+            this.antialiasedShape = antialiasedShape;
+            this.clip.setBounds(clip);
+            this.bounds.setBounds(clip.x, y, clip.width, h);
+            this.empty = true;
+        }
+
+        @Override
+        public void run() {
+            final RendererContext rdrCtx = DMarlinRenderingEngine.getRendererContext();
+            MarlinRenderer renderer = null;
+            try {
+                renderer = DMarlinPrismUtils.setupRenderer(rdrCtx, shape, stroke, tr, clip, bounds,
+                        antialiasedShape);
+                final int outpix_xmin = renderer.getOutpixMinX();
+                final int outpix_xmax = renderer.getOutpixMaxX();
+                final int outpix_ymin = renderer.getOutpixMinY();
+                final int outpix_ymax = renderer.getOutpixMaxY();
+                final int w = outpix_xmax - outpix_xmin;
+                final int h = outpix_ymax - outpix_ymin;
+                if ((w <= 0) || (h <= 0)) {
+                    return;
+                }
+                if (consumer == null || (w * h) > consumer.getAlphaLength()) {
+                    final int csize = (w * h + 0xfff) & (~0xfff);
+                    consumer = new MaskMarlinAlphaConsumer(csize);
+                }
+                consumer.setBoundsNoClone(outpix_xmin, outpix_ymin, w, h);
+                renderer.produceAlphas(consumer);
+                empty = false;
+            } finally {
+                if (renderer != null) {
+                    renderer.dispose();
+                }
+                // recycle the RendererContext instance
+                DMarlinRenderingEngine.returnRendererContext(rdrCtx);
+            }
+        }
+
+        MaskData getMask() {
+            return empty ? null : consumer.getMaskData();
+        }
+
+        void composite(PiscesRenderer pr) {
+            final MaskData mask = getMask();
+            if (mask == null) {
+                return;
+            }
+            pr.fillAlphaMask(mask.getMaskBuffer().array(),
+                    mask.getOriginX(), mask.getOriginY(),
+                    mask.getWidth(), mask.getHeight(),
+                    0, mask.getWidth());
+        }
+
+        void clear() {
+            shape = null;
+            stroke = null;
+            tr = null;
+            empty = true;
+        }
+    }
+
     SWContext(ResourceFactory factory) {
         this.factory = factory;
         switch (PrismSettings.rasterizerSpec) {
             default:
             case DoubleMarlin:
-                this.shapeRenderer = new DMarlinShapeRenderer();
+                if (PrismSettings.swTileThreads > 1) {
+                    this.shapeRenderer = new TiledDMarlinShapeRenderer(PrismSettings.swTileThreads,
+                            PrismSettings.swTileMinHeight);
+                } else {
+                    this.shapeRenderer = new DMarlinShapeRenderer();
+                }
                 break;
         }
     }
@@ -33,6 +33,7 @@ import javafx.collections.ObservableList;
 import com.sun.javafx.collections.TrackableObservableList;
 import com.sun.javafx.css.FontFaceImpl;
 import com.sun.javafx.css.RuleHelper;
+import com.sun.javafx.css.StylesheetHelper;
 import com.sun.javafx.css.media.MediaQueryList;
 import com.sun.javafx.css.media.MediaRule;
 import com.sun.javafx.css.media.TriState;
@@ -46,6 +47,7 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
@@ -62,6 +64,39 @@ import java.util.List;
  */
 public class Stylesheet {
 
+    static {
+        StylesheetHelper.setAccessor(new StylesheetHelper.Accessor() {
+            @Override
+            public Stylesheet parseUnmerged(URL url) throws IOException {
+                return new CssParser().parseUnmerged(url, true);
+            }
+
+            @Override
+            public List<Stylesheet> getImportedStylesheets(Stylesheet stylesheet) {
+                if (stylesheet.stylesheetImports == null) {
+                    return List.of();
+                }
+
+                List<Stylesheet> stylesheets = new ArrayList<>(stylesheet.stylesheetImports.size());
+                for (StylesheetImport stylesheetImport : stylesheet.stylesheetImports) {
+                    stylesheets.add(stylesheetImport.stylesheet());
+                }
+
+                return stylesheets;
+            }
+
+            @Override
+            public void writeBinary(Stylesheet stylesheet, OutputStream stream) throws IOException {
+                writeBinaryStylesheet(stylesheet, stream);
+            }
+
+            @Override
+            public Stylesheet loadBinary(InputStream stream, String url) throws IOException {
+                return Stylesheet.loadBinary(stream, url);
+            }
+        });
+    }
+
     /**
      * Version number of binary CSS format. The value is incremented whenever the format of the
      * binary stream changes. This number does not correlate with JavaFX versions.
@@ -434,6 +469,12 @@ public class Stylesheet {
         URI sourceURI = source.toURI();
         Stylesheet stylesheet = new CssParser().parseUnmerged(sourceURI.toURL(), true);
 
+        try (FileOutputStream fos = new FileOutputStream(destination)) {
+            writeBinaryStylesheet(stylesheet, fos);
+        }
+    }
+
+    private static void writeBinaryStylesheet(Stylesheet stylesheet, OutputStream stream) throws IOException {
         // first write all the css binary data into the buffer and collect strings on way
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         DataOutputStream dos = new DataOutputStream(baos);
@@ -442,8 +483,7 @@ public class Stylesheet {
         dos.flush();
         dos.close();
 
-        FileOutputStream fos = new FileOutputStream(destination);
-        DataOutputStream os = new DataOutputStream(fos);
+        DataOutputStream os = new DataOutputStream(stream);
 
         // write file version
         os.writeShort(BINARY_CSS_VERSION);
@@ -454,7 +494,6 @@ public class Stylesheet {
         // write binary css
         os.write(baos.toByteArray());
         os.flush();
-        os.close();
     }
 
     void addStylesheetImport(StylesheetImport stylesheetImport) {
@@ -132,10 +132,7 @@ final class CssStyleHelper {
             }
             node.styleHelper.cacheContainer.forceSlowpath = true;
 
-            if (triggerStates[0] != null) {
-                node.styleHelper.triggerStates.addAll(triggerStates[0]);
-            }
-
+            node.styleHelper.addTriggerStates(depth, triggerStates);
             updateParentTriggerStates(node, depth, triggerStates);
             return node.styleHelper;
 
@@ -175,10 +172,7 @@ final class CssStyleHelper {
 
         final CssStyleHelper helper = new CssStyleHelper();
 
-        if (triggerStates[0] != null) {
-            helper.triggerStates.addAll(triggerStates[0]);
-        }
-
+        helper.addTriggerStates(depth, triggerStates);
         updateParentTriggerStates(node, depth, triggerStates);
 
         helper.cacheContainer = new CacheContainer(node, styleMap, depth);
@@ -198,6 +192,19 @@ final class CssStyleHelper {
         return helper;
     }
 
+    private void addTriggerStates(int depth, PseudoClassState[] triggerStates) {
+        if (triggerStates[0] != null) {
+            this.triggerStates.addAll(triggerStates[0]);
+            this.ownTriggerStates.addAll(triggerStates[0]);
+        }
+
+        for (int n = 1; n < depth; n++) {
+            if (triggerStates[n] != null) {
+                this.ancestorTriggerStates.addAll(triggerStates[n]);
+            }
+        }
+    }
+
     private static void updateParentTriggerStates(Styleable styleable, int depth, PseudoClassState[] triggerStates) {
         // make sure parent's transition states include the pseudo-classes
         // found when matching selectors
@@ -599,10 +606,48 @@ final class CssStyleHelper {
      */
     private final PseudoClassState triggerStates = new PseudoClassState();
 
+    /**
+     * The subset of the triggerStates that appear in the selectors which match the
+     * Node itself. In the example above, this is "hover" for the Button. If a
+     * pseudo-class is in the triggerStates but not in this set, a change of the
+     * pseudo-class only affects the styles of descendants.
+     */
+    private final PseudoClassState ownTriggerStates = new PseudoClassState();
+
+    /**
+     * The pseudo-class states of ancestors that appear in the selectors which match
+     * the Node. In the example above, this is "hover" for the Label.
+     */
+    private final PseudoClassState ancestorTriggerStates = new PseudoClassState();
+
+    /**
+     * Whether incremental pseudo-class updates are enabled. If a pseudo-class
+     * change on a Parent only affects the styles of some of its descendants, only
+     * those descendants are updated instead of the entire branch. This is off
+     * unless -Djavafx.css.incrementalPseudoClassUpdate=true is set.
+     */
+    // non-final for testing
+    static boolean incrementalPseudoClassUpdate =
+            Boolean.getBoolean("javafx.css.incrementalPseudoClassUpdate");
+
     boolean pseudoClassStateChanged(PseudoClass pseudoClass) {
         return triggerStates.contains(pseudoClass);
     }
 
+    /**
+     * Returns whether the pseudo-class appears in the selectors which match the Node itself.
+     */
+    boolean isOwnTriggerState(PseudoClass pseudoClass) {
+        return ownTriggerStates.contains(pseudoClass);
+    }
+
+    /**
+     * Returns whether the pseudo-class of an ancestor appears in the selectors which match the Node.
+     */
+    boolean isAncestorTriggerState(PseudoClass pseudoClass) {
+        return ancestorTriggerStates.contains(pseudoClass);
+    }
+
     /**
      * Dynamic pseudo-class state of the node and its parents.
      * Only valid during a pulse.
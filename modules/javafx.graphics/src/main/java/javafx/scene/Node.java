@@ -2304,6 +2304,9 @@ public abstract sealed class Node
      * In this case, the width and height of the image determine the area
      * that is rendered instead of the width and height of the bounds or
      * viewport.
+     * Taking repeated snapshots into the same image, for example of the
+     * same viewport, avoids allocating a new image and new rendering
+     * resources for each snapshot.
      *
      * @throws IllegalStateException if this method is called on a thread
      *     other than the JavaFX Application Thread.
@@ -2393,6 +2396,9 @@ public abstract sealed class Node
      * In this case, the width and height of the image determine the area
      * that is rendered instead of the width and height of the bounds or
      * viewport.
+     * Taking repeated snapshots into the same image, for example of the
+     * same viewport, avoids allocating a new image and new rendering
+     * resources for each snapshot.
      *
      * @throws IllegalStateException if this method is called on a thread
      *     other than the JavaFX Application Thread.
@@ -9876,11 +9882,40 @@ public abstract sealed class Node
         if (modified && styleHelper != null) {
             final boolean isTransition = styleHelper.pseudoClassStateChanged(pseudoClass);
             if (isTransition) {
-                requestCssStateTransition();
+                if (CssStyleHelper.incrementalPseudoClassUpdate
+                        && this instanceof Parent parent
+                        && !styleHelper.isOwnTriggerState(pseudoClass)) {
+                    // Only the styles of descendants depend on the pseudo-class
+                    if (getScene() != null && (cssFlag == CssFlags.CLEAN || cssFlag == CssFlags.DIRTY_BRANCH)) {
+                        requestCssStateTransition(parent, pseudoClass);
+                    }
+                } else {
+                    requestCssStateTransition();
+                }
             }
         }
    }
 
+    /**
+     * Requests a CSS state transition for the descendants of the parent whose styles
+     * depend on the pseudo-class state of an ancestor. The branch below a descendant
+     * that needs a transition is updated entirely, since its descendants may inherit
+     * or look up values from it.
+     */
+    private static void requestCssStateTransition(Parent parent, PseudoClass pseudoClass) {
+        final List<Node> children = parent.getChildren();
+        for (int n = 0, nMax = children.size(); n < nMax; n++) {
+            final Node child = children.get(n);
+            if (child instanceof SubScene
+                    || (child.styleHelper != null && child.styleHelper.isAncestorTriggerState(pseudoClass))) {
+                child.requestCssStateTransition();
+            } else if (child instanceof Parent childParent && child.cssFlag != CssFlags.UPDATE
+                    && child.cssFlag != CssFlags.REAPPLY) {
+                requestCssStateTransition(childParent, pseudoClass);
+            }
+        }
+    }
+
     // package so that StyleHelper can get at it
     final ObservableSet<PseudoClass> pseudoClassStates = new PseudoClassState();
     private final ObservableSet<PseudoClass> unmodifiablePseudoClassStates =
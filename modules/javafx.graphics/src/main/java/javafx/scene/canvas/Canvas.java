@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,10 @@
 
 package javafx.scene.canvas;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.DoublePropertyBase;
 import javafx.geometry.NodeOrientation;
@@ -49,6 +53,12 @@ import com.sun.javafx.sg.prism.NGNode;
  * operations are clipped to the bounds of that image.
  * </p>
  *
+ * <p>
+ * The image can be made of several {@linkplain GraphicsContext#setLayer(int) layers},
+ * which are retained separately, so that content drawn into one layer can be
+ * redrawn without drawing the content of the other layers again.
+ * </p>
+ *
  * <p>Example:</p>
  *
  * <pre>
@@ -100,7 +110,13 @@ public non-sealed class Canvas extends Node {
     static final int DEFAULT_OBJ_BUF_SIZE = 32;
     private static final int SIZE_HISTORY = 5;
 
-    private GrowableDataBuffer current;
+    // The buffers of the commands issued to each layer since the last pulse,
+    // package for testing
+    final Map<Integer, GrowableDataBuffer> current = new HashMap<>();
+    // The layers that have been drawn into and not released since
+    private final TreeSet<Integer> layers = new TreeSet<>();
+    // The layers released since the last pulse
+    private final TreeSet<Integer> released = new TreeSet<>();
     private boolean rendererBehind;
     private int recentvalsizes[];
     private int recentobjsizes[];
@@ -141,16 +157,42 @@ public non-sealed class Canvas extends Node {
         return defsize;
     }
 
-    GrowableDataBuffer getBuffer() {
+    GrowableDataBuffer getBuffer(int layer) {
         NodeHelper.markDirty(this, DirtyBits.NODE_CONTENTS);
         NodeHelper.markDirty(this, DirtyBits.NODE_FORCE_SYNC);
-        if (current == null) {
+        GrowableDataBuffer buf = current.get(layer);
+        if (buf == null) {
             int vsize = max(recentvalsizes, DEFAULT_VAL_BUF_SIZE);
             int osize = max(recentobjsizes, DEFAULT_OBJ_BUF_SIZE);
-            current = GrowableDataBuffer.getBuffer(vsize, osize);
-            theContext.updateDimensions();
+            buf = GrowableDataBuffer.getBuffer(vsize, osize);
+            current.put(layer, buf);
+            layers.add(layer);
+            theContext.updateDimensions(buf);
+            theContext.bufferCreated(layer);
+        }
+        return buf;
+    }
+
+    // Discards the commands issued to the layer since the last pulse, and
+    // lets the renderer discard the unrendered commands and the image of the
+    // layer
+    void releaseLayer(int layer) {
+        NodeHelper.markDirty(this, DirtyBits.NODE_CONTENTS);
+        NodeHelper.markDirty(this, DirtyBits.NODE_FORCE_SYNC);
+        GrowableDataBuffer buf = current.remove(layer);
+        if (buf != null) {
+            GrowableDataBuffer.returnBuffer(buf);
+        }
+        layers.remove(layer);
+        released.add(layer);
+    }
+
+    private void updateDimensions() {
+        if (theContext != null) {
+            for (int layer : layers) {
+                theContext.updateDimensions(getBuffer(layer));
+            }
         }
-        return current;
     }
 
     boolean isRendererFallingBehind() {
@@ -168,6 +210,60 @@ public non-sealed class Canvas extends Node {
         return theContext;
     }
 
+    /**
+     * Creates a new {@code GraphicsContext} that records drawing commands
+     * for this {@code Canvas}, without modifying it.
+     * <p>
+     * Unlike the {@linkplain #getGraphicsContext2D() context of the canvas},
+     * a recording context can be used from any thread, even when the canvas
+     * is attached to a scene, as long as it is only used from one thread at a
+     * time. Several recording contexts can therefore build the contents of a
+     * canvas in parallel on background threads. The commands recorded so far
+     * are drawn onto the canvas when the recording context is passed to
+     * {@link #submitRecording(GraphicsContext)}.
+     * <p>
+     * A recording context starts with the default rendering attributes and
+     * draws into layer {@code 0}. Its rendering attributes, clip and layer are
+     * independent of those of the canvas context and of other recording
+     * contexts, and they are kept across submissions.
+     *
+     * @return a new recording {@code GraphicsContext} for this canvas
+     * @since 27
+     */
+    public GraphicsContext createRecordingContext() {
+        return new GraphicsContext(this, true);
+    }
+
+    /**
+     * Draws the commands recorded by a recording context onto this
+     * {@code Canvas}, after the commands that have already been issued to
+     * the canvas, and starts a new recording on that context.
+     * <p>
+     * The recorded commands are played back from the default rendering
+     * attributes and do not change the rendering attributes, clip or layer
+     * of the {@linkplain #getGraphicsContext2D() context of the canvas}.
+     * All of the commands submitted before the next pulse are rendered
+     * together during that pulse, in the order in which they were submitted.
+     * <p>
+     * Submitting a recording modifies the canvas, and so is subject to the
+     * same threading rules as the context of the canvas. The recording
+     * context must not be in use by another thread while it is submitted.
+     *
+     * @param recording a recording context created by this canvas
+     * @throws NullPointerException if {@code recording} is {@code null}
+     * @throws IllegalArgumentException if {@code recording} was not created by
+     *         {@link #createRecordingContext()} on this canvas
+     * @since 27
+     */
+    public void submitRecording(GraphicsContext recording) {
+        Objects.requireNonNull(recording, "recording must not be null");
+        if (!recording.recording || recording.getCanvas() != this) {
+            throw new IllegalArgumentException(
+                    "recording was not created by createRecordingContext() on this canvas");
+        }
+        getGraphicsContext2D().appendRecording(recording);
+    }
+
     /**
      * Defines the width of the canvas.
      *
@@ -191,9 +287,7 @@ public non-sealed class Canvas extends Node {
                 public void invalidated() {
                     NodeHelper.markDirty(Canvas.this, DirtyBits.NODE_GEOMETRY);
                     NodeHelper.geomChanged(Canvas.this);
-                    if (theContext != null) {
-                        theContext.updateDimensions();
-                    }
+                    updateDimensions();
                 }
 
                 @Override
@@ -233,9 +327,7 @@ public non-sealed class Canvas extends Node {
                 public void invalidated() {
                     NodeHelper.markDirty(Canvas.this, DirtyBits.NODE_GEOMETRY);
                     NodeHelper.geomChanged(Canvas.this);
-                    if (theContext != null) {
-                        theContext.updateDimensions();
-                    }
+                    updateDimensions();
                 }
 
                 @Override
@@ -267,14 +359,31 @@ public non-sealed class Canvas extends Node {
         }
         if (NodeHelper.isDirty(this, DirtyBits.NODE_CONTENTS)) {
             NGCanvas peer = NodeHelper.getPeer(this);
-            if (current != null && !current.isEmpty()) {
+            // A released layer is sent before the commands that were issued
+            // to it after it was released
+            for (int layer : released) {
+                GrowableDataBuffer buf = GrowableDataBuffer.getBuffer(1);
+                buf.putByte(NGCanvas.RELEASE_LAYER);
+                peer.updateRendering(layer, buf);
+            }
+            released.clear();
+            if (!current.isEmpty()) {
+                int valsize = 0;
+                int objsize = 0;
+                boolean behind = false;
+                for (Map.Entry<Integer, GrowableDataBuffer> e : current.entrySet()) {
+                    GrowableDataBuffer buf = e.getValue();
+                    valsize = Math.max(valsize, buf.writeValuePosition());
+                    objsize = Math.max(objsize, buf.writeObjectPosition());
+                    behind |= peer.updateRendering(e.getKey(), buf);
+                }
                 if (--lastsizeindex < 0) {
                     lastsizeindex = SIZE_HISTORY - 1;
                 }
-                recentvalsizes[lastsizeindex] = current.writeValuePosition();
-                recentobjsizes[lastsizeindex] = current.writeObjectPosition();
-                rendererBehind = peer.updateRendering(current);
-                current = null;
+                recentvalsizes[lastsizeindex] = valsize;
+                recentobjsizes[lastsizeindex] = objsize;
+                rendererBehind = behind;
+                current.clear();
             }
         }
     }
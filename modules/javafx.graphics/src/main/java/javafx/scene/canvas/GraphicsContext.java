@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -60,7 +60,12 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import javafx.scene.text.FontSmoothingType;
 
 /**
@@ -80,9 +85,21 @@ import javafx.scene.text.FontSmoothingType;
  * its corresponding {@code Canvas} and is subject to the same threading
  * rules.
  * <p>
+ * Additional {@code GraphicsContext} objects, with buffers of their own, can be
+ * created with {@link Canvas#createRecordingContext()}. These record drawing
+ * commands on any thread without modifying the {@code Canvas}, until the
+ * commands are submitted to it with {@link Canvas#submitRecording(GraphicsContext)}.
+ * <p>
  * A {@code GraphicsContext} also manages a stack of state objects that can
  * be saved or restored at anytime.
  * <p>
+ * The image of a {@code Canvas} is made of one or more layers, which are
+ * composited in ascending order of their index. All rendering methods draw
+ * into the {@linkplain #setLayer(int) current layer}. Each layer retains its
+ * pixels between pulses, so static content that is drawn once into its own
+ * layer does not need to be drawn again when the content of another layer
+ * is cleared and redrawn.
+ * <p>
  * The {@code GraphicsContext} maintains the following rendering attributes
  * which affect various subsets of the rendering methods:
  * <table class="overviewSummary" style="width:80%; margin-left:auto; margin-right:auto">
@@ -282,7 +299,8 @@ import javafx.scene.text.FontSmoothingType;
  * {@link #fillRect(double, double, double, double) fillRect()},
  * {@link #fillRoundRect(double, double, double, double, double, double) fillRoundRect()},
  * {@link #fillOval(double, double, double, double) fillOval()},
- * {@link #fillArc(double, double, double, double, double, double, javafx.scene.shape.ArcType) fillArc()}
+ * {@link #fillArc(double, double, double, double, double, double, javafx.scene.shape.ArcType) fillArc()},
+ * {@link #fillRects(double[], int[], int) fillRects()}
  * </th>
  * <td class="colLast" style="width:13%; text-align:center; color:#0c0">Yes</td>
  * <td class="colLast" style="width:13%; text-align:center; color:#0c0">Yes</td>
@@ -297,7 +315,9 @@ import javafx.scene.text.FontSmoothingType;
  * {@link #strokeRect(double, double, double, double) strokeRect()},
  * {@link #strokeRoundRect(double, double, double, double, double, double) strokeRoundRect()},
  * {@link #strokeOval(double, double, double, double) strokeOval()},
- * {@link #strokeArc(double, double, double, double, double, double, javafx.scene.shape.ArcType) strokeArc()}
+ * {@link #strokeArc(double, double, double, double, double, double, javafx.scene.shape.ArcType) strokeArc()},
+ * {@link #strokeLines(double[], int[], int) strokeLines()},
+ * {@link #drawPoints(double[], int[], int) drawPoints()}
  * </th>
  * <td class="colLast" style="width:13%; text-align:center; color:#0c0">Yes</td>
  * <td class="colLast" style="width:13%; text-align:center; color:#c00">No</td>
@@ -488,8 +508,31 @@ public final class GraphicsContext {
     LinkedList<State> stateStack;
     LinkedList<Path2D> clipStack;
 
+    int layer;
+    // Set once a layer other than the base layer has been used
+    boolean layered;
+    // Cleared when the next command must first write the attributes and
+    // clip again, because the renderer may not have them at that point of
+    // the buffer of the current layer
+    private boolean stateWritten;
+
+    // Set for a context that records commands for later submission to the
+    // canvas, instead of writing them to the buffer of the canvas
+    final boolean recording;
+    // The recorded commands of each layer, and the layers released since
+    // the last submission
+    private final Map<Integer, GrowableDataBuffer> recordBuffers;
+    private final Set<Integer> releasedLayers;
+
     GraphicsContext(Canvas theCanvas) {
+        this(theCanvas, false);
+    }
+
+    GraphicsContext(Canvas theCanvas, boolean recording) {
         this.theCanvas = theCanvas;
+        this.recording = recording;
+        this.recordBuffers = recording ? new HashMap<>() : null;
+        this.releasedLayers = recording ? new HashSet<>() : null;
         this.path = new Path2D();
         pathDirty = true;
 
@@ -612,7 +655,35 @@ public final class GraphicsContext {
     }
 
     private GrowableDataBuffer getBuffer() {
-        return theCanvas.getBuffer();
+        GrowableDataBuffer buf;
+        if (recording) {
+            buf = recordBuffers.get(layer);
+            if (buf == null) {
+                buf = GrowableDataBuffer.getBuffer(Canvas.DEFAULT_VAL_BUF_SIZE,
+                                                   Canvas.DEFAULT_OBJ_BUF_SIZE);
+                recordBuffers.put(layer, buf);
+                // Each recording is played back from the default attributes
+                stateWritten = false;
+            }
+        } else {
+            buf = theCanvas.getBuffer(layer);
+        }
+        if (!stateWritten) {
+            stateWritten = true;
+            buf.putByte(NGCanvas.RESET_ATTRS);
+            writeState();
+        }
+        return buf;
+    }
+
+    // Called by the canvas when it creates a new buffer for a layer
+    void bufferCreated(int layer) {
+        // The renderer draws the buffer of each layer in turn, so the buffer
+        // of a canvas with several layers cannot rely on the attributes that
+        // were left by the previous buffer of the same layer
+        if (layered && layer == this.layer) {
+            stateWritten = false;
+        }
     }
 
     private float coords[] = new float[6];
@@ -781,6 +852,29 @@ public final class GraphicsContext {
         buf.putObject(text);
     }
 
+    private void writeBatch(double[] coords, int[] argb, int count,
+                            int stride, byte command)
+    {
+        if (coords == null) return;
+        Objects.checkFromIndexSize(0, count * stride, coords.length);
+        if (argb != null) {
+            Objects.checkFromIndexSize(0, count, argb.length);
+        }
+        if (count == 0) return;
+        // The arrays are copied, since the rendering happens later
+        float[] fcoords = new float[count * stride];
+        for (int i = 0; i < fcoords.length; i++) {
+            fcoords[i] = (float) coords[i];
+        }
+        int[] colors = (argb == null) ? null : Arrays.copyOf(argb, count);
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(command);
+        buf.putInt(count);
+        buf.putObject(fcoords);
+        buf.putObject(colors);
+    }
+
     void writeParam(double v, byte command) {
         GrowableDataBuffer buf = getBuffer();
         buf.putByte(command);
@@ -808,8 +902,7 @@ public final class GraphicsContext {
         }
     }
 
-    void updateDimensions() {
-        GrowableDataBuffer buf = getBuffer();
+    void updateDimensions(GrowableDataBuffer buf) {
         buf.putByte(NGCanvas.SET_DIMS);
         buf.putFloat((float) theCanvas.getWidth());
         buf.putFloat((float) theCanvas.getHeight());
@@ -826,25 +919,56 @@ public final class GraphicsContext {
         if (buf.writeValuePosition() > Canvas.DEFAULT_VAL_BUF_SIZE ||
             theCanvas.isRendererFallingBehind())
         {
+            // The renderer only discards the older buffers of this layer
             buf.reset();
             buf.putByte(NGCanvas.RESET);
-            updateDimensions();
-            txdirty = true;
-            pathDirty = true;
-            State s = this.curState;
-            int numClipPaths = this.curState.numClipPaths;
-            this.curState = new State();
-            for (int i = 0; i < numClipPaths; i++) {
-                Path2D clip = clipStack.get(i);
-                buf.putByte(NGCanvas.PUSH_CLIP);
-                buf.putObject(clip);
-            }
-            this.curState.numClipPaths = numClipPaths;
-            s.restore(this);
+            updateDimensions(buf);
+            writeState();
         }
     }
 
+    // Writes the current attributes and clip to a buffer after which
+    // the renderer has the default attributes
+    private void writeState() {
+        GrowableDataBuffer buf = getBuffer();
+        txdirty = true;
+        pathDirty = true;
+        State s = this.curState;
+        int numClipPaths = this.curState.numClipPaths;
+        this.curState = new State();
+        for (int i = 0; i < numClipPaths; i++) {
+            Path2D clip = clipStack.get(i);
+            buf.putByte(NGCanvas.PUSH_CLIP);
+            buf.putObject(clip);
+        }
+        this.curState.numClipPaths = numClipPaths;
+        s.restore(this);
+    }
+
+    void appendRecording(GraphicsContext recording) {
+        for (int l : recording.releasedLayers) {
+            releaseLayer(l);
+        }
+        recording.releasedLayers.clear();
+        if (recording.recordBuffers.isEmpty()) {
+            return;
+        }
+        // Each recorded buffer starts by writing its own attributes
+        for (Map.Entry<Integer, GrowableDataBuffer> e : recording.recordBuffers.entrySet()) {
+            int l = e.getKey();
+            GrowableDataBuffer rec = e.getValue();
+            theCanvas.getBuffer(l).append(rec);
+            GrowableDataBuffer.returnBuffer(rec);
+            layered |= (l != 0);
+        }
+        recording.recordBuffers.clear();
+        stateWritten = false;
+    }
+
     private void resetIfCovers(Paint p, double x, double y, double w, double h) {
+        // A recording is played back in the middle of other commands, and
+        // the size of the canvas may be changing on another thread
+        if (recording) return;
         Affine2D tx = this.curState.transform;
         if (tx.isTranslateOrIdentity()) {
             x += tx.getMxt();
@@ -1792,6 +1916,77 @@ public final class GraphicsContext {
         return curState.imageSmoothing;
     }
 
+    /**
+     * Sets the layer of the {@code Canvas} into which all subsequent
+     * rendering methods and {@link #getPixelWriter() PixelWriter} methods draw.
+     * Layers are composited in ascending order of their index, so a layer
+     * with a higher index is drawn over a layer with a lower index.
+     * Layer {@code 0} is the base layer, and any other layer is created,
+     * fully transparent, the first time it is set.
+     * <p>
+     * Each layer is retained as an image of the size of the {@code Canvas},
+     * so content which changes often can be cleared and redrawn in its own
+     * layer, without drawing the content of the other layers again.
+     * For example, a chart can draw its grid and axes once into layer
+     * {@code 0}, and then only clear and redraw a cursor in layer {@code 1}.
+     * As each layer holds an image of the full size of the {@code Canvas},
+     * a layer that is no longer needed should be released with
+     * {@link #releaseLayer(int)}.
+     * <p>
+     * The current layer is not a rendering attribute and is not affected by
+     * {@link #save()} and {@link #restore()}.
+     *
+     * @defaultValue {@code 0}
+     * @param layer the index of the layer to draw into
+     * @since 27
+     */
+    public void setLayer(int layer) {
+        if (this.layer != layer) {
+            this.layer = layer;
+            layered = true;
+            stateWritten = false;
+        }
+    }
+
+    /**
+     * Gets the layer of the {@code Canvas} into which rendering methods
+     * currently draw.
+     *
+     * @defaultValue {@code 0}
+     * @return the index of the current layer
+     * @since 27
+     */
+    public int getLayer() {
+        return layer;
+    }
+
+    /**
+     * Releases a layer of the {@code Canvas}, discarding its content and
+     * the image that retains it. The commands issued to the layer before
+     * it is released are not drawn.
+     * If the layer is drawn into again, it is created again, fully
+     * transparent. Layer {@code 0} is never released, it is only cleared.
+     * <p>
+     * Releasing a layer does not change the current layer.
+     *
+     * @param layer the index of the layer to release
+     * @since 27
+     */
+    public void releaseLayer(int layer) {
+        if (recording) {
+            GrowableDataBuffer buf = recordBuffers.remove(layer);
+            if (buf != null) {
+                GrowableDataBuffer.returnBuffer(buf);
+            }
+            releasedLayers.add(layer);
+        } else {
+            theCanvas.releaseLayer(layer);
+        }
+        if (layer == this.layer) {
+            stateWritten = false;
+        }
+    }
+
     /**
      * Resets the current path to empty.
      * The default path is empty.
@@ -2647,6 +2842,94 @@ public final class GraphicsContext {
         }
     }
 
+    /**
+     * Fills a number of rectangles, using either the current fill paint or
+     * a color for each rectangle.
+     * The rectangles are submitted together and rendered as a single
+     * operation, which is much faster than calling
+     * {@link #fillRect(double, double, double, double) fillRect()}
+     * for each of them.
+     * A {@code null} value for the rectangles will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#fill-attr">fill</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>,
+     * except that the fill paint is not used when colors are given.
+     * </p>
+     *
+     * @param rects array containing the x, y, width and height of each rectangle, or null.
+     * @param colors array containing the non-premultiplied 32-bit ARGB color
+     *               of each rectangle, or null to use the current fill paint.
+     * @param count the number of rectangles to fill.
+     * @throws IndexOutOfBoundsException if {@code count} is negative or if the
+     *         arrays are too short to hold {@code count} rectangles.
+     * @since 27
+     */
+    public void fillRects(double[] rects, int[] colors, int count) {
+        writeBatch(rects, colors, count, 4, NGCanvas.FILL_RECTS);
+    }
+
+    /**
+     * Strokes a number of unconnected lines, using either the current stroke
+     * paint or a color for each line.
+     * The lines are submitted together and rendered as a single operation,
+     * which is much faster than calling
+     * {@link #strokeLine(double, double, double, double) strokeLine()}
+     * for each of them.
+     * A {@code null} value for the lines will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#strk-attr">stroke</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>,
+     * except that the stroke paint is not used when colors are given.
+     * </p>
+     *
+     * @param lines array containing the x and y coordinates of the starting
+     *              point and of the ending point of each line, or null.
+     * @param colors array containing the non-premultiplied 32-bit ARGB color
+     *               of each line, or null to use the current stroke paint.
+     * @param count the number of lines to stroke.
+     * @throws IndexOutOfBoundsException if {@code count} is negative or if the
+     *         arrays are too short to hold {@code count} lines.
+     * @since 27
+     */
+    public void strokeLines(double[] lines, int[] colors, int count) {
+        writeBatch(lines, colors, count, 4, NGCanvas.STROKE_LINES);
+    }
+
+    /**
+     * Draws a number of points, using either the current stroke paint or a
+     * color for each point.
+     * Each point is drawn as a square, centered on the point, whose sides
+     * are as long as the current line width.
+     * The points are submitted together and rendered as a single operation,
+     * which is much faster than drawing each of them separately.
+     * A {@code null} value for the points will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#strk-attr">stroke</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>,
+     * except that the stroke paint is not used when colors are given.
+     * </p>
+     *
+     * @param points array containing the x and y coordinates of each point, or null.
+     * @param colors array containing the non-premultiplied 32-bit ARGB color
+     *               of each point, or null to use the current stroke paint.
+     * @param count the number of points to draw.
+     * @throws IndexOutOfBoundsException if {@code count} is negative or if the
+     *         arrays are too short to hold {@code count} points.
+     * @since 27
+     */
+    public void drawPoints(double[] points, int[] colors, int count) {
+        writeBatch(points, colors, count, 2, NGCanvas.DRAW_POINTS);
+    }
+
     /**
      * Draws an image at the given x, y position using the width
      * and height of the given image.
@@ -2724,8 +3007,8 @@ public final class GraphicsContext {
     private PixelWriter writer;
     /**
      * Returns a {@link PixelWriter} object that can be used to modify
-     * the pixels of the {@link Canvas} associated with this
-     * {@code GraphicsContext}.
+     * the pixels of the current layer of the {@link Canvas} associated
+     * with this {@code GraphicsContext}.
      * All coordinates in the {@code PixelWriter} methods on the returned
      * object will be in device space since they refer directly to pixels
      * and no other rendering attributes will be applied when modifying
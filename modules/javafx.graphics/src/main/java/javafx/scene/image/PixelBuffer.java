@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -61,6 +61,29 @@ import java.util.Objects;
  * PixelFormat<IntBuffer> pixelFormat = PixelFormat.getIntArgbPreInstance();
  * PixelBuffer<IntBuffer> pixelBuffer = new PixelBuffer<>(width, height, intBuffer, pixelFormat);
  * Image img = new WritableImage(pixelBuffer);}</pre>
+ * <p>
+ * The {@code Buffer} may also be backed by memory that is mapped from a file or shared with another
+ * process, for example a {@link java.nio.MappedByteBuffer}, or a view of a
+ * {@link java.lang.foreign.MemorySegment} obtained from its
+ * {@link java.lang.foreign.MemorySegment#asByteBuffer() asByteBuffer} method. Such direct buffers,
+ * including read-only ones, are read in place when the pixels are uploaded for rendering.
+ * An {@code IntBuffer} view of such memory must use the native byte order.
+ * The dirty region returned from the {@code Callback} passed to {@link #updateBuffer updateBuffer}
+ * determines which pixels are uploaded again, so an application that only updates a part of the
+ * buffer should return the enclosing rectangle rather than {@code null}.
+ * <p>
+ * Example code that shows how to create a {@code PixelBuffer} from shared memory:
+ * <pre>{@code  // Mapping frames written by another process into a file.
+ * MemorySegment segment;
+ * try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+ *     segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, width * height * 4L, Arena.ofShared());
+ * }
+ * PixelFormat<ByteBuffer> pixelFormat = PixelFormat.getByteBgraPreInstance();
+ * PixelBuffer<ByteBuffer> pixelBuffer = new PixelBuffer<>(width, height, segment.asByteBuffer(), pixelFormat);
+ * Image img = new WritableImage(pixelBuffer);
+ *
+ * // After the other process has updated some rows, upload only those rows.
+ * pixelBuffer.updateBuffer(pb -> new Rectangle2D(0, firstRow, width, rowCount));}</pre>
  *
  * @param <T> the type of {@code Buffer} that stores the pixel data.
  *           Only {@code ByteBuffer} and {@code IntBuffer} are supported.
@@ -171,6 +194,9 @@ public class PixelBuffer<T extends Buffer> {
      * The {@code Callback} method is expected to update the buffer and
      * return a {@code Rectangle2D} that encloses the dirty region, or
      * return {@code null} to indicate that the entire buffer is dirty.
+     * The dirty region is clipped to the bounds of this {@code PixelBuffer}.
+     * Only the pixels in the dirty region are uploaded again when the images are next rendered,
+     * including when the buffer is updated several times before the next pulse.
      * <p>This method must be called on the JavaFX Application Thread.
      * <p>Example code that shows how to use this method:
      * <pre>{@code  Callback<PixelBuffer<ByteBuffer>, Rectangle2D> callback = pixelBuffer -> {
@@ -191,11 +217,13 @@ public class PixelBuffer<T extends Buffer> {
         Rectangle2D rect2D = callback.call(this);
         if (rect2D != null) {
             if (rect2D.getWidth() > 0 && rect2D.getHeight() > 0) {
-                int x1 = (int) Math.floor(rect2D.getMinX());
-                int y1 = (int) Math.floor(rect2D.getMinY());
-                int x2 = (int) Math.ceil(rect2D.getMaxX());
-                int y2 = (int) Math.ceil(rect2D.getMaxY());
-                bufferDirty(new Rectangle(x1, y1, x2 - x1, y2 - y1));
+                int x1 = (int) Math.max(0, Math.floor(rect2D.getMinX()));
+                int y1 = (int) Math.max(0, Math.floor(rect2D.getMinY()));
+                int x2 = (int) Math.min(width, Math.ceil(rect2D.getMaxX()));
+                int y2 = (int) Math.min(height, Math.ceil(rect2D.getMaxY()));
+                if (x2 > x1 && y2 > y1) {
+                    bufferDirty(new Rectangle(x1, y1, x2 - x1, y2 - y1));
+                }
             }
         } else {
             bufferDirty(null);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -285,7 +285,14 @@ public class WritableImage extends Image {
             throw new IllegalArgumentException("Size of loader does not match size of image");
         }
 
-        super.setPlatformImage(tkLoader.getFrame(0));
+        PlatformImage frame = tkLoader.getFrame(0);
+        if (frame == getPlatformImage()) {
+            // The pixels of the current image have been updated in place,
+            // for example by a snapshot into this image
+            pixelsDirty();
+        } else {
+            super.setPlatformImage(frame);
+        }
         this.tkImageLoader = tkLoader;
     }
 
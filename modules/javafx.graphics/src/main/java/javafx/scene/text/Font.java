@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,7 +30,11 @@ import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.tk.Toolkit;
 import javafx.beans.NamedArg;
 
@@ -552,6 +556,55 @@ public final class Font {
         return (fonts == null) ? null : fonts;
     }
 
+    /**
+     * Rasterizes the glyphs of a font for a range of code points in the
+     * background, so that the first frames which draw text with these glyphs
+     * only have to upload their images. For example, an application can
+     * prepare the glyphs of its main font while a splash screen is shown.
+     * <p>
+     * The glyphs are rasterized for the given render scale, which should be
+     * the {@linkplain javafx.stage.Window#getRenderScaleX() render scale} of
+     * the window that shows the text, and for the given smoothing type.
+     * Only the code points that the font supports are rasterized.
+     * On platforms where glyphs cannot be rasterized outside of the
+     * rendering thread, no glyph is rasterized and the returned future
+     * completes normally.
+     * <p>
+     * This method can be called on any thread.
+     *
+     * @param font the font of the glyphs
+     * @param firstCodePoint the first code point of the range
+     * @param lastCodePoint the last code point of the range, inclusive
+     * @param renderScale the scale that the text is rendered with
+     * @param smoothingType the smoothing type that the text is rendered with
+     * @param executor the executor that rasterizes the glyphs
+     * @return a future that completes once the glyphs are rasterized
+     * @throws NullPointerException if {@code font}, {@code smoothingType} or
+     *         {@code executor} is {@code null}
+     * @throws IllegalArgumentException if the range is not a valid code
+     *         point range, or if {@code renderScale} is not positive
+     * @since 27
+     */
+    public static CompletableFuture<Void> prepareGlyphs(Font font,
+            int firstCodePoint, int lastCodePoint, double renderScale,
+            FontSmoothingType smoothingType, Executor executor) {
+        Objects.requireNonNull(font, "font must not be null");
+        Objects.requireNonNull(smoothingType, "smoothingType must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (firstCodePoint < 0 || lastCodePoint > Character.MAX_CODE_POINT ||
+            firstCodePoint > lastCodePoint) {
+            throw new IllegalArgumentException("Invalid code point range: " +
+                                               firstCodePoint + " - " +
+                                               lastCodePoint);
+        }
+        if (!(renderScale > 0) || Double.isInfinite(renderScale)) {
+            throw new IllegalArgumentException("Invalid render scale: " + renderScale);
+        }
+        BaseTransform tx = BaseTransform.getScaleInstance(renderScale, renderScale);
+        return Toolkit.getToolkit().getFontLoader().prepareGlyphs(font, tx,
+                smoothingType, firstCodePoint, lastCodePoint, executor);
+    }
+
     /**
      * Converts this {@code Font} object to a {@code String} representation.
      * The String representation is for informational use only and will change.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,9 @@ package javafx.scene.text;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javafx.beans.DefaultProperty;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.DoubleBinding;
@@ -334,6 +337,39 @@ public non-sealed class Text extends Shape {
         return layout;
     }
 
+    /**
+     * Lays out the text for the given wrapping width on an executor, so that
+     * laying out a long text does not block the JavaFX Application Thread.
+     * <p>
+     * The text, font and other attributes that affect the layout are
+     * captured when this method is called, and are laid out by the executor.
+     * The result is then adopted on the JavaFX Application Thread if none of
+     * them changed in the meantime, and is used as soon as the
+     * {@linkplain #wrappingWidthProperty() wrapping width} is set to
+     * {@code wrappingWidth}. Otherwise the result is discarded.
+     * <p>
+     * The layout of a {@code Text} that is a child of a {@link TextFlow} is
+     * owned by the {@code TextFlow}, so nothing is laid out for it, see
+     * {@link TextFlow#prepareLayout(double, Executor)}.
+     * <p>
+     * This method must be called on the JavaFX Application Thread.
+     *
+     * @param wrappingWidth the wrapping width to lay out the text for
+     * @param executor the executor that lays out the text
+     * @return a future that completes on the JavaFX Application Thread with
+     *         {@code true} if the result was adopted, and {@code false} otherwise
+     * @throws NullPointerException if {@code executor} is {@code null}
+     * @since 27
+     */
+    public final CompletableFuture<Boolean> prepareLayout(double wrappingWidth, Executor executor) {
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (isSpan()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        TextLayout layout = getTextLayout();
+        return TextUtils.prepareLayout(layout, (float)wrappingWidth, executor);
+    }
+
     private GlyphList[] textRuns = null;
     private BaseBounds spanBounds = new RectBounds(); /* relative to the textlayout */
     private boolean spanBoundsInvalid = true;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,9 @@ package javafx.scene.text;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.DoubleProperty;
@@ -551,6 +554,40 @@ public class TextFlow extends Pane {
         return layout;
     }
 
+    /**
+     * Lays out the content of the {@code TextFlow} for the given width on an
+     * executor, so that laying out a long content, such as the lines of a
+     * log viewer, does not block the JavaFX Application Thread.
+     * <p>
+     * The text, fonts and other attributes of the children that affect the
+     * layout are captured when this method is called, and are laid out by
+     * the executor. The result is then adopted on the JavaFX Application
+     * Thread if none of them changed in the meantime, and is used as soon as
+     * the {@code TextFlow} is laid out with the given width. Otherwise the
+     * result is discarded. As the layout of the children that are not
+     * {@code Text} nodes is requested again on each layout pass, the result
+     * for a {@code TextFlow} with such children is only kept until the next
+     * layout pass.
+     * <p>
+     * This method must be called on the JavaFX Application Thread.
+     *
+     * @param width the width of the {@code TextFlow}, including its insets
+     * @param executor the executor that lays out the content
+     * @return a future that completes on the JavaFX Application Thread with
+     *         {@code true} if the result was adopted, and {@code false} otherwise
+     * @throws NullPointerException if {@code executor} is {@code null}
+     * @since 27
+     */
+    public final CompletableFuture<Boolean> prepareLayout(double width, Executor executor) {
+        Objects.requireNonNull(executor, "executor must not be null");
+        TextLayout layout = getTextLayout();
+        Insets insets = getInsets();
+        double left = snapSpaceX(insets.getLeft());
+        double right = snapSpaceX(insets.getRight());
+        double wrappingWidth = Math.max(1, width - left - right);
+        return TextUtils.prepareLayout(layout, (float)wrappingWidth, executor);
+    }
+
     /**
      * Defines horizontal text alignment.
      *
@@ -59,6 +59,19 @@ public class StyleManagerShim {
 
     public void cacheContainerMap_clear() {
         sm.cacheContainerMap.clear();
+        sm.sharedCacheContainers.clear();
+    }
+
+    public boolean isSameCacheContainer(Styleable styleable1, Styleable styleable2) {
+        return sm.getCacheContainer(styleable1, null) == sm.getCacheContainer(styleable2, null);
+    }
+
+    public int get_sharedCacheLimit() {
+        return sm.sharedCacheLimit;
+    }
+
+    public void set_sharedCacheLimit(int limit) {
+        sm.sharedCacheLimit = limit;
     }
 
     public int platformUserAgentStylesheetContainers_indexOf(String fname) {
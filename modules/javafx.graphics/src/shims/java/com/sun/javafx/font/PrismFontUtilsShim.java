@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import com.sun.javafx.geom.transform.BaseTransform;
+
+public class PrismFontUtilsShim {
+
+    public static void prepareGlyphs(PGFont font, BaseTransform transform, int aaMode,
+                                     int firstCodePoint, int lastCodePoint) {
+        PrismFontUtils.prepareGlyphs(font, transform, aaMode, firstCodePoint, lastCodePoint);
+    }
+
+    /**
+     * Returns whether the strike has the glyph without creating it.
+     */
+    public static boolean isGlyphCached(FontStrike strike, int glyphCode) {
+        PrismFontStrike<?> slotStrike = getSlotStrike(strike, glyphCode);
+        if (slotStrike != strike) {
+            glyphCode &= CompositeGlyphMapper.GLYPHMASK;
+        }
+        return slotStrike.isGlyphCached(glyphCode);
+    }
+
+    /**
+     * Returns whether the strike of the glyph can rasterize it off the
+     * rendering thread.
+     */
+    public static boolean canPrepareGlyph(FontStrike strike, int glyphCode) {
+        return getSlotStrike(strike, glyphCode).canPrepareGlyphs();
+    }
+
+    private static PrismFontStrike<?> getSlotStrike(FontStrike strike, int glyphCode) {
+        if (strike instanceof CompositeStrike compositeStrike) {
+            strike = compositeStrike.getStrikeSlot(glyphCode >>> 24);
+        }
+        return (PrismFontStrike<?>) strike;
+    }
+}
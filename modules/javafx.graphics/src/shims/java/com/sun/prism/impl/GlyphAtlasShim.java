@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.geom.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class GlyphAtlasShim {
+
+    /**
+     * An owner that counts the glyphs it had on the cleared pages.
+     */
+    public static class Owner implements GlyphAtlas.Owner {
+        private int removedPages;
+
+        @Override
+        public void removeGlyphs(GlyphAtlas.Page page) {
+            removedPages++;
+        }
+
+        public int getRemovedPages() {
+            return removedPages;
+        }
+    }
+
+    private final GlyphAtlas atlas;
+
+    public GlyphAtlasShim(int width, int height, int pageCount) {
+        atlas = new GlyphAtlas(null, width, height, pageCount);
+    }
+
+    public int getPageCount() {
+        return atlas.getPages().length;
+    }
+
+    public int getPageY(int index) {
+        return atlas.getPages()[index].getY();
+    }
+
+    public int getPageHeight(int index) {
+        return atlas.getPages()[index].getHeight();
+    }
+
+    public boolean fitsPage(int width, int height) {
+        return atlas.fitsPage(new Rectangle(width, height));
+    }
+
+    /**
+     * Returns the index of the page the rectangle was added to, or -1.
+     */
+    public int add(int width, int height, Owner owner) {
+        GlyphAtlas.Page page = atlas.add(new Rectangle(width, height), owner);
+        return Arrays.asList(atlas.getPages()).indexOf(page);
+    }
+
+    public void touch(int index) {
+        atlas.touch(atlas.getPages()[index]);
+    }
+
+    public List<Owner> evict(int width, int height) {
+        List<Owner> owners = new ArrayList<>();
+        for (GlyphAtlas.Owner owner : atlas.evict(new Rectangle(width, height))) {
+            owners.add((Owner) owner);
+        }
+        return owners;
+    }
+}
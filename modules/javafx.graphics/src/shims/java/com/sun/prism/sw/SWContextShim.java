@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.sw;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.impl.shape.MaskData;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SWContextShim {
+
+    /**
+     * Rasterizes the shape into tiles with a new tiled shape renderer and
+     * returns the coverage mask of each tile (null for an empty tile), or
+     * null if the shape is too small to be tiled.
+     */
+    public static List<MaskData> rasterizeTiles(int maxTiles, int minTileHeight,
+                                                Shape shape, BasicStroke stroke, BaseTransform tr,
+                                                Rectangle clip, boolean antialiasedShape)
+    {
+        final SWContext.TiledDMarlinShapeRenderer renderer =
+                new SWContext.TiledDMarlinShapeRenderer(maxTiles, minTileHeight);
+        final int numTiles = renderer.rasterizeTiles(shape, stroke, tr, clip, antialiasedShape);
+        if (numTiles == 0) {
+            return null;
+        }
+        final List<MaskData> masks = new ArrayList<>(numTiles);
+        for (int i = 0; i < numTiles; i++) {
+            masks.add(renderer.getTileMask(i));
+        }
+        renderer.clearTiles();
+        return masks;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -66,6 +66,18 @@ public class NodeShim {
         return n.isDirty(dirtyBit);
     }
 
+    public static String getCSSFlags(Node n) {
+        return n.getCSSFlags().name();
+    }
+
+    public static boolean isIncrementalPseudoClassUpdate() {
+        return CssStyleHelper.incrementalPseudoClassUpdate;
+    }
+
+    public static void setIncrementalPseudoClassUpdate(boolean value) {
+        CssStyleHelper.incrementalPseudoClassUpdate = value;
+    }
+
     public static boolean isDerivedDepthTest(Node n) {
         return n.isDerivedDepthTest();
     }
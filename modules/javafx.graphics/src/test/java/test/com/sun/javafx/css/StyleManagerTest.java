@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -1174,4 +1174,137 @@ public class StyleManagerTest {
             Application.setUserAgentStylesheet("data:,");
         }
     }
+
+    @Test
+    public void testSelectorMatchingStatistics() {
+        StyleManager styleManager = StyleManager.getInstance();
+
+        Rectangle rect1 = new Rectangle();
+        rect1.getStyleClass().add("a");
+        Rectangle rect2 = new Rectangle();
+        rect2.getStyleClass().add("a");
+        Group root = new Group(rect1, rect2);
+
+        // Stylesheet content: .a { -fx-fill: red; } .x .a { -fx-fill: blue; } .b { -fx-fill: green; }
+        Scene scene = new Scene(root);
+        scene.getStylesheets().add(
+            "data:base64,LmEgeyAtZngtZmlsbDogcmVkOyB9IC54IC5hIHsgLWZ4LWZpbGw6IGJsdWU7IH0gLmIgeyAtZngtZmlsbDogZ3JlZW47IH0=");
+
+        styleManager.resetMatchStatistics();
+        root.applyCss();
+
+        // The root and the first rectangle are looked up, the second rectangle reuses the
+        // candidate selectors of the first one
+        assertEquals(1, styleManager.getMatchCacheHitCount());
+        assertEquals(2, styleManager.getMatchCacheMissCount());
+
+        // Both rectangles are tested against ".a" and ".x .a", but not against ".b"
+        assertEquals(2, styleManager.getSelectorHitCount());
+        assertEquals(2, styleManager.getSelectorMissCount());
+        assertEquals(Color.RED, rect1.getFill());
+
+        styleManager.resetMatchStatistics();
+        assertEquals(0, styleManager.getMatchCacheHitCount());
+        assertEquals(0, styleManager.getMatchCacheMissCount());
+        assertEquals(0, styleManager.getSelectorHitCount());
+        assertEquals(0, styleManager.getSelectorMissCount());
+    }
+
+    @Test
+    public void testScenesWithSameStylesheetsShareCacheContainer() {
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        StyleManager styleManager = StyleManager.getInstance();
+
+        Rectangle a = new Rectangle();
+        Scene sceneA = new Scene(new Group(a));
+        sceneA.getStylesheets().add("/test/com/sun/javafx/css/ua0.css");
+
+        Rectangle b = new Rectangle();
+        Scene sceneB = new Scene(new Group(b));
+        sceneB.getStylesheets().add("/test/com/sun/javafx/css/ua0.css");
+
+        Rectangle c = new Rectangle();
+        Scene sceneC = new Scene(new Group(c));
+        sceneC.getStylesheets().add("/test/com/sun/javafx/css/ua1.css");
+
+        long hitCount = styleManager.getSharedStyleCacheHitCount();
+
+        assertTrue(sm.isSameCacheContainer(a, b));
+        assertFalse(sm.isSameCacheContainer(a, c));
+        assertEquals(hitCount + 1, styleManager.getSharedStyleCacheHitCount());
+
+        // A scene that changes its stylesheets no longer shares the cache
+        sceneB.getStylesheets().add("/test/com/sun/javafx/css/ua1.css");
+        assertFalse(sm.isSameCacheContainer(a, b));
+
+        sceneC.getStylesheets().setAll("/test/com/sun/javafx/css/ua0.css");
+        assertTrue(sm.isSameCacheContainer(a, c));
+
+        // The cache of a scene that is gone is retained for scenes that are shown later
+        styleManager.forget(sceneA);
+        styleManager.forget(sceneC);
+
+        Rectangle d = new Rectangle();
+        Scene sceneD = new Scene(new Group(d));
+        sceneD.getStylesheets().add("/test/com/sun/javafx/css/ua0.css");
+
+        hitCount = styleManager.getSharedStyleCacheHitCount();
+        long missCount = styleManager.getSharedStyleCacheMissCount();
+        assertFalse(sm.isSameCacheContainer(d, b));
+        assertEquals(hitCount + 1, styleManager.getSharedStyleCacheHitCount());
+        assertEquals(missCount, styleManager.getSharedStyleCacheMissCount());
+    }
+
+    @Test
+    public void testSharedStyleCacheStatistics() {
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        StyleManager styleManager = StyleManager.getInstance();
+        int limit = sm.get_sharedCacheLimit();
+
+        try {
+            sm.set_sharedCacheLimit(0);
+
+            Rectangle a = new Rectangle();
+            Scene sceneA = new Scene(new Group(a));
+            sceneA.getStylesheets().add("/test/com/sun/javafx/css/ua0.css");
+
+            Rectangle b = new Rectangle();
+            Scene sceneB = new Scene(new Group(b));
+            sceneB.getStylesheets().add("/test/com/sun/javafx/css/ua0.css");
+            styleManager.resetSharedStyleCacheStatistics();
+
+            // The first scene creates the shared cache, the second one reuses it
+            assertTrue(sm.isSameCacheContainer(a, b));
+            assertEquals(1, styleManager.getSharedStyleCacheMissCount());
+            assertEquals(1, styleManager.getSharedStyleCacheHitCount());
+            assertEquals(0, styleManager.getSharedStyleCacheEvictionCount());
+            assertEquals(1, styleManager.getSharedStyleCacheSize());
+
+            // The cache is not evicted while a scene still uses it
+            styleManager.forget(sceneA);
+            assertEquals(0, styleManager.getSharedStyleCacheEvictionCount());
+            assertEquals(1, styleManager.getSharedStyleCacheSize());
+
+            styleManager.forget(sceneB);
+            assertEquals(1, styleManager.getSharedStyleCacheEvictionCount());
+            assertEquals(0, styleManager.getSharedStyleCacheSize());
+
+            // A scene shown after the eviction creates a new cache
+            Rectangle c = new Rectangle();
+            Scene sceneC = new Scene(new Group(c));
+            sceneC.getStylesheets().add("/test/com/sun/javafx/css/ua0.css");
+            long hitCount = styleManager.getSharedStyleCacheHitCount();
+            long missCount = styleManager.getSharedStyleCacheMissCount();
+            assertTrue(sm.isSameCacheContainer(c, c));
+            assertEquals(missCount + 1, styleManager.getSharedStyleCacheMissCount());
+            assertEquals(hitCount, styleManager.getSharedStyleCacheHitCount());
+
+            styleManager.resetSharedStyleCacheStatistics();
+            assertEquals(0, styleManager.getSharedStyleCacheHitCount());
+            assertEquals(0, styleManager.getSharedStyleCacheMissCount());
+            assertEquals(0, styleManager.getSharedStyleCacheEvictionCount());
+        } finally {
+            sm.set_sharedCacheLimit(limit);
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.javafx.css.StylesheetCache;
+
+import javafx.css.Rule;
+import javafx.css.Stylesheet;
+
+public class StylesheetCacheTest {
+
+    private Path tempDir;
+    private Path cacheDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        tempDir = Files.createTempDirectory("StylesheetCacheTest");
+        cacheDir = tempDir.resolve("cache");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private Path writeCss(String name, String text) throws IOException {
+        return Files.writeString(tempDir.resolve(name), text, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> selectors(Stylesheet stylesheet) {
+        return stylesheet.getRules().stream()
+            .map(Rule::getSelectors)
+            .flatMap(List::stream)
+            .map(Object::toString)
+            .toList();
+    }
+
+    @Test
+    void secondLoadIsServedFromCacheFileOfPreviousInstance() throws IOException {
+        Path css = writeCss("a.css", ".a { -fx-fill: red; } .b { -fx-fill: blue; }");
+
+        StylesheetCache first = new StylesheetCache(cacheDir);
+        Stylesheet parsed = first.load(css.toUri().toURL());
+        assertEquals(0, first.getHitCount());
+        assertEquals(1, first.getMissCount());
+
+        StylesheetCache second = new StylesheetCache(cacheDir);
+        Stylesheet cached = second.load(css.toUri().toURL());
+        assertEquals(1, second.getHitCount());
+        assertEquals(0, second.getMissCount());
+
+        assertEquals(css.toUri().toURL().toExternalForm(), cached.getUrl());
+        assertEquals(selectors(parsed), selectors(cached));
+        assertEquals(List.of("*.a", "*.b"), selectors(cached));
+    }
+
+    @Test
+    void changedContentInvalidatesCacheFile() throws IOException {
+        Path css = writeCss("a.css", ".a { -fx-fill: red; }");
+        new StylesheetCache(cacheDir).load(css.toUri().toURL());
+
+        writeCss("a.css", ".c { -fx-fill: red; }");
+        StylesheetCache cache = new StylesheetCache(cacheDir);
+        Stylesheet stylesheet = cache.load(css.toUri().toURL());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(List.of("*.c"), selectors(stylesheet));
+
+        cache = new StylesheetCache(cacheDir);
+        cache.load(css.toUri().toURL());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void changedImportInvalidatesCacheFile() throws IOException {
+        writeCss("b.css", ".b { -fx-fill: red; }");
+        Path css = writeCss("a.css", "@import \"b.css\";\n.a { -fx-fill: red; }");
+        Stylesheet parsed = new StylesheetCache(cacheDir).load(css.toUri().toURL());
+        assertEquals(List.of("*.b", "*.a"), selectors(parsed));
+
+        StylesheetCache cache = new StylesheetCache(cacheDir);
+        assertEquals(selectors(parsed), selectors(cache.load(css.toUri().toURL())));
+        assertEquals(1, cache.getHitCount());
+
+        writeCss("b.css", ".d { -fx-fill: red; }");
+        cache = new StylesheetCache(cacheDir);
+        Stylesheet stylesheet = cache.load(css.toUri().toURL());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(List.of("*.d", "*.a"), selectors(stylesheet));
+    }
+
+    @Test
+    void corruptCacheFileIsReplaced() throws IOException {
+        Path css = writeCss("a.css", ".a { -fx-fill: red; }");
+        new StylesheetCache(cacheDir).load(css.toUri().toURL());
+
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : files.toList()) {
+                Files.write(file, new byte[] { 1, 2, 3 });
+            }
+        }
+
+        StylesheetCache cache = new StylesheetCache(cacheDir);
+        assertEquals(List.of("*.a"), selectors(cache.load(css.toUri().toURL())));
+        assertEquals(1, cache.getMissCount());
+
+        cache = new StylesheetCache(cacheDir);
+        cache.load(css.toUri().toURL());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void unreadableStylesheetIsNotCached() throws IOException {
+        StylesheetCache cache = new StylesheetCache(cacheDir);
+        assertNull(cache.load(tempDir.resolve("missing.css").toUri().toURL()));
+        assertEquals(0, cache.getMissCount());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.font;
+
+import com.sun.javafx.font.CharToGlyphMapper;
+import com.sun.javafx.font.FontResource;
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.font.PrismFontFactory;
+import com.sun.javafx.font.PrismFontUtilsShim;
+import com.sun.javafx.geom.transform.BaseTransform;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import test.util.memory.JMemoryBuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class PrismFontUtilsTest {
+
+    private static final BaseTransform IDENTITY = BaseTransform.IDENTITY_TRANSFORM;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private static PGFont createFont(float size) {
+        return PrismFontFactory.getFontFactory().createFont("System Regular", size);
+    }
+
+    private void prepareGlyphs(PGFont font, int firstCodePoint, int lastCodePoint) {
+        CompletableFuture.runAsync(() ->
+            PrismFontUtilsShim.prepareGlyphs(font, IDENTITY, FontResource.AA_GREYSCALE,
+                                             firstCodePoint, lastCodePoint),
+            executor).join();
+    }
+
+    @Test
+    public void testPreparedGlyphsAreCachedBeforeFirstDraw() {
+        // An unusual size, so that nothing else has used the strike
+        PGFont font = createFont(37.5f);
+        CharToGlyphMapper mapper = font.getFontResource().getGlyphMapper();
+        FontStrike strike = font.getStrike(IDENTITY, FontResource.AA_GREYSCALE);
+        assumeTrue(PrismFontUtilsShim.canPrepareGlyph(strike, mapper.charToGlyph('A')));
+        for (char ch = 'A'; ch <= 'Z'; ch++) {
+            assertFalse(PrismFontUtilsShim.isGlyphCached(strike, mapper.charToGlyph(ch)));
+        }
+
+        prepareGlyphs(font, 'A', 'Z');
+
+        for (char ch = 'A'; ch <= 'Z'; ch++) {
+            assertTrue(PrismFontUtilsShim.isGlyphCached(strike, mapper.charToGlyph(ch)));
+        }
+        assertFalse(PrismFontUtilsShim.isGlyphCached(strike, mapper.charToGlyph('a')));
+    }
+
+    @Test
+    public void testGlyphsAreNotPreparedByUnsupportedRasterizers() {
+        PGFont font = createFont(39.5f);
+        CharToGlyphMapper mapper = font.getFontResource().getGlyphMapper();
+        FontStrike strike = font.getStrike(IDENTITY, FontResource.AA_GREYSCALE);
+        assumeFalse(PrismFontUtilsShim.canPrepareGlyph(strike, mapper.charToGlyph('A')));
+
+        prepareGlyphs(font, 'A', 'Z');
+
+        for (char ch = 'A'; ch <= 'Z'; ch++) {
+            assertFalse(PrismFontUtilsShim.isGlyphCached(strike, mapper.charToGlyph(ch)));
+        }
+    }
+
+    @Test
+    public void testPreparedStrikeIsRetainedByFont() {
+        PGFont font = createFont(41.5f);
+        prepareGlyphs(font, 'A', 'Z');
+        WeakReference<FontStrike> ref =
+            new WeakReference<>(font.getStrike(IDENTITY, FontResource.AA_GREYSCALE));
+
+        JMemoryBuddy.assertNotCollectable(ref);
+
+        font = null;
+        JMemoryBuddy.assertCollectable(ref);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,11 +34,14 @@ import com.sun.javafx.tk.FontLoader;
 import com.sun.javafx.tk.FontMetrics;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontPosture;
+import javafx.scene.text.FontSmoothingType;
 import javafx.scene.text.FontWeight;
 
 import java.io.InputStream;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Stub implementation of the {@link FontLoader} for testing purposes.
@@ -198,6 +201,13 @@ public class StubFontLoader extends FontLoader {
         return 12;
     }
 
+    @Override
+    public CompletableFuture<Void> prepareGlyphs(Font font,
+            BaseTransform transform, FontSmoothingType smoothingType,
+            int firstCodePoint, int lastCodePoint, Executor executor) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     public static class StubFont implements PGFont {
         private final Font font;
 
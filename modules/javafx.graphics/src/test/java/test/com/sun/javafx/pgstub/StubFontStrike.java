@@ -80,6 +80,10 @@ public record StubFontStrike(FontResource fontResource, float size, BaseTransfor
         return null;
     }
 
+    @Override
+    public void prepareGlyph(int glyphCode) {
+    }
+
     @Override
     public void clearDesc() {
     }
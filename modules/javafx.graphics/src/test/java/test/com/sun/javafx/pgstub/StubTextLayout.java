@@ -45,4 +45,9 @@ public class StubTextLayout extends PrismTextLayout {
     protected GlyphLayout glyphLayout() {
         return new StubGlyphLayout();
     }
+
+    @Override
+    protected PrismTextLayout newLayout() {
+        return new StubTextLayout();
+    }
 }
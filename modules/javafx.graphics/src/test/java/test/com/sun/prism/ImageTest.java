@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,11 +25,13 @@
 
 package test.com.sun.prism;
 
+import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.iio.ImageFrame;
 import com.sun.javafx.iio.ImageMetadata;
 import com.sun.javafx.iio.ImageStorage.ImageType;
 import com.sun.prism.Image;
 import com.sun.prism.PixelFormat;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import java.nio.Buffer;
@@ -440,6 +442,43 @@ public class ImageTest {
                 formatArray(image.getPixelBuffer().array())));
     }
 
+    @Test
+    void serialReturnsUnionOfDirtyRegionsSinceId() {
+        var image = Image.fromIntArgbPreData(new int[100], 10, 10);
+        int id = image.getSerial().getIdRect().getKey();
+        image.bufferDirty(new Rectangle(0, 1, 10, 2));
+        image.bufferDirty(new Rectangle(2, 6, 3, 1));
+
+        var idRect = image.getSerial().getIdRect(id);
+        assertEquals(id + 2, (int) idRect.getKey());
+        assertEquals(new Rectangle(0, 1, 10, 6), idRect.getValue());
+        assertEquals(new Rectangle(2, 6, 3, 1), image.getSerial().getIdRect(id + 1).getValue());
+    }
+
+    @Test
+    void serialReturnsNullRegionAfterWholeImageUpdate() {
+        var image = Image.fromIntArgbPreData(new int[100], 10, 10);
+        int id = image.getSerial().getIdRect().getKey();
+        image.bufferDirty(new Rectangle(0, 1, 10, 2));
+        image.setArgb(5, 5, 0xff000000);
+        image.bufferDirty(new Rectangle(2, 6, 3, 1));
+
+        assertNull(image.getSerial().getIdRect(id).getValue());
+        assertNotNull(image.getSerial().getIdRect(id + 2).getValue());
+    }
+
+    @Test
+    void serialReturnsNullRegionForUnknownUpdates() {
+        var image = Image.fromIntArgbPreData(new int[100], 10, 10);
+        int id = image.getSerial().getIdRect().getKey();
+        for (int i = 0; i < 100; i++) {
+            image.bufferDirty(new Rectangle(0, i % 10, 10, 1));
+        }
+
+        assertNull(image.getSerial().getIdRect(id).getValue());
+        assertEquals(new Rectangle(0, 8, 10, 2), image.getSerial().getIdRect(id + 98).getValue());
+    }
+
     private static String formatArray(Object array) {
         return switch (array) {
             case byte[] byteArray -> Arrays.toString(byteArray);
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism;
+
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.impl.shape.MaskData;
+import com.sun.prism.impl.shape.ShapeMaskPrefetcher;
+import com.sun.prism.impl.shape.ShapeUtil;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ShapeMaskPrefetcherTest {
+
+    private static final RectBounds TARGET_BOUNDS = new RectBounds(0, 0, 200, 200);
+
+    private ShapeMaskPrefetcher prefetcher;
+    private Path2D path;
+
+    @BeforeEach
+    public void setUp() {
+        prefetcher = new ShapeMaskPrefetcher();
+        path = new Path2D();
+        path.moveTo(10, 10);
+        path.curveTo(80, 0, 20, 90, 95, 70);
+        path.closePath();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ShapeUtil.setMaskPrefetcher(null);
+        prefetcher.endFrame();
+    }
+
+    private static byte[] copyMask(MaskData maskData) {
+        ByteBuffer buffer = maskData.getMaskBuffer().duplicate();
+        buffer.rewind();
+        byte[] mask = new byte[maskData.getWidth() * maskData.getHeight()];
+        buffer.get(mask);
+        return mask;
+    }
+
+    @Test
+    public void prefetchedFillMatchesDirectRasterization() {
+        BaseTransform xform = new Affine2D(1.5, 0, 0, 1.5, 3, 7);
+        RectBounds clip = new RectBounds(0, 0, 150, 150);
+        MaskData expected = ShapeUtil.rasterizeShape(path, null, clip, xform, true, true);
+        byte[] expectedMask = copyMask(expected);
+
+        prefetcher.submit(path, null, xform, TARGET_BOUNDS, true);
+        ShapeUtil.setMaskPrefetcher(prefetcher);
+        MaskData actual = ShapeUtil.rasterizeShape(path, null, clip, xform, true, true);
+
+        assertEquals(1, prefetcher.getTakenCount());
+        assertEquals(expected.getOriginX(), actual.getOriginX());
+        assertEquals(expected.getOriginY(), actual.getOriginY());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertArrayEquals(expectedMask, copyMask(actual));
+    }
+
+    @Test
+    public void prefetchedStrokeMatchesDirectRasterization() {
+        BasicStroke stroke = new BasicStroke(4f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 10f);
+        BaseTransform xform = BaseTransform.getTranslateInstance(20, 30);
+        MaskData expected = ShapeUtil.rasterizeShape(path, stroke, TARGET_BOUNDS, xform, true, true);
+        byte[] expectedMask = copyMask(expected);
+
+        prefetcher.submit(path, stroke, xform, TARGET_BOUNDS, true);
+        ShapeUtil.setMaskPrefetcher(prefetcher);
+        MaskData actual = ShapeUtil.rasterizeShape(path, stroke.copy(), TARGET_BOUNDS, xform, true, true);
+
+        assertEquals(1, prefetcher.getTakenCount());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertArrayEquals(expectedMask, copyMask(actual));
+    }
+
+    @Test
+    public void mismatchedRequestsAreRasterizedDirectly() {
+        prefetcher.submit(path, null, BaseTransform.IDENTITY_TRANSFORM, TARGET_BOUNDS, true);
+        ShapeUtil.setMaskPrefetcher(prefetcher);
+
+        // different transform
+        ShapeUtil.rasterizeShape(path, null, TARGET_BOUNDS,
+                BaseTransform.getTranslateInstance(1, 0), true, true);
+        // different antialiasing
+        ShapeUtil.rasterizeShape(path, null, TARGET_BOUNDS,
+                BaseTransform.IDENTITY_TRANSFORM, true, false);
+        // bounds outside of the prefetched bounds
+        ShapeUtil.rasterizeShape(path, null, new RectBounds(-10, -10, 100, 100),
+                BaseTransform.IDENTITY_TRANSFORM, true, true);
+        // different shape instance
+        ShapeUtil.rasterizeShape(new Path2D(path), null, TARGET_BOUNDS,
+                BaseTransform.IDENTITY_TRANSFORM, true, true);
+        assertEquals(0, prefetcher.getTakenCount());
+
+        ShapeUtil.rasterizeShape(path, null, TARGET_BOUNDS,
+                BaseTransform.IDENTITY_TRANSFORM, true, true);
+        assertEquals(1, prefetcher.getTakenCount());
+    }
+
+    @Test
+    public void prefetchedMaskIsOnlyUsedOnce() {
+        prefetcher.submit(path, null, BaseTransform.IDENTITY_TRANSFORM, TARGET_BOUNDS, true);
+        ShapeUtil.setMaskPrefetcher(prefetcher);
+
+        ShapeUtil.rasterizeShape(path, null, TARGET_BOUNDS, BaseTransform.IDENTITY_TRANSFORM, true, true);
+        ShapeUtil.rasterizeShape(path, null, TARGET_BOUNDS, BaseTransform.IDENTITY_TRANSFORM, true, true);
+        assertEquals(1, prefetcher.getSubmittedCount());
+        assertEquals(1, prefetcher.getTakenCount());
+    }
+
+    @Test
+    public void endFrameDiscardsUnusedMasks() {
+        prefetcher.submit(path, null, BaseTransform.IDENTITY_TRANSFORM, TARGET_BOUNDS, true);
+        prefetcher.endFrame();
+        assertEquals(0, prefetcher.getSubmittedCount());
+
+        ShapeUtil.setMaskPrefetcher(prefetcher);
+        ShapeUtil.rasterizeShape(path, null, TARGET_BOUNDS, BaseTransform.IDENTITY_TRANSFORM, true, true);
+        assertEquals(0, prefetcher.getTakenCount());
+    }
+}
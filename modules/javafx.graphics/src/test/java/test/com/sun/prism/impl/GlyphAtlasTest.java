@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl;
+
+import com.sun.prism.impl.GlyphAtlasShim;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GlyphAtlasTest {
+
+    private static final int SIZE = 1024;
+    private static final int PAGES = 4;
+    private static final int PAGE_HEIGHT = SIZE / PAGES;
+
+    private GlyphAtlasShim atlas;
+
+    @BeforeEach
+    public void setUp() {
+        atlas = new GlyphAtlasShim(SIZE, SIZE, PAGES);
+    }
+
+    private void fillAllPages(GlyphAtlasShim.Owner... owners) {
+        for (int i = 0; i < PAGES; i++) {
+            assertEquals(i, atlas.add(SIZE, PAGE_HEIGHT, owners[i]));
+        }
+        assertEquals(-1, atlas.add(1, 1, owners[0]));
+    }
+
+    @Test
+    public void testPagesDivideTexture() {
+        assertEquals(PAGES, atlas.getPageCount());
+        for (int i = 0; i < PAGES; i++) {
+            assertEquals(i * PAGE_HEIGHT, atlas.getPageY(i));
+            assertEquals(PAGE_HEIGHT, atlas.getPageHeight(i));
+        }
+    }
+
+    @Test
+    public void testLastPageTakesLeftOverRows() {
+        atlas = new GlyphAtlasShim(SIZE, 1000, 3);
+        assertEquals(3, atlas.getPageCount());
+        assertEquals(333, atlas.getPageHeight(0));
+        assertEquals(333, atlas.getPageHeight(1));
+        assertEquals(666, atlas.getPageY(2));
+        assertEquals(334, atlas.getPageHeight(2));
+    }
+
+    @Test
+    public void testPageCountLimitedByMinimumPageHeight() {
+        atlas = new GlyphAtlasShim(SIZE, 128, PAGES);
+        assertEquals(2, atlas.getPageCount());
+        assertEquals(64, atlas.getPageHeight(0));
+
+        atlas = new GlyphAtlasShim(SIZE, 32, PAGES);
+        assertEquals(1, atlas.getPageCount());
+        assertEquals(32, atlas.getPageHeight(0));
+    }
+
+    @Test
+    public void testAddFillsPagesInOrder() {
+        GlyphAtlasShim.Owner owner = new GlyphAtlasShim.Owner();
+        assertEquals(0, atlas.add(SIZE, PAGE_HEIGHT / 2, owner));
+        assertEquals(0, atlas.add(SIZE, PAGE_HEIGHT / 2, owner));
+        assertEquals(1, atlas.add(SIZE, PAGE_HEIGHT / 2, owner));
+        assertEquals(1, atlas.add(SIZE / 2, PAGE_HEIGHT / 2, owner));
+        assertEquals(1, atlas.add(SIZE / 2, PAGE_HEIGHT / 2, owner));
+        assertEquals(2, atlas.add(1, 1, owner));
+    }
+
+    @Test
+    public void testEvictClearsLeastRecentlyUsedPage() {
+        GlyphAtlasShim.Owner[] owners = {
+            new GlyphAtlasShim.Owner(), new GlyphAtlasShim.Owner(),
+            new GlyphAtlasShim.Owner(), new GlyphAtlasShim.Owner()
+        };
+        fillAllPages(owners);
+        atlas.touch(0);
+        atlas.touch(2);
+
+        List<GlyphAtlasShim.Owner> evicted = atlas.evict(1, 1);
+        assertEquals(List.of(owners[1]), evicted);
+        assertEquals(1, owners[1].getRemovedPages());
+        assertEquals(0, owners[0].getRemovedPages());
+        assertEquals(0, owners[2].getRemovedPages());
+        assertEquals(0, owners[3].getRemovedPages());
+        assertEquals(PAGES, atlas.getPageCount());
+
+        // The cleared page is the only one with room
+        assertEquals(1, atlas.add(SIZE, PAGE_HEIGHT, owners[0]));
+
+        // Page 3 is now the least recently used
+        assertEquals(List.of(owners[3]), atlas.evict(1, 1));
+        assertEquals(3, atlas.add(1, 1, owners[0]));
+    }
+
+    @Test
+    public void testEvictReportsEachOwnerOnce() {
+        GlyphAtlasShim.Owner owner = new GlyphAtlasShim.Owner();
+        GlyphAtlasShim.Owner other = new GlyphAtlasShim.Owner();
+        assertEquals(0, atlas.add(SIZE / 4, PAGE_HEIGHT, owner));
+        assertEquals(0, atlas.add(SIZE / 4, PAGE_HEIGHT, other));
+        assertEquals(0, atlas.add(SIZE / 2, PAGE_HEIGHT, owner));
+        for (int i = 1; i < PAGES; i++) {
+            assertEquals(i, atlas.add(SIZE, PAGE_HEIGHT, other));
+        }
+        List<GlyphAtlasShim.Owner> evicted = atlas.evict(1, 1);
+        assertEquals(2, evicted.size());
+        assertTrue(evicted.contains(owner));
+        assertTrue(evicted.contains(other));
+        assertEquals(1, owner.getRemovedPages());
+        assertEquals(1, other.getRemovedPages());
+    }
+
+    @Test
+    public void testGlyphTallerThanPageUsesWholeTexture() {
+        GlyphAtlasShim.Owner owner = new GlyphAtlasShim.Owner();
+        GlyphAtlasShim.Owner other = new GlyphAtlasShim.Owner();
+        assertEquals(0, atlas.add(1, 1, owner));
+        assertEquals(1, atlas.add(SIZE, PAGE_HEIGHT, other));
+
+        // A glyph taller than a page is not added to any page
+        assertFalse(atlas.fitsPage(SIZE, SIZE));
+        assertEquals(-1, atlas.add(SIZE, SIZE, owner));
+
+        // Evicting for it clears every page and merges them into one
+        List<GlyphAtlasShim.Owner> evicted = atlas.evict(SIZE, SIZE);
+        assertEquals(2, evicted.size());
+        assertTrue(evicted.contains(owner));
+        assertTrue(evicted.contains(other));
+        assertEquals(1, owner.getRemovedPages());
+        assertEquals(1, other.getRemovedPages());
+        assertEquals(1, atlas.getPageCount());
+        assertEquals(0, atlas.getPageY(0));
+        assertEquals(SIZE, atlas.getPageHeight(0));
+        assertEquals(0, atlas.add(SIZE, SIZE, owner));
+    }
+
+    @Test
+    public void testSinglePageIsDividedAgainWhenFull() {
+        GlyphAtlasShim.Owner owner = new GlyphAtlasShim.Owner();
+        atlas.evict(SIZE, PAGE_HEIGHT + 1);
+        assertEquals(1, atlas.getPageCount());
+        assertEquals(0, atlas.add(SIZE, PAGE_HEIGHT + 1, owner));
+
+        // Smaller glyphs keep using the single page until it is full
+        assertEquals(0, atlas.add(SIZE, PAGE_HEIGHT, owner));
+        assertEquals(1, atlas.getPageCount());
+        assertEquals(-1, atlas.add(SIZE, PAGE_HEIGHT * 2, owner));
+
+        assertTrue(atlas.fitsPage(SIZE, PAGE_HEIGHT));
+        assertEquals(List.of(owner), atlas.evict(SIZE, PAGE_HEIGHT));
+        assertEquals(PAGES, atlas.getPageCount());
+        for (int i = 0; i < PAGES; i++) {
+            assertEquals(PAGE_HEIGHT, atlas.getPageHeight(i));
+        }
+        assertEquals(0, atlas.add(SIZE, PAGE_HEIGHT, owner));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.sw;
+
+import com.sun.javafx.geom.Ellipse2D;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.marlin.DMarlinRenderingEngine;
+import com.sun.marlin.MarlinRenderer;
+import com.sun.marlin.MaskMarlinAlphaConsumer;
+import com.sun.marlin.RendererContext;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.impl.shape.DMarlinPrismUtils;
+import com.sun.prism.impl.shape.MaskData;
+import com.sun.prism.sw.SWContextShim;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TiledShapeRendererTest {
+
+    private static final Rectangle CLIP = new Rectangle(0, 0, 200, 200);
+    private static final int MAX_TILES = 4;
+    private static final int MIN_TILE_HEIGHT = 8;
+
+    private static Path2D createCurve() {
+        Path2D path = new Path2D();
+        path.moveTo(10, 10);
+        path.curveTo(180, 0, 20, 190, 190, 170);
+        path.lineTo(40, 150);
+        path.closePath();
+        return path;
+    }
+
+    private static void accumulate(byte[][] coverage, MaskData mask) {
+        ByteBuffer buffer = mask.getMaskBuffer().duplicate();
+        int w = mask.getWidth();
+        for (int y = 0; y < mask.getHeight(); y++) {
+            for (int x = 0; x < w; x++) {
+                int a = buffer.get(y * w + x) & 0xff;
+                if (a != 0) {
+                    coverage[mask.getOriginY() + y - CLIP.y][mask.getOriginX() + x - CLIP.x] = (byte) a;
+                }
+            }
+        }
+    }
+
+    private static byte[][] rasterizeFullPass(Shape shape, BasicStroke stroke, BaseTransform tr, boolean aa) {
+        byte[][] coverage = new byte[CLIP.height][CLIP.width];
+        RendererContext rdrCtx = DMarlinRenderingEngine.getRendererContext();
+        MarlinRenderer renderer = null;
+        try {
+            renderer = DMarlinPrismUtils.setupRenderer(rdrCtx, shape, stroke, tr, CLIP, aa);
+            int x = renderer.getOutpixMinX();
+            int y = renderer.getOutpixMinY();
+            int w = renderer.getOutpixMaxX() - x;
+            int h = renderer.getOutpixMaxY() - y;
+            if (w > 0 && h > 0) {
+                MaskMarlinAlphaConsumer consumer = new MaskMarlinAlphaConsumer(w * h);
+                consumer.setBoundsNoClone(x, y, w, h);
+                renderer.produceAlphas(consumer);
+                accumulate(coverage, consumer.getMaskData());
+            }
+        } finally {
+            if (renderer != null) {
+                renderer.dispose();
+            }
+            DMarlinRenderingEngine.returnRendererContext(rdrCtx);
+        }
+        return coverage;
+    }
+
+    private static void assertTilesMatchFullPass(Shape shape, BasicStroke stroke, BaseTransform tr, boolean aa) {
+        List<MaskData> tiles = SWContextShim.rasterizeTiles(MAX_TILES, MIN_TILE_HEIGHT,
+                shape, stroke, tr, CLIP, aa);
+        assertNotNull(tiles);
+        assertEquals(MAX_TILES, tiles.size());
+
+        byte[][] expected = rasterizeFullPass(shape, stroke, tr, aa);
+        byte[][] actual = new byte[CLIP.height][CLIP.width];
+        int nextY = Integer.MIN_VALUE;
+        for (MaskData tile : tiles) {
+            // every tile must have coverage, so that there is a seam between each of them
+            assertNotNull(tile);
+            assertTrue(tile.getOriginY() >= nextY, "tiles overlap at row " + tile.getOriginY());
+            nextY = tile.getOriginY() + tile.getHeight();
+            accumulate(actual, tile);
+        }
+        for (int y = 0; y < CLIP.height; y++) {
+            assertArrayEquals(expected[y], actual[y], "row " + y);
+        }
+    }
+
+    @Test
+    public void filledShapeMatchesFullPass() {
+        assertTilesMatchFullPass(createCurve(), null, BaseTransform.IDENTITY_TRANSFORM, true);
+    }
+
+    @Test
+    public void strokedShapeMatchesFullPass() {
+        BasicStroke stroke = new BasicStroke(BasicStroke.TYPE_CENTERED, 7f,
+                BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 10f);
+        assertTilesMatchFullPass(createCurve(), stroke, BaseTransform.IDENTITY_TRANSFORM, true);
+    }
+
+    @Test
+    public void transformedAntialiasedShapeMatchesFullPass() {
+        Affine2D tr = new Affine2D();
+        tr.translate(100.3, 95.7);
+        tr.rotate(Math.toRadians(30));
+        Ellipse2D ellipse = new Ellipse2D(-70.25f, -45.5f, 140.5f, 91f);
+        assertTilesMatchFullPass(ellipse, null, tr, true);
+    }
+
+    @Test
+    public void nonAntialiasedShapeMatchesFullPass() {
+        assertTilesMatchFullPass(createCurve(), null, BaseTransform.IDENTITY_TRANSFORM, false);
+    }
+
+    @Test
+    public void smallShapeIsNotTiled() {
+        Ellipse2D ellipse = new Ellipse2D(20.5f, 20.5f, 30f, 10f);
+        assertNull(SWContextShim.rasterizeTiles(MAX_TILES, MIN_TILE_HEIGHT,
+                ellipse, null, BaseTransform.IDENTITY_TRANSFORM, CLIP, true));
+    }
+
+    @Test
+    public void shapeOutsideOfClipIsNotTiled() {
+        Ellipse2D ellipse = new Ellipse2D(300f, 300f, 100f, 100f);
+        assertNull(SWContextShim.rasterizeTiles(MAX_TILES, MIN_TILE_HEIGHT,
+                ellipse, null, BaseTransform.IDENTITY_TRANSFORM, CLIP, true));
+    }
+}
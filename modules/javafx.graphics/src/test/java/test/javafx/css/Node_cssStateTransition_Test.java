@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,16 +28,20 @@ package test.javafx.css;
 import com.sun.javafx.css.StyleManager;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javafx.css.CssMetaData;
 import javafx.css.CssParser;
 import javafx.css.PseudoClass;
 import javafx.css.StyleableProperty;
 import javafx.css.Stylesheet;
 import javafx.scene.Group;
+import javafx.scene.NodeShim;
 import javafx.scene.Scene;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -211,4 +215,159 @@ public class Node_cssStateTransition_Test {
 
     }
 
+    @Test
+    public void testPseudoClassChangeOnlyUpdatesDependentDescendants() {
+
+        Stylesheet stylesheet = null;
+        try {
+            stylesheet = new CssParser().parse(
+                "testPseudoClassChangeOnlyUpdatesDependentDescendants",
+                ".container:hover .a { -fx-fill: red; }" +
+                ".b { -fx-fill: blue; }"
+            );
+        } catch(IOException ioe) {
+            fail();
+        }
+
+        Rectangle a = new Rectangle(50,50);
+        a.getStyleClass().add("a");
+        Rectangle b = new Rectangle(50,50);
+        b.getStyleClass().add("b");
+
+        Group container = new Group(new Group(a), b);
+        container.getStyleClass().add("container");
+
+        Group root = new Group(container);
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+
+        Scene scene = new Scene(root);
+
+        root.applyCss();
+
+        assertEquals(Color.BLACK, a.getFill());
+        assertEquals(Color.BLUE, b.getFill());
+
+        boolean incremental = NodeShim.isIncrementalPseudoClassUpdate();
+        NodeShim.setIncrementalPseudoClassUpdate(true);
+        try {
+            container.pseudoClassStateChanged(PseudoClass.getPseudoClass("hover"), true);
+        } finally {
+            NodeShim.setIncrementalPseudoClassUpdate(incremental);
+        }
+
+        // Only the node whose selector depends on the hover state of the container is updated
+        assertEquals("DIRTY_BRANCH", NodeShim.getCSSFlags(container));
+        assertEquals("UPDATE", NodeShim.getCSSFlags(a));
+        assertEquals("CLEAN", NodeShim.getCSSFlags(b));
+
+        root.applyCss();
+
+        assertEquals(Color.RED, a.getFill());
+        assertEquals(Color.BLUE, b.getFill());
+        assertEquals("CLEAN", NodeShim.getCSSFlags(a));
+
+        container.pseudoClassStateChanged(PseudoClass.getPseudoClass("hover"), false);
+        root.applyCss();
+
+        assertEquals(Color.BLACK, a.getFill());
+        assertEquals(Color.BLUE, b.getFill());
+    }
+
+    @Test
+    public void testIncrementalPseudoClassUpdateMatchesFullUpdate() {
+        boolean incremental = NodeShim.isIncrementalPseudoClassUpdate();
+        try {
+            NodeShim.setIncrementalPseudoClassUpdate(false);
+            List<String> expected = applyPseudoClassChanges();
+
+            resetStyleManager();
+            NodeShim.setIncrementalPseudoClassUpdate(true);
+            List<String> actual = applyPseudoClassChanges();
+
+            assertEquals(expected, actual);
+        } finally {
+            NodeShim.setIncrementalPseudoClassUpdate(incremental);
+        }
+    }
+
+    /*
+     * Applies a sequence of pseudo-class changes to a container whose descendants
+     * depend on its state through descendant selectors, inherited values and
+     * looked-up colors, and returns the styles after each change.
+     */
+    private List<String> applyPseudoClassChanges() {
+
+        Stylesheet stylesheet = null;
+        try {
+            stylesheet = new CssParser().parse(
+                "applyPseudoClassChanges",
+                ".container { -my-color: purple; }" +
+                ".container:focused { -my-color: orange; }" +
+                ".container:hover .a { -fx-fill: red; }" +
+                ".b { -fx-fill: blue; }" +
+                ".mid { -my-color: yellow; }" +
+                ".container:hover .mid { -my-color: green; -fx-font-size: 20; }" +
+                ".c { -fx-fill: -my-color; }" +
+                ".d { -fx-fill: -my-color; }"
+            );
+        } catch(IOException ioe) {
+            fail();
+        }
+
+        Rectangle a = new Rectangle(50,50);
+        a.getStyleClass().add("a");
+        Rectangle b = new Rectangle(50,50);
+        b.getStyleClass().add("b");
+        Rectangle c = new Rectangle(50,50);
+        c.getStyleClass().add("c");
+        Rectangle d = new Rectangle(50,50);
+        d.getStyleClass().add("d");
+        Text text = new Text("text");
+
+        Group mid = new Group(new Group(c, text));
+        mid.getStyleClass().add("mid");
+
+        Group container = new Group(new Group(a), b, mid, d);
+        container.getStyleClass().add("container");
+
+        Group root = new Group(container);
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+
+        Scene scene = new Scene(root);
+
+        PseudoClass hover = PseudoClass.getPseudoClass("hover");
+        PseudoClass focused = PseudoClass.getPseudoClass("focused");
+
+        List<String> styles = new ArrayList<>();
+        root.applyCss();
+        styles.add(describeStyles(a, b, c, d, text));
+
+        container.pseudoClassStateChanged(hover, true);
+        root.applyCss();
+        styles.add(describeStyles(a, b, c, d, text));
+        assertEquals(Color.RED, a.getFill());
+        assertEquals(Color.GREEN, c.getFill());
+        assertEquals(20, text.getFont().getSize());
+
+        container.pseudoClassStateChanged(focused, true);
+        root.applyCss();
+        styles.add(describeStyles(a, b, c, d, text));
+        assertEquals(Color.ORANGE, d.getFill());
+
+        container.pseudoClassStateChanged(hover, false);
+        root.applyCss();
+        styles.add(describeStyles(a, b, c, d, text));
+        assertEquals(Color.YELLOW, c.getFill());
+
+        container.pseudoClassStateChanged(focused, false);
+        root.applyCss();
+        styles.add(describeStyles(a, b, c, d, text));
+        assertEquals(Color.PURPLE, d.getFill());
+
+        return styles;
+    }
+
+    private static String describeStyles(Rectangle a, Rectangle b, Rectangle c, Rectangle d, Text text) {
+        return a.getFill() + " " + b.getFill() + " " + c.getFill() + " " + d.getFill() + " " + text.getFont().getSize();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@ import com.sun.javafx.css.SimpleSelector;
 import java.util.Arrays;
 import java.util.stream.Stream;
 import java.util.List;
+import java.util.Set;
 import javafx.css.CssParser;
 import javafx.css.Declaration;
 import javafx.css.DeclarationShim;
@@ -40,6 +41,7 @@ import javafx.css.Selector;
 import javafx.css.Stylesheet;
 import javafx.scene.paint.Color;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -245,4 +247,32 @@ public class SelectorPartitioningTest {
 
     }
 
+    @Test
+    public void testMatchWithManyStyleClassSets() {
+        StringBuilder css = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            css.append(".c").append(i).append(" {-fx-fill: red;}\n");
+            css.append(".c").append(i).append(".c").append((i + 1) % 20).append(" {-fx-fill: red;}\n");
+            css.append("A.c").append(i).append(" {-fx-fill: red;}\n");
+            css.append("A.c").append(i).append("#x {-fx-fill: red;}\n");
+        }
+
+        Stylesheet stylesheet = new CssParser().parse(css.toString());
+        for (Rule rule : stylesheet.getRules()) {
+            for (Selector selector : rule.getSelectors()) {
+                instance.partition(selector);
+            }
+        }
+
+        // The selectors with ordinal 4*i+k are .ci, .ci.c(i+1), A.ci and A.ci#x
+        List<Integer> ordinals = instance.match("x", "A", Set.of("c3", "c4", "c9")).stream()
+            .map(Selector::getOrdinal)
+            .toList();
+        assertEquals(List.of(12, 13, 14, 15, 16, 18, 19, 36, 38, 39), ordinals);
+
+        ordinals = instance.match(null, "B", Set.of("c19", "c0")).stream()
+            .map(Selector::getOrdinal)
+            .toList();
+        assertEquals(List.of(0, 76, 77), ordinals);
+    }
 }
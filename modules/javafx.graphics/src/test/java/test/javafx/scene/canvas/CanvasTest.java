@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,11 +25,14 @@
 
 package test.javafx.scene.canvas;
 
+import java.util.concurrent.CompletableFuture;
 import javafx.geometry.VPos;
 import test.javafx.scene.NodeTest;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.CanvasShim;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.BoxBlur;
 import test.javafx.scene.image.ImageForTesting;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.ArcType;
@@ -48,7 +51,9 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -515,6 +520,199 @@ public class CanvasTest {
         assertTrue(gc.isImageSmoothing(), "Image smoothing should be enabled.");
     }
 
+    @Test
+    public void testGCfillRects_basic() {
+        double[] rects = { 0, 0, 10, 10, 5, 5, 1, 1 };
+        gc.fillRects(rects, null, 2);
+        gc.fillRects(rects, new int[] { 0xff0000ff, 0x8000ff00 }, 2);
+        gc.fillRects(rects, null, 0);
+        gc.fillRects(null, null, 2);
+    }
+
+    @Test
+    public void testGCstrokeLines_basic() {
+        double[] lines = { 0, 0, 10, 10, 5, 5, 1, 1 };
+        gc.strokeLines(lines, null, 2);
+        gc.strokeLines(lines, new int[] { 0xff0000ff, 0x8000ff00 }, 1);
+        gc.strokeLines(null, null, 2);
+    }
+
+    @Test
+    public void testGCdrawPoints_basic() {
+        double[] points = { 0, 0, 10, 10, 5, 5 };
+        gc.drawPoints(points, null, 3);
+        gc.drawPoints(points, new int[] { 0xff0000ff, 0x8000ff00, 0 }, 3);
+        gc.drawPoints(null, null, 3);
+    }
+
+    @Test
+    public void testGCfillRects_TooShort() {
+        double[] rects = { 0, 0, 10, 10, 5, 5 };
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(rects, null, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(rects, new int[0], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(rects, null, -1));
+    }
+
+    @Test
+    public void testGCdrawPoints_TooShort() {
+        double[] points = { 0, 0, 10 };
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.drawPoints(points, null, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.strokeLines(points, null, 1));
+    }
+
+    @Test
+    public void testGCState_Layer() {
+        assertEquals(0, gc.getLayer());
+        gc.setLayer(2);
+        assertEquals(2, gc.getLayer());
+        gc.setLayer(-1);
+        assertEquals(-1, gc.getLayer());
+        gc.setLayer(0);
+        assertEquals(0, gc.getLayer());
+    }
+
+    @Test
+    public void testGCState_LayerNotSavedAndRestored() {
+        gc.setLayer(1);
+        gc.save();
+        gc.setLayer(2);
+        gc.restore();
+        assertEquals(2, gc.getLayer());
+    }
+
+    @Test
+    public void testGCLayer_clearTruncatesOnlyItsLayer() {
+        canvas.setWidth(10);
+        canvas.setHeight(10);
+        gc.fillRect(0, 0, 5, 5);
+        int baseSize = CanvasShim.getBufferSize(canvas, 0);
+        gc.setLayer(1);
+        for (int frame = 0; frame < 20; frame++) {
+            gc.clearRect(0, 0, 10, 10);
+            assertTrue(CanvasShim.getBufferSize(canvas, 1) < 100);
+            for (int i = 0; i < 100; i++) {
+                gc.strokeLine(0, i % 10, 10, 10);
+            }
+            assertTrue(CanvasShim.getBufferSize(canvas, 1) > 1024);
+        }
+        assertEquals(baseSize, CanvasShim.getBufferSize(canvas, 0));
+    }
+
+    @Test
+    public void testGCLayer_fillTruncatesOnlyItsLayer() {
+        canvas.setWidth(10);
+        canvas.setHeight(10);
+        gc.setLayer(1);
+        gc.strokeLine(0, 0, 10, 10);
+        int layerSize = CanvasShim.getBufferSize(canvas, 1);
+        gc.setLayer(0);
+        for (int i = 0; i < 100; i++) {
+            gc.strokeLine(0, i % 10, 10, 10);
+        }
+        assertTrue(CanvasShim.getBufferSize(canvas, 0) > 1024);
+        gc.fillRect(0, 0, 10, 10);
+        assertTrue(CanvasShim.getBufferSize(canvas, 0) < 100);
+        assertEquals(layerSize, CanvasShim.getBufferSize(canvas, 1));
+    }
+
+    @Test
+    public void testGCLayer_releaseDiscardsItsCommands() {
+        canvas.setWidth(10);
+        canvas.setHeight(10);
+        gc.fillRect(0, 0, 5, 5);
+        int baseSize = CanvasShim.getBufferSize(canvas, 0);
+        gc.setLayer(1);
+        gc.strokeLine(0, 0, 10, 10);
+        assertTrue(CanvasShim.getBufferSize(canvas, 1) > 0);
+        gc.releaseLayer(1);
+        assertEquals(0, CanvasShim.getBufferSize(canvas, 1));
+        assertEquals(baseSize, CanvasShim.getBufferSize(canvas, 0));
+        assertEquals(1, gc.getLayer());
+        gc.strokeLine(0, 0, 10, 10);
+        assertTrue(CanvasShim.getBufferSize(canvas, 1) > 0);
+    }
+
+    @Test
+    public void testGCLayer_recordedReleaseDiscardsCommandsWhenSubmitted() {
+        canvas.setWidth(10);
+        canvas.setHeight(10);
+        gc.setLayer(1);
+        gc.strokeLine(0, 0, 10, 10);
+        GraphicsContext rec = canvas.createRecordingContext();
+        rec.setLayer(1);
+        rec.fillRect(0, 0, 10, 10);
+        rec.releaseLayer(1);
+        assertTrue(CanvasShim.getBufferSize(canvas, 1) > 0);
+        canvas.submitRecording(rec);
+        assertEquals(0, CanvasShim.getBufferSize(canvas, 1));
+    }
+
+    @Test
+    public void testRecordingContext() {
+        GraphicsContext rec = canvas.createRecordingContext();
+        assertNotNull(rec);
+        assertNotSame(gc, rec);
+        assertNotSame(rec, canvas.createRecordingContext());
+        assertEquals(canvas, rec.getCanvas());
+        assertEquals(gc, canvas.getGraphicsContext2D());
+    }
+
+    @Test
+    public void testRecordingContextHasIndependentState() {
+        gc.setFill(Color.RED);
+        gc.setLayer(1);
+        GraphicsContext rec = canvas.createRecordingContext();
+        assertEquals(Color.BLACK, rec.getFill());
+        assertEquals(0, rec.getLayer());
+        rec.setFill(Color.BLUE);
+        rec.setLayer(2);
+        rec.fillRect(0, 0, 10, 10);
+        canvas.submitRecording(rec);
+        assertEquals(Color.RED, gc.getFill());
+        assertEquals(1, gc.getLayer());
+        assertEquals(Color.BLUE, rec.getFill());
+        assertEquals(2, rec.getLayer());
+    }
+
+    @Test
+    public void testSubmitRecording() throws Exception {
+        canvas.setWidth(10);
+        canvas.setHeight(10);
+        GraphicsContext rec1 = canvas.createRecordingContext();
+        GraphicsContext rec2 = canvas.createRecordingContext();
+        CompletableFuture<Void> f1 = CompletableFuture.runAsync(() -> {
+            rec1.save();
+            rec1.rect(0, 0, 5, 5);
+            rec1.clip();
+            rec1.fillRects(new double[] { 0, 0, 10, 10 }, null, 1);
+            rec1.restore();
+        });
+        CompletableFuture<Void> f2 = CompletableFuture.runAsync(() -> {
+            rec2.setEffect(new BoxBlur());
+            rec2.strokeLine(0, 0, 10, 10);
+        });
+        f1.get();
+        f2.get();
+        gc.fillRect(0, 0, 10, 10);
+        canvas.submitRecording(rec1);
+        canvas.submitRecording(rec2);
+        // Submitting again without new commands does nothing
+        canvas.submitRecording(rec2);
+        gc.fillRect(0, 0, 1, 1);
+    }
+
+    @Test
+    public void testSubmitRecording_Null() {
+        assertThrows(NullPointerException.class, () -> canvas.submitRecording(null));
+    }
+
+    @Test
+    public void testSubmitRecording_NotARecording() {
+        assertThrows(IllegalArgumentException.class, () -> canvas.submitRecording(gc));
+        GraphicsContext other = new Canvas().createRecordingContext();
+        assertThrows(IllegalArgumentException.class, () -> canvas.submitRecording(other));
+    }
+
     @Test
     public void testGCappendSVGPath_Null() {
         gc.appendSVGPath("m 0 0");
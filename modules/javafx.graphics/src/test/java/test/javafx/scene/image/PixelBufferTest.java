@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,8 +25,17 @@
 
 package test.javafx.scene.image;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.PixelBuffer;
@@ -129,6 +138,44 @@ public final class PixelBufferTest {
         pixelBuffer.updateBuffer(callback);
     }
 
+    @Test
+    public void testUpdatePixelBufferOutOfBoundsBufferUpdate() {
+        // This test verifies that a dirty region outside of the buffer does not cause any exception
+        PixelBuffer<ByteBuffer> pixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, BYTE_BUFFER, BYTE_BGRA_PRE_PF);
+        pixelBuffer.updateBuffer(pixBuf -> new Rectangle2D(-5, -5, WIDTH + 10, HEIGHT + 10));
+        pixelBuffer.updateBuffer(pixBuf -> new Rectangle2D(WIDTH, HEIGHT, 5, 5));
+    }
+
+    @Test
+    public void testCreatePixelBufferWithMemorySegment() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(WIDTH * HEIGHT * 4L);
+            ByteBuffer byteBuffer = segment.asByteBuffer();
+            PixelBuffer<ByteBuffer> pixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, byteBuffer, BYTE_BGRA_PRE_PF);
+            assertSame(byteBuffer, pixelBuffer.getBuffer());
+            new WritableImage(pixelBuffer);
+
+            IntBuffer intBuffer = segment.asByteBuffer().order(ByteOrder.nativeOrder()).asIntBuffer();
+            PixelBuffer<IntBuffer> intPixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, intBuffer, INT_ARGB_PRE_PF);
+            assertSame(intBuffer, intPixelBuffer.getBuffer());
+            new WritableImage(intPixelBuffer);
+        }
+    }
+
+    @Test
+    public void testCreatePixelBufferWithReadOnlyMappedByteBuffer() throws IOException {
+        // The mapping may keep the file open until the buffer is collected
+        Path file = Files.createTempFile("PixelBufferTest", null);
+        file.toFile().deleteOnExit();
+        Files.write(file, new byte[WIDTH * HEIGHT * 4]);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            PixelBuffer<ByteBuffer> pixelBuffer = new PixelBuffer<>(WIDTH, HEIGHT, mappedBuffer, BYTE_BGRA_PRE_PF);
+            assertSame(mappedBuffer, pixelBuffer.getBuffer());
+            pixelBuffer.updateBuffer(pixBuf -> new Rectangle2D(0, 2, WIDTH, 3));
+        }
+    }
+
     @Test
     public void testUpdatePixelBufferCallbackNull() {
         assertThrows(NullPointerException.class, () -> {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,14 +28,18 @@ package test.javafx.scene.text;
 import com.sun.javafx.scene.text.FontHelper;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontPosture;
+import javafx.scene.text.FontSmoothingType;
 import javafx.scene.text.FontWeight;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static test.com.sun.javafx.test.TestHelper.assertImmutableList;
 
@@ -63,6 +67,39 @@ public class FontTest {
         assertImmutableList(names);
     }
 
+    @Test
+    public void testPrepareGlyphs() {
+        Font font = Font.font("Amble", 20);
+        Executor executor = Runnable::run;
+        CompletableFuture<Void> future = Font.prepareGlyphs(font, 'A', 'Z', 2.0,
+                FontSmoothingType.GRAY, executor);
+        assertNotNull(future);
+        future.join();
+    }
+
+    @Test
+    public void testPrepareGlyphs_InvalidArguments() {
+        Font font = Font.font("Amble", 20);
+        FontSmoothingType gray = FontSmoothingType.GRAY;
+        Executor executor = Runnable::run;
+        assertThrows(NullPointerException.class,
+                () -> Font.prepareGlyphs(null, 'A', 'Z', 1, gray, executor));
+        assertThrows(NullPointerException.class,
+                () -> Font.prepareGlyphs(font, 'A', 'Z', 1, null, executor));
+        assertThrows(NullPointerException.class,
+                () -> Font.prepareGlyphs(font, 'A', 'Z', 1, gray, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> Font.prepareGlyphs(font, 'Z', 'A', 1, gray, executor));
+        assertThrows(IllegalArgumentException.class,
+                () -> Font.prepareGlyphs(font, -1, 'A', 1, gray, executor));
+        assertThrows(IllegalArgumentException.class,
+                () -> Font.prepareGlyphs(font, 'A', Character.MAX_CODE_POINT + 1, 1, gray, executor));
+        assertThrows(IllegalArgumentException.class,
+                () -> Font.prepareGlyphs(font, 'A', 'Z', 0, gray, executor));
+        assertThrows(IllegalArgumentException.class,
+                () -> Font.prepareGlyphs(font, 'A', 'Z', Double.NaN, gray, executor));
+    }
+
     @Test
     public void testFontFactory1() {
         Font font = Font.font("Amble", FontWeight.NORMAL,
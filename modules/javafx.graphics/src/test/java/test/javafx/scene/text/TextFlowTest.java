@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,7 +26,11 @@
 package test.javafx.scene.text;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
@@ -41,6 +45,8 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.text.TextFlowHelper;
+import com.sun.javafx.scene.text.TextLayout;
 import com.sun.javafx.tk.Toolkit;
 import test.com.sun.javafx.pgstub.StubToolkit;
 
@@ -260,4 +266,65 @@ public class TextFlowTest {
         checkNear(f.underlineShape(0, 10), -1, 9.6, 122, 3);
         checkNear(f.getUnderlineShape(0, 10), 99, 109.6, 122, 3);
     }
+
+    @Test
+    public void adoptSnapshotLaidOutOnAnotherThread() throws Exception {
+        Text t1 = text("aaaa bbbb ");
+        Text t2 = text("cccc dddd");
+        TextFlow f = new TextFlow(t1, t2);
+        TextLayout layout = TextFlowHelper.getTextLayout(f);
+
+        TextLayout snapshot = layout.createSnapshot(60);
+        Thread thread = new Thread(snapshot::getLines);
+        thread.start();
+        thread.join();
+        assertTrue(layout.adoptSnapshot(snapshot));
+
+        TextFlow expected = new TextFlow(text("aaaa bbbb "), text("cccc dddd"));
+        expected.resize(60, 100);
+        expected.layout();
+        f.resize(60, 100);
+        f.layout();
+        assertSame(snapshot.getLines(), layout.getLines());
+        for (int i = 0; i < 2; i++) {
+            Text text = (Text)f.getChildren().get(i);
+            Text expectedText = (Text)expected.getChildren().get(i);
+            assertEquals(expectedText.getLayoutY(), text.getLayoutY(), EPSILON);
+            assertEquals(expectedText.getBoundsInLocal(), text.getBoundsInLocal());
+        }
+    }
+
+    @Test
+    public void snapshotIsNotAdoptedAfterContentChanged() {
+        Text t = text("aaaa bbbb cccc");
+        TextFlow f = new TextFlow(t);
+        TextLayout layout = TextFlowHelper.getTextLayout(f);
+
+        TextLayout snapshot = layout.createSnapshot(60);
+        snapshot.getLines();
+        t.setText("dddd");
+        layout = TextFlowHelper.getTextLayout(f);
+        assertFalse(layout.adoptSnapshot(snapshot));
+    }
+
+    @Test
+    public void prepareLayout() throws Exception {
+        TextFlow f = new TextFlow(text("aaaa bbbb "), text("cccc dddd"));
+        f.setPadding(new Insets(5));
+        f.resize(300, 100);
+        f.layout();
+        double height = f.prefHeight(60);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertTrue(f.prepareLayout(60, executor).get());
+        } finally {
+            executor.shutdown();
+        }
+        TextLayout layout = TextFlowHelper.getTextLayout(f);
+        f.resize(60, 100);
+        f.layout();
+        assertEquals(height, f.prefHeight(60), EPSILON);
+        assertEquals(height - 10, layout.getBounds().getHeight(), EPSILON);
+    }
 }
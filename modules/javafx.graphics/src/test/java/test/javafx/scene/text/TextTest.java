@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,20 +28,29 @@ package test.javafx.scene.text;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.geometry.VPos;
 import javafx.scene.Scene;
 import javafx.scene.layout.HBox;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import javafx.scene.text.Font;
 import javafx.scene.text.HitInfo;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
+import com.sun.javafx.text.GlyphLayoutCache;
 import com.sun.javafx.tk.Toolkit;
 import test.com.sun.javafx.pgstub.StubToolkit;
 
@@ -559,4 +568,97 @@ public class TextTest {
         t.setLineSpacing(lineSpacing);
         checkNear(t.underlineShape(0, 10), -1, -64.4, 62, 65);
     }
+
+    @Test
+    public void prepareLayout() throws Exception {
+        Text t = new Text("aaaa bbbb cccc");
+        t.setFont(new Font("System", 12.0));
+        Text expected = new Text("aaaa bbbb cccc");
+        expected.setFont(new Font("System", 12.0));
+        expected.setWrappingWidth(60);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertTrue(t.prepareLayout(60, executor).get());
+        } finally {
+            executor.shutdown();
+        }
+        t.setWrappingWidth(60);
+        assertEquals(expected.getLayoutBounds(), t.getLayoutBounds());
+    }
+
+    @Test
+    public void prepareLayoutIsDiscardedWhenTextChanges() throws Exception {
+        Text t = new Text("aaaa bbbb cccc");
+        Executor executor = r -> {
+            t.setText("dddd");
+            r.run();
+        };
+        assertFalse(t.prepareLayout(60, executor).get());
+    }
+
+    @Test
+    public void prepareLayoutNullExecutor() {
+        Text t = new Text("aaaa");
+        assertThrows(NullPointerException.class, () -> t.prepareLayout(60, null));
+    }
+
+    @Test
+    public void repeatedStringsAreShapedOnce() {
+        assumeTrue(GlyphLayoutCache.isEnabled());
+        GlyphLayoutCache.clear();
+        Font font = new Font("System", 12.0);
+        Text t1 = new Text("0.00");
+        t1.setFont(font);
+        Bounds bounds = t1.getLayoutBounds();
+        long misses = GlyphLayoutCache.getMissCount();
+        assertTrue(misses > 0);
+
+        Text t2 = new Text("0.00");
+        t2.setFont(font);
+        assertEquals(bounds, t2.getLayoutBounds());
+        assertEquals(misses, GlyphLayoutCache.getMissCount());
+        assertTrue(GlyphLayoutCache.getHitCount() > 0);
+
+        Text t3 = new Text("0.00");
+        t3.setFont(new Font("System", 14.0));
+        t3.getLayoutBounds();
+        assertTrue(GlyphLayoutCache.getMissCount() > misses);
+    }
+
+    @Test
+    public void justifiedLayoutDoesNotModifyCachedGlyphs() {
+        assumeTrue(GlyphLayoutCache.isEnabled());
+        GlyphLayoutCache.clear();
+        // The Hebrew words are shaped as a complex run, the positions of its
+        // glyphs are modified when the line is justified
+        String text = "\u05d0\u05d1 \u05d2\u05d3 abc def";
+        Font font = new Font("System", 12.0);
+
+        Text unjustified = new Text(text);
+        unjustified.setFont(font);
+        double width = unjustified.getLayoutBounds().getWidth();
+        List<Double> carets = caretPositions(unjustified);
+
+        Text justified = new Text(text);
+        justified.setFont(font);
+        justified.setTextAlignment(TextAlignment.JUSTIFY);
+        justified.getLayoutBounds();
+        justified.setWrappingWidth(width - 1);
+        assertEquals(width - 1, justified.getLayoutBounds().getWidth(), EPSILON);
+        assertTrue(GlyphLayoutCache.getHitCount() > 0);
+
+        Text other = new Text(text);
+        other.setFont(font);
+        assertEquals(width, other.getLayoutBounds().getWidth(), EPSILON);
+        assertEquals(carets, caretPositions(other));
+    }
+
+    private static List<Double> caretPositions(Text text) {
+        List<Double> positions = new ArrayList<>();
+        for (int i = 0; i <= text.getText().length(); i++) {
+            positions.add(((MoveTo)text.caretShape(i, true)[0]).getX());
+        }
+        return positions;
+    }
 }
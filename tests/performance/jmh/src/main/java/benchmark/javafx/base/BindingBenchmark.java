@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package benchmark.javafx.base;
+
+import java.util.concurrent.TimeUnit;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the propagation of a change through Bindings.select and through
+ * the bindings created by ObservableValue.map and ObservableValue.flatMap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingBenchmark {
+
+    /**
+     * A bean with a property, for Bindings.select.
+     */
+    public static class Bean {
+
+        private final ObjectProperty<Object> value = new SimpleObjectProperty<>(this, "value");
+        private final ObjectProperty<Bean> child = new SimpleObjectProperty<>(this, "child");
+
+        public Object getValue() {
+            return value.get();
+        }
+
+        public ObjectProperty<Object> valueProperty() {
+            return value;
+        }
+
+        public Bean getChild() {
+            return child.get();
+        }
+
+        public ObjectProperty<Bean> childProperty() {
+            return child;
+        }
+    }
+
+    // Preallocated values, so that the benchmarks do not measure boxing
+    private static final Object VALUE_1 = new Object();
+    private static final Object VALUE_2 = new Object();
+
+    private Bean root;
+    private Bean child1;
+    private Bean child2;
+    private ObjectBinding<Object> select;
+
+    private ObjectProperty<Object> source;
+    private ObservableValue<String> mapped;
+    private ObjectProperty<Bean> beanSource;
+    private ObservableValue<Object> flatMapped;
+
+    @Setup
+    public void setup() {
+        child1 = new Bean();
+        child1.valueProperty().set(VALUE_1);
+        child2 = new Bean();
+        child2.valueProperty().set(VALUE_2);
+        root = new Bean();
+        root.childProperty().set(child1);
+        select = Bindings.select(new SimpleObjectProperty<>(root), "child", "value");
+
+        source = new SimpleObjectProperty<>(VALUE_1);
+        mapped = source.map(v -> v == VALUE_1 ? "1" : "2");
+        // map and flatMap bindings only observe their source while they are observed
+        mapped.addListener(obs -> {});
+
+        beanSource = new SimpleObjectProperty<>(child1);
+        flatMapped = beanSource.flatMap(Bean::valueProperty);
+        flatMapped.addListener(obs -> {});
+    }
+
+    @Benchmark
+    public Object selectLeafChange() {
+        ObjectProperty<Object> value = child1.valueProperty();
+        value.set(value.get() == VALUE_1 ? VALUE_2 : VALUE_1);
+        return select.get();
+    }
+
+    @Benchmark
+    public Object selectPathChange() {
+        ObjectProperty<Bean> child = root.childProperty();
+        child.set(child.get() == child1 ? child2 : child1);
+        return select.get();
+    }
+
+    @Benchmark
+    public String map() {
+        source.set(source.get() == VALUE_1 ? VALUE_2 : VALUE_1);
+        return mapped.getValue();
+    }
+
+    @Benchmark
+    public Object flatMap() {
+        beanSource.set(beanSource.get() == child1 ? child2 : child1);
+        return flatMapped.getValue();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package benchmark.javafx.base;
+
+import java.util.concurrent.TimeUnit;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the dispatch of a notification to 1, 2, 10 and 100 listeners, by
+ * ExpressionHelper for properties and by ListListenerHelper for lists. Run
+ * with {@code -prof gc} to see the allocation rate of the dispatch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerDispatchBenchmark {
+
+    // Preallocated values, so that the benchmarks do not measure boxing
+    private static final Object VALUE_1 = new Object();
+    private static final Object VALUE_2 = new Object();
+
+    @Param({"1", "2", "10", "100"})
+    private int listenerCount;
+
+    private IntegerProperty invalidationProperty;
+    private ObjectProperty<Object> changeProperty;
+    private ObservableList<Object> list;
+    private int counter;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        invalidationProperty = new SimpleIntegerProperty();
+        changeProperty = new SimpleObjectProperty<>(VALUE_1);
+        list = FXCollections.observableArrayList(VALUE_1);
+        for (int i = 0; i < listenerCount; i++) {
+            // validate the property, so that every set notifies the listeners
+            invalidationProperty.addListener(obs -> blackhole.consume(invalidationProperty.get()));
+            changeProperty.addListener((obs, oldValue, newValue) -> blackhole.consume(newValue));
+            list.addListener((ListChangeListener<Object>) c -> blackhole.consume(c));
+        }
+    }
+
+    @Benchmark
+    public void invalidationListeners() {
+        invalidationProperty.set(++counter);
+    }
+
+    @Benchmark
+    public void changeListeners() {
+        changeProperty.set(changeProperty.get() == VALUE_1 ? VALUE_2 : VALUE_1);
+    }
+
+    @Benchmark
+    public void listChangeListeners() {
+        list.set(0, list.get(0) == VALUE_1 ? VALUE_2 : VALUE_1);
+    }
+}
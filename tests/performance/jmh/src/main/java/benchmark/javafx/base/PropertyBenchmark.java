@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package benchmark.javafx.base;
+
+import java.util.concurrent.TimeUnit;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures getting and setting a SimpleDoubleProperty, and propagating a
+ * value through unidirectional and bidirectional bindings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyBenchmark {
+
+    private DoubleProperty property;
+    private DoubleProperty source;
+    private DoubleProperty bound;
+    private DoubleProperty bidirectional1;
+    private DoubleProperty bidirectional2;
+    private double value;
+
+    @Setup
+    public void setup() {
+        property = new SimpleDoubleProperty(1);
+        source = new SimpleDoubleProperty();
+        bound = new SimpleDoubleProperty();
+        bound.bind(source);
+        bidirectional1 = new SimpleDoubleProperty();
+        bidirectional2 = new SimpleDoubleProperty();
+        bidirectional1.bindBidirectional(bidirectional2);
+    }
+
+    @Benchmark
+    public double get() {
+        return property.get();
+    }
+
+    @Benchmark
+    public void set() {
+        property.set(++value);
+    }
+
+    @Benchmark
+    public double setBound() {
+        source.set(++value);
+        return bound.get();
+    }
+
+    @Benchmark
+    public double bindAndUnbind() {
+        DoubleProperty target = new SimpleDoubleProperty();
+        target.bind(source);
+        double result = target.get();
+        target.unbind();
+        return result;
+    }
+
+    @Benchmark
+    public double setBidirectional() {
+        bidirectional1.set(++value);
+        return bidirectional2.get();
+    }
+}
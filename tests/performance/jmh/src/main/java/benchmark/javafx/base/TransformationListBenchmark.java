@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package benchmark.javafx.base;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.collections.transformation.TreeSortedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures FilteredList, SortedList and TreeSortedList over large sources:
+ * changing the predicate, and adding and removing single elements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TransformationListBenchmark {
+
+    private static final Predicate<Integer> EVEN = i -> (i & 1) == 0;
+    private static final Predicate<Integer> ODD = i -> (i & 1) != 0;
+
+    // Each list has a listener, so that the changes are built and fired in
+    // every benchmark that is compared with another
+    private static final ListChangeListener<Integer> LISTENER = c -> {};
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private ObservableList<Integer> filterSource;
+    private FilteredList<Integer> filtered;
+    private FilteredList<Integer> parallelFiltered;
+
+    private ObservableList<Integer> sortSource;
+    private SortedList<Integer> sorted;
+    private ObservableList<Integer> treeSortSource;
+    private TreeSortedList<Integer> treeSorted;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(random.nextInt());
+        }
+
+        filterSource = FXCollections.observableArrayList(values);
+        filtered = new FilteredList<>(filterSource, EVEN);
+        filtered.addListener(LISTENER);
+        parallelFiltered = new FilteredList<>(filterSource, EVEN);
+        parallelFiltered.setParallel(true);
+        parallelFiltered.addListener(LISTENER);
+
+        sortSource = FXCollections.observableArrayList(values);
+        sorted = new SortedList<>(sortSource, Comparator.naturalOrder());
+        sorted.addListener(LISTENER);
+        treeSortSource = FXCollections.observableArrayList(values);
+        treeSorted = new TreeSortedList<>(treeSortSource, Comparator.naturalOrder());
+        treeSorted.addListener(LISTENER);
+        next = random.nextInt();
+    }
+
+    @Benchmark
+    public int filterPredicateChange() {
+        filtered.setPredicate(filtered.getPredicate() == EVEN ? ODD : EVEN);
+        return filtered.size();
+    }
+
+    @Benchmark
+    public int filterPredicateChangeParallel() {
+        parallelFiltered.setPredicate(parallelFiltered.getPredicate() == EVEN ? ODD : EVEN);
+        return parallelFiltered.size();
+    }
+
+    @Benchmark
+    public int filterAddRemove() {
+        filterSource.add(size / 2, next++);
+        filterSource.remove(size / 2);
+        return filtered.size();
+    }
+
+    @Benchmark
+    public Integer sortedAddRemove() {
+        sortSource.add(size / 2, next++);
+        sortSource.remove(size / 2);
+        return sorted.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer treeSortedAddRemove() {
+        treeSortSource.add(size / 2, next++);
+        treeSortSource.remove(size / 2);
+        return treeSorted.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer sortedGet() {
+        return sorted.get(Math.floorMod(next++, size));
+    }
+
+    @Benchmark
+    public Integer treeSortedGet() {
+        return treeSorted.get(Math.floorMod(next++, size));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import test.util.Util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the image of a Canvas that is made of several layers.
+ */
+public class CanvasLayerSnapshotTest extends SnapshotCommon {
+
+    static final int SIZE = 40;
+    static final int RED = 0xffff0000;
+    static final int GREEN = 0xff00ff00;
+    static final int BLUE = 0xff0000ff;
+
+    private Canvas canvas;
+    private GraphicsContext gc;
+
+    @BeforeAll
+    public static void setupOnce() {
+        doSetupOnce();
+    }
+
+    @AfterAll
+    public static void teardownOnce() {
+        doTeardownOnce();
+    }
+
+    @BeforeEach
+    public void setupEach() {
+        assertNotNull(myApp);
+        assertNotNull(myApp.primaryStage);
+        assertTrue(myApp.primaryStage.isShowing());
+        Util.runAndWait(() -> {
+            canvas = new Canvas(SIZE, SIZE);
+            gc = canvas.getGraphicsContext2D();
+            gc.setFill(Color.RED);
+            gc.fillRect(0, 0, SIZE, SIZE);
+        });
+    }
+
+    private void assertPixels(int left, int right) {
+        WritableImage img = canvas.snapshot(null, null);
+        PixelReader reader = img.getPixelReader();
+        assertEquals(left, reader.getArgb(SIZE / 4, SIZE / 2));
+        assertEquals(right, reader.getArgb(SIZE * 3 / 4, SIZE / 2));
+    }
+
+    @Test
+    public void testLayersAreComposited() {
+        Util.runAndWait(() -> {
+            gc.setLayer(1);
+            gc.setFill(Color.BLUE);
+            gc.fillRect(0, 0, SIZE / 2, SIZE);
+            assertPixels(BLUE, RED);
+        });
+    }
+
+    @Test
+    public void testClearedLayerKeepsTheOtherLayers() {
+        Util.runAndWait(() -> {
+            gc.setLayer(1);
+            gc.setFill(Color.BLUE);
+            for (int i = 0; i < 200; i++) {
+                gc.fillRect(0, 0, SIZE / 2, SIZE);
+            }
+            assertPixels(BLUE, RED);
+
+            gc.clearRect(0, 0, SIZE, SIZE);
+            gc.fillRect(SIZE / 2, 0, SIZE / 2, SIZE);
+            assertPixels(RED, BLUE);
+        });
+    }
+
+    @Test
+    public void testCoveringFillKeepsTheOtherLayers() {
+        Util.runAndWait(() -> {
+            gc.setLayer(1);
+            gc.setFill(Color.BLUE);
+            for (int i = 0; i < 200; i++) {
+                gc.fillRect(0, 0, SIZE / 2, SIZE);
+            }
+            gc.setLayer(0);
+            gc.setFill(Color.GREEN);
+            gc.fillRect(0, 0, SIZE, SIZE);
+            assertPixels(BLUE, GREEN);
+        });
+    }
+
+    @Test
+    public void testAttributesAreKeptAcrossLayers() {
+        Util.runAndWait(() -> {
+            gc.setFill(Color.BLUE);
+            gc.setLayer(1);
+            gc.setFill(Color.GREEN);
+            gc.fillRect(0, 0, SIZE / 2, SIZE);
+            assertPixels(GREEN, RED);
+
+            gc.setLayer(0);
+            gc.fillRect(SIZE / 2, 0, SIZE / 2, SIZE);
+            assertPixels(GREEN, GREEN);
+        });
+    }
+
+    @Test
+    public void testReleasedLayerIsNotComposited() {
+        Util.runAndWait(() -> {
+            gc.setLayer(1);
+            gc.setFill(Color.BLUE);
+            gc.fillRect(0, 0, SIZE, SIZE);
+            assertPixels(BLUE, BLUE);
+
+            gc.releaseLayer(1);
+            assertPixels(RED, RED);
+
+            // The layer is created again, fully transparent
+            gc.fillRect(SIZE / 2, 0, SIZE / 2, SIZE);
+            assertPixels(RED, BLUE);
+        });
+    }
+
+    @Test
+    public void testReleasedBaseLayerIsCleared() {
+        Util.runAndWait(() -> {
+            gc.setLayer(1);
+            gc.setFill(Color.BLUE);
+            gc.fillRect(0, 0, SIZE / 2, SIZE);
+            gc.releaseLayer(0);
+            WritableImage img = canvas.snapshot(null, null);
+            PixelReader reader = img.getPixelReader();
+            assertEquals(BLUE, reader.getArgb(SIZE / 4, SIZE / 2));
+            // The default fill of a snapshot shows through the cleared layer
+            assertEquals(0xffffffff, reader.getArgb(SIZE * 3 / 4, SIZE / 2));
+        });
+    }
+
+    @Test
+    public void testRecordingIntoLayers() {
+        Util.runAndWait(() -> {
+            GraphicsContext rec = canvas.createRecordingContext();
+            rec.setLayer(1);
+            rec.setFill(Color.BLUE);
+            rec.fillRect(0, 0, SIZE / 2, SIZE);
+            canvas.submitRecording(rec);
+            assertPixels(BLUE, RED);
+
+            rec.releaseLayer(1);
+            rec.fillRect(SIZE / 2, 0, SIZE / 2, SIZE);
+            canvas.submitRecording(rec);
+            assertPixels(RED, BLUE);
+        });
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -51,6 +51,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import test.util.Util;
 
 /**
@@ -764,4 +765,26 @@ public final class Snapshot2Test extends SnapshotCommon {
 
         runDeferredSnapshotWait(tmpScene.getRoot(), cb, snapshotParams, img, runAfter);
     }
+
+    // Test taking several snapshots of a viewport into the same image.
+    // Verify that the pixels of the image are updated every time
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testSnapshotReuseImageNodeImm(boolean live) {
+        setupEach(live, true);
+        setupSimpleScene(live);
+        final SnapshotParameters snapshotParams = new SnapshotParameters();
+        snapshotParams.setViewport(new Rectangle2D(20, 10, 10, 10));
+        final WritableImage img = new WritableImage(10, 10);
+        Util.runAndWait(() -> {
+            Rectangle rect = (Rectangle)tmpNode;
+            for (Color color : new Color[] { Color.RED, Color.BLUE, Color.RED }) {
+                rect.setFill(color);
+                WritableImage wimg = tmpNode.snapshot(snapshotParams, img);
+                assertSame(img, wimg);
+                assertEquals(color, wimg.getPixelReader().getColor(5, 5));
+            }
+        });
+    }
 }